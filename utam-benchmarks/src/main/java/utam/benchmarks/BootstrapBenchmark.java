@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.benchmarks.simulator.SimulatedSite;
+import utam.core.driver.DriverContext;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.ElementMarker;
+import utam.core.framework.base.PageObjectsFactory;
+import utam.core.framework.base.PageObjectsFactoryImpl;
+import utam.core.framework.consumer.PageObjectContextImpl;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * bootstrap of the page object with elements declared by annotations compared to the page object
+ * with generated bootstrap method
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BootstrapBenchmark {
+
+  private PageObjectsFactory factory;
+  private ElementLocation root;
+
+  @Setup
+  public void setup() {
+    factory = new PageObjectsFactoryImpl(new PageObjectContextImpl(new HashMap<>()),
+        DriverContext.TEST, new SimulatedSite(0, 0).getDriver());
+    root = new ElementLocationChain(LocatorBy.byCss(SimulatedSite.ROOT), Type.EXISTING);
+  }
+
+  @Benchmark
+  public AnnotatedPage bootstrapAnnotated() {
+    AnnotatedPage page = new AnnotatedPage();
+    factory.bootstrap(page, root);
+    return page;
+  }
+
+  @Benchmark
+  public GeneratedPage bootstrapGenerated() {
+    GeneratedPage page = new GeneratedPage();
+    factory.bootstrap(page, root);
+    return page;
+  }
+
+  public static class AnnotatedPage extends BasePageObject {
+
+    @ElementMarker.Find(css = ".container")
+    ElementLocation container;
+
+    @ElementMarker.Find(css = ".item", scope = "container", expand = true)
+    ElementLocation items;
+
+    @ElementMarker.Find(css = ".item:first-child", scope = "container")
+    ElementLocation first;
+
+    @ElementMarker.Find(css = ".item:last-child", scope = "container", nullable = true)
+    ElementLocation last;
+
+    @ElementMarker.Find(css = ".level")
+    ElementLocation level;
+
+    @ElementMarker.Find(css = ".level", scope = "level")
+    ElementLocation nested;
+
+    @ElementMarker.Find(css = "a[title='%s']")
+    ElementLocation link;
+
+    @ElementMarker.Find(css = "button.save")
+    ElementLocation save;
+
+    @ElementMarker.Find(css = "button.cancel")
+    ElementLocation cancel;
+
+    @ElementMarker.Find(css = "input[name='%s']", nullable = true)
+    ElementLocation input;
+  }
+
+  // same elements as annotated page, bootstrap method is what compiler generates
+  public static class GeneratedPage extends AnnotatedPage {
+
+    @Override
+    protected final boolean bootstrap(ElementLocation root) {
+      this.container = root.scope(LocatorBy.byCss(".container"), Type.EXISTING);
+      this.items = this.container.scope(LocatorBy.byCss(".item"), Type.EXISTING_IN_SHADOW);
+      this.first = this.container.scope(LocatorBy.byCss(".item:first-child"), Type.EXISTING);
+      this.last = this.container.scope(LocatorBy.byCss(".item:last-child"), Type.NULLABLE);
+      this.level = root.scope(LocatorBy.byCss(".level"), Type.EXISTING);
+      this.nested = this.level.scope(LocatorBy.byCss(".level"), Type.EXISTING);
+      this.link = root.scope(LocatorBy.byCss("a[title='%s']"), Type.EXISTING);
+      this.save = root.scope(LocatorBy.byCss("button.save"), Type.EXISTING);
+      this.cancel = root.scope(LocatorBy.byCss("button.cancel"), Type.EXISTING);
+      this.input = root.scope(LocatorBy.byCss("input[name='%s']"), Type.NULLABLE);
+      return true;
+    }
+  }
+}
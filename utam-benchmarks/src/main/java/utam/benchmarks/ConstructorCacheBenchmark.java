@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.core.framework.base.ConstructorCache;
+import utam.core.framework.element.BasePageElement;
+
+/**
+ * instance creation with cached constructor compared to reflection lookup on every call and to
+ * direct constructor call
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstructorCacheBenchmark {
+
+  @Benchmark
+  public BasePageElement constructorCache() throws ReflectiveOperationException {
+    return ConstructorCache.newInstance(BasePageElement.class);
+  }
+
+  @Benchmark
+  public BasePageElement reflection() throws ReflectiveOperationException {
+    return BasePageElement.class.getDeclaredConstructor().newInstance();
+  }
+
+  @Benchmark
+  public BasePageElement direct() {
+    return new BasePageElement();
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.benchmarks.simulator.SimulatedLatency;
+import utam.benchmarks.simulator.SimulatedSite;
+import utam.core.driver.DriverContext;
+import utam.core.driver.DriverTimeouts;
+import utam.core.element.BasicElement;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.ElementFilter;
+import utam.core.framework.base.ElementMarker;
+import utam.core.framework.base.PageObjectsFactory;
+import utam.core.framework.base.PageObjectsFactoryImpl;
+import utam.core.framework.consumer.PageObjectContextImpl;
+import utam.core.framework.element.BasePageElement;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * list of elements built from page object: all elements and elements filtered by text, filter is
+ * applied to every element in Java or with a single script when script filters are enabled
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementListBenchmark {
+
+  private static final int ITEMS_COUNT = 50;
+
+  @Param({"false", "true"})
+  public boolean scriptFilters;
+
+  @Param({"0", "50"})
+  public long latencyMicros;
+
+  private ListPage page;
+
+  @Setup
+  public void setup() {
+    SimulatedLatency.setLatencyMicros(latencyMicros);
+    DriverContext driverContext = new DriverContext(DriverTimeouts.TEST, "",
+        new DriverContext.Options().setScriptFilters(scriptFilters));
+    PageObjectsFactory factory = new PageObjectsFactoryImpl(
+        new PageObjectContextImpl(new HashMap<>()), driverContext,
+        new SimulatedSite(ITEMS_COUNT, 0).getDriver());
+    page = new ListPage();
+    factory.bootstrap(page,
+        new ElementLocationChain(LocatorBy.byCss(SimulatedSite.ROOT), Type.EXISTING));
+  }
+
+  @Benchmark
+  public List<BasicElement> buildList() {
+    return page.getItems();
+  }
+
+  @Benchmark
+  public List<BasicElement> buildFilteredList() {
+    return page.getItemsWithText(SimulatedSite.getItemText(ITEMS_COUNT - 1));
+  }
+
+  public static class ListPage extends BasePageObject {
+
+    @ElementMarker.Find(css = SimulatedSite.CONTAINER)
+    ElementLocation container;
+
+    @ElementMarker.Find(css = SimulatedSite.ITEM, scope = "container")
+    ElementLocation items;
+
+    List<BasicElement> getItems() {
+      return element(this.items).buildList(BasicElement.class, BasePageElement.class);
+    }
+
+    List<BasicElement> getItemsWithText(String text) {
+      return element(this.items).buildList(BasicElement.class, BasePageElement.class,
+          elm -> elm.getText().contains(text),
+          new ElementFilter("getText", "stringContains", text));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.benchmarks.simulator.SimulatedLatency;
+import utam.benchmarks.simulator.SimulatedSite;
+import utam.core.driver.Driver;
+import utam.core.element.Element;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * scope, find and parameters of the element location chain of the given depth
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementLocationBenchmark {
+
+  @Param({"1", "5", "10"})
+  public int depth;
+
+  @Param({"0", "50"})
+  public long latencyMicros;
+
+  private Driver driver;
+  private ElementLocation root;
+  private ElementLocation parent;
+  private ElementLocation location;
+  private ElementLocation parameterized;
+
+  @Setup
+  public void setup() {
+    SimulatedLatency.setLatencyMicros(latencyMicros);
+    driver = new SimulatedSite(0, depth).getDriver();
+    root = new ElementLocationChain(LocatorBy.byCss(SimulatedSite.ROOT), Type.EXISTING);
+    parent = root;
+    for (int i = 1; i < depth; i++) {
+      parent = parent.scope(LocatorBy.byCss(SimulatedSite.LEVEL), Type.EXISTING);
+    }
+    location = parent.scope(LocatorBy.byCss(SimulatedSite.LEVEL), Type.EXISTING);
+    parameterized = parent.scope(LocatorBy.byCss(".level[data-index='%d']"), Type.EXISTING);
+  }
+
+  @Benchmark
+  public ElementLocation scope() {
+    return parent.scope(LocatorBy.byCss(SimulatedSite.LEVEL), Type.EXISTING);
+  }
+
+  @Benchmark
+  public Element findElement() {
+    return location.findElement(driver);
+  }
+
+  @Benchmark
+  public ElementLocation setParameters() {
+    return parameterized.setParameters(depth);
+  }
+
+  @Benchmark
+  public String getLocatorChainString() {
+    return location.getLocatorChainString();
+  }
+}
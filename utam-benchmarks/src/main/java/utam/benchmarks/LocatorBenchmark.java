@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * parameters of the locator: same values that reuse materialized locator, values that change on
+ * every call and creation of the locator from the selector string
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LocatorBenchmark {
+
+  private static final String SELECTOR = "a[title='%s'] b:nth-of-type(%d)";
+
+  private LocatorBy locator;
+  private int counter;
+
+  @Setup
+  public void setup() {
+    locator = LocatorBy.byCss(SELECTOR);
+  }
+
+  @Benchmark
+  public Object setSameParameters() {
+    return locator.setParameters(0, "title", 1);
+  }
+
+  @Benchmark
+  public Object setChangingParameters() {
+    return locator.setParameters(0, "title", counter++);
+  }
+
+  @Benchmark
+  public LocatorBy create() {
+    return LocatorBy.byCss(SELECTOR);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.PageObject;
+import utam.core.framework.consumer.PageObjectContext;
+import utam.core.framework.consumer.PageObjectContextImpl;
+
+/**
+ * page object instance from context, by configured interface and by implementation class
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PageObjectContextBenchmark {
+
+  private PageObjectContext context;
+
+  @Setup
+  public void setup() {
+    Map<Class<? extends PageObject>, Class> beans = new HashMap<>();
+    beans.put(ConfiguredPage.class, ConfiguredPageImpl.class);
+    context = new PageObjectContextImpl(beans);
+  }
+
+  @Benchmark
+  public PageObject getConfiguredBean() {
+    return context.getBean(ConfiguredPage.class);
+  }
+
+  @Benchmark
+  public PageObject getImplementationBean() {
+    return context.getBean(ConfiguredPageImpl.class);
+  }
+
+  public interface ConfiguredPage extends PageObject {
+
+  }
+
+  public static class ConfiguredPageImpl extends BasePageObject implements ConfiguredPage {
+
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.benchmarks.simulator.SimulatedLatency;
+import utam.benchmarks.simulator.SimulatedSite;
+import utam.core.driver.Driver;
+import utam.core.driver.Expectations;
+import utam.core.element.Element;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.framework.element.ExpectationsImpl;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * overhead of the wait that succeeds on first poll, with and without finding element inside
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WaitBenchmark {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(1);
+  private static final Duration POLLING_INTERVAL = Duration.ofMillis(10);
+
+  @Param({"0", "50"})
+  public long latencyMicros;
+
+  private Driver driver;
+  private Expectations<Boolean> immediate;
+  private Expectations<Element> find;
+
+  @Setup
+  public void setup() {
+    SimulatedLatency.setLatencyMicros(latencyMicros);
+    driver = new SimulatedSite(0, 1).getDriver();
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss(SimulatedSite.ROOT),
+        Type.EXISTING).scope(LocatorBy.byCss(SimulatedSite.LEVEL), Type.EXISTING);
+    immediate = new ExpectationsImpl<>("immediate", (Driver d) -> true);
+    find = new ExpectationsImpl<>("find element", (Driver d) -> location.findElement(d));
+  }
+
+  @Benchmark
+  public Boolean waitImmediate() {
+    return driver.waitFor(TIMEOUT, POLLING_INTERVAL, immediate);
+  }
+
+  @Benchmark
+  public Element waitForElement() {
+    return driver.waitFor(TIMEOUT, POLLING_INTERVAL, find);
+  }
+}
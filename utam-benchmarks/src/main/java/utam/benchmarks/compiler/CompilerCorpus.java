@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import static utam.compiler.translator.DefaultTranslatorConfiguration.getScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.log4j.Level;
+import utam.compiler.translator.DefaultSourceConfiguration;
+import utam.compiler.translator.DefaultSourceConfiguration.ScannerConfig;
+import utam.compiler.translator.DefaultTargetConfiguration;
+import utam.compiler.translator.DefaultTranslatorConfiguration;
+import utam.compiler.translator.StringValueProfileConfig;
+import utam.core.declarative.translator.GuardrailsMode;
+import utam.core.declarative.translator.ProfileConfiguration;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+import utam.core.framework.UtamLogger;
+
+/**
+ * generated corpus with translator configurations to compile it from memory and from files in
+ * temporary folder
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+class CompilerCorpus {
+
+  private static final String MODULE_NAME = "benchmarks";
+  private final Map<String, String> declarations;
+  private final Path root;
+
+  CompilerCorpus(int count) throws IOException {
+    // compiler logs every page object, this would measure logging
+    UtamLogger.UTAM_LOGGER.setLevel(Level.WARN);
+    CorpusGenerator generator = new CorpusGenerator(count);
+    this.declarations = generator.generate();
+    this.root = Files.createTempDirectory("utam-corpus");
+    generator.write(getSourceFolder());
+    Files.createDirectories(getResourcesFolder().toPath());
+  }
+
+  private static List<ProfileConfiguration> getProfiles() {
+    return Collections.singletonList(new StringValueProfileConfig(CorpusGenerator.PROFILE_NAME,
+        CorpusGenerator.PROFILE_VALUES));
+  }
+
+  private File getSourceFolder() {
+    return root.resolve("json").toFile();
+  }
+
+  private File getResourcesFolder() {
+    return root.resolve("resources").toFile();
+  }
+
+  int size() {
+    return declarations.size();
+  }
+
+  /**
+   * configuration that reads declarations from memory and can't write output
+   *
+   * @return translator configuration
+   */
+  TranslatorConfig getInMemoryConfig() {
+    return new DefaultTranslatorConfiguration(MODULE_NAME, GuardrailsMode.ERROR,
+        new InMemorySourceConfig(declarations), new DefaultTargetConfiguration("", ""),
+        getProfiles());
+  }
+
+  /**
+   * configuration that scans generated files and writes classes, unit tests and profiles to
+   * temporary folder
+   *
+   * @return translator configuration
+   */
+  TranslatorConfig getFilesConfig() {
+    ScannerConfig scannerConfig = new ScannerConfig(
+        Collections.singletonMap(CorpusGenerator.PACKAGE_NAME, getSourceFolder().getPath()));
+    String target = root.resolve("java").toString();
+    return new DefaultTranslatorConfiguration(MODULE_NAME, GuardrailsMode.ERROR,
+        new DefaultSourceConfiguration(scannerConfig, getScanner(getSourceFolder(), null)),
+        new DefaultTargetConfiguration(target, getResourcesFolder().getPath(),
+            UnitTestRunner.JUNIT, root.resolve("test").toString()),
+        getProfiles());
+  }
+
+  void delete() throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.compiler.translator.DefaultTranslatorRunner;
+import utam.core.declarative.translator.TranslatorConfig;
+
+/**
+ * end-to-end compilation of the generated corpus as command line does it: scan source folder,
+ * compile and validate all page objects, write classes, unit tests and profiles to files <br> 10k
+ * corpus is run with "-p pageObjects=10000"
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CompilerRunBenchmark {
+
+  // number of page objects written by limited run
+  private static final int LIMITED_COUNT = 10;
+
+  @Param({"10", "1000"})
+  public int pageObjects;
+
+  private CompilerCorpus corpus;
+
+  @Setup
+  public void setup() throws IOException {
+    corpus = new CompilerCorpus(pageObjects);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    corpus.delete();
+  }
+
+  private DefaultTranslatorRunner runAndWrite(int maxToGenerate) throws IOException {
+    TranslatorConfig config = corpus.getFilesConfig();
+    LimitedRunner runner = new LimitedRunner(config, maxToGenerate);
+    runner.run();
+    runner.write();
+    runner.writeDependenciesConfigs();
+    return runner;
+  }
+
+  @Benchmark
+  public DefaultTranslatorRunner runAndWrite() throws IOException {
+    return runAndWrite(Integer.MAX_VALUE);
+  }
+
+  /**
+   * compiles only first page objects, cost of scanning and compiler setup that does not depend on
+   * what is generated
+   *
+   * @return runner
+   * @throws IOException if files can't be written
+   */
+  @Benchmark
+  public DefaultTranslatorRunner runAndWriteLimited() throws IOException {
+    return runAndWrite(LIMITED_COUNT);
+  }
+
+  // runner with limit of page objects to generate for performance measurements
+  static class LimitedRunner extends DefaultTranslatorRunner {
+
+    LimitedRunner(TranslatorConfig translatorConfig, int maxToGenerate) {
+      super(translatorConfig);
+      setMaxToGenerate(maxToGenerate);
+    }
+  }
+}
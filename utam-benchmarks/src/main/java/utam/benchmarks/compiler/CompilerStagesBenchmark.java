@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import utam.compiler.grammar.JsonDeserializer;
+import utam.core.declarative.representation.PageObjectDeclaration;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.declarative.translator.UnitTestRunner;
+
+/**
+ * compiler stages over the whole generated corpus, one operation processes every declaration:
+ * parsing with compilation of the declaration (includes validation of the page object, same as
+ * compiler does), page object guardrails alone, and code generation of interfaces, classes and
+ * unit tests <br> corpus of 10k page objects is not in default parameters to keep full run short, it
+ * can be run with "-p pageObjects=10000"
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CompilerStagesBenchmark {
+
+  @Param({"10", "1000"})
+  public int pageObjects;
+
+  private CompilerCorpus corpus;
+  private TranslatorConfig config;
+  private final List<JsonDeserializer> compiled = new ArrayList<>();
+
+  @Setup
+  public void setup() throws IOException {
+    corpus = new CompilerCorpus(pageObjects);
+    config = corpus.getInMemoryConfig();
+    for (String pageObjectURI : config.getConfiguredSource().getPageObjects()) {
+      compiled.add(new JsonDeserializer(config, config.getConfiguredSource(), pageObjectURI));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    corpus.delete();
+  }
+
+  @Benchmark
+  public void parseAndCompile(Blackhole blackhole) {
+    for (String pageObjectURI : config.getConfiguredSource().getPageObjects()) {
+      blackhole.consume(
+          new JsonDeserializer(config, config.getConfiguredSource(), pageObjectURI).getObject());
+    }
+  }
+
+  @Benchmark
+  public void pageObjectValidation() {
+    for (JsonDeserializer deserializer : compiled) {
+      deserializer.getPageObjectContext().guardrailsValidation();
+    }
+  }
+
+  @Benchmark
+  public void interfaceSerializer(Blackhole blackhole) {
+    for (JsonDeserializer deserializer : compiled) {
+      blackhole.consume(deserializer.getObject().getInterface().getApiCode());
+    }
+  }
+
+  @Benchmark
+  public void classSerializer(Blackhole blackhole) {
+    for (JsonDeserializer deserializer : compiled) {
+      PageObjectDeclaration declaration = deserializer.getObject();
+      if (!declaration.isInterfaceOnly()) {
+        blackhole.consume(declaration.getImplementation().getImplCode());
+      }
+    }
+  }
+
+  @Benchmark
+  public void unitTestSerializer(Blackhole blackhole) {
+    for (JsonDeserializer deserializer : compiled) {
+      PageObjectDeclaration declaration = deserializer.getObject();
+      if (!declaration.isInterfaceOnly()) {
+        blackhole.consume(
+            declaration.getImplementation().getGeneratedUnitTestCode(UnitTestRunner.JUNIT));
+      }
+    }
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * generates synthetic corpus of page object JSON declarations for compiler benchmarks <br> every
+ * block of ten declarations has seven root pages, an interface and its implementations for two
+ * values of "platform" profile; pages have nested elements, shadow roots, custom elements that
+ * reference other pages and components, parameterized selectors and compose methods. Output for
+ * the same count is always the same, selectors are unique across corpus so that guardrails do not
+ * report violations
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class CorpusGenerator {
+
+  public static final String PACKAGE_NAME = "corpus";
+  public static final String PROFILE_NAME = "platform";
+  public static final String[] PROFILE_VALUES = {"ios", "android"};
+  public static final String FILE_EXTENSION = ".utam.json";
+  private static final int BLOCK_SIZE = 10;
+  // declarations are split into folders of this size, similar to components areas
+  private static final int AREA_SIZE = 100;
+  private static final int MAX_DEPTH = 3;
+  private static final int MAX_CHILDREN = 3;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final int count;
+
+  /**
+   * @param count number of page object declarations to generate
+   */
+  public CorpusGenerator(int count) {
+    this.count = count;
+  }
+
+  private static String getArea(int index) {
+    return "area" + index / AREA_SIZE;
+  }
+
+  private static String getPageName(int index) {
+    switch (index % BLOCK_SIZE) {
+      case 7:
+        return "component" + index;
+      case 8:
+        return "component" + (index - 1) + "Ios";
+      case 9:
+        return "component" + (index - 2) + "Android";
+      default:
+        return "page" + index;
+    }
+  }
+
+  /**
+   * relative path of the declaration without extension, ex. "area0/page1"
+   *
+   * @param index index of declaration
+   * @return relative path
+   */
+  static String getRelativePath(int index) {
+    return getArea(index) + "/" + getPageName(index);
+  }
+
+  /**
+   * page object URI of the declaration, same as compiler gets from file path
+   *
+   * @param relativePath relative path of the declaration
+   * @return page object URI
+   */
+  public static String getPageObjectURI(String relativePath) {
+    return PACKAGE_NAME + "/pageObjects/" + relativePath;
+  }
+
+  /**
+   * generate declarations in memory
+   *
+   * @return map of relative path to JSON string, in order of index
+   */
+  public Map<String, String> generate() {
+    Map<String, String> corpus = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      ObjectNode declaration;
+      switch (i % BLOCK_SIZE) {
+        case 7:
+          declaration = getInterface();
+          break;
+        case 8:
+          declaration = getImplementation(i - 1, i, PROFILE_VALUES[0]);
+          break;
+        case 9:
+          declaration = getImplementation(i - 2, i, PROFILE_VALUES[1]);
+          break;
+        default:
+          declaration = new PageBuilder(i).build();
+      }
+      try {
+        corpus.put(getRelativePath(i),
+            mapper.writerWithDefaultPrettyPrinter().writeValueAsString(declaration));
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return corpus;
+  }
+
+  /**
+   * write declarations to the folder, existing files are overwritten
+   *
+   * @param root root folder for declarations
+   * @throws IOException if file can't be written
+   */
+  public void write(File root) throws IOException {
+    for (Map.Entry<String, String> entry : generate().entrySet()) {
+      File file = new File(root, entry.getKey() + FILE_EXTENSION);
+      Files.createDirectories(file.getParentFile().toPath());
+      Files.write(file.toPath(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * generate corpus from the command line
+   *
+   * @param args output folder and number of declarations
+   * @throws IOException if file can't be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("usage: CorpusGenerator <output folder> <number of page objects>");
+      System.exit(1);
+    }
+    new CorpusGenerator(Integer.parseInt(args[1])).write(new File(args[0]));
+  }
+
+  private ObjectNode getInterface() {
+    ObjectNode declaration = mapper.createObjectNode();
+    declaration.put("interface", true);
+    ArrayNode methods = declaration.putArray("methods");
+    methods.addObject().put("name", "getLabel").put("return", "string");
+    methods.addObject().put("name", "open");
+    return declaration;
+  }
+
+  private ObjectNode getImplementation(int interfaceIndex, int index, String profileValue) {
+    ObjectNode declaration = mapper.createObjectNode();
+    declaration.put("implements", getPageObjectURI(getRelativePath(interfaceIndex)));
+    declaration.putArray("profile").addObject().put(PROFILE_NAME, profileValue);
+    declaration.put("root", true);
+    declaration.putObject("selector").put("css", String.format("component-%d", index));
+    ArrayNode elements = declaration.putObject("shadow").putArray("elements");
+    addSelector(elements.addObject().put("name", "label"), String.format(".c%d-label", index));
+    ObjectNode button = elements.addObject().put("name", "button");
+    button.putArray("type").add("clickable");
+    addSelector(button, String.format(".c%d-button", index));
+    ArrayNode methods = declaration.putArray("methods");
+    addCompose(methods.addObject().put("name", "getLabel").put("return", "string"), "label",
+        "getText");
+    addCompose(methods.addObject().put("name", "open"), "button", "click");
+    return declaration;
+  }
+
+  private static ObjectNode addSelector(ObjectNode element, String css) {
+    return element.putObject("selector").put("css", css);
+  }
+
+  private static ObjectNode addCompose(ObjectNode method, String element, String apply) {
+    return method.putArray("compose").addObject().put("element", element).put("apply", apply);
+  }
+
+  // builds one root page, random is seeded with index so output is reproducible
+  private final class PageBuilder {
+
+    private final int index;
+    private final Random random;
+    private final List<String> clickable = new ArrayList<>();
+    private final List<String> editable = new ArrayList<>();
+    private final List<String> basic = new ArrayList<>();
+    private final List<String> custom = new ArrayList<>();
+    private int elementsCounter;
+
+    PageBuilder(int index) {
+      this.index = index;
+      this.random = new Random(index);
+    }
+
+    ObjectNode build() {
+      ObjectNode declaration = mapper.createObjectNode();
+      declaration.put("root", true);
+      declaration.putObject("selector").put("css", String.format("page-%d", index));
+      declaration.put("exposeRootElement", index % 2 == 0);
+      addElements(declaration.putArray("elements"), 1);
+      addElements(declaration.putObject("shadow").putArray("elements"), 1);
+      addCustomElements(declaration.withArray("elements"));
+      addMethods(declaration.putArray("methods"));
+      return declaration;
+    }
+
+    private void addElements(ArrayNode elements, int depth) {
+      int size = 1 + random.nextInt(MAX_CHILDREN);
+      for (int i = 0; i < size; i++) {
+        String name = "element" + elementsCounter++;
+        ObjectNode element = elements.addObject().put("name", name);
+        String css = String.format(".p%d-%s", index, name);
+        int kind = random.nextInt(4);
+        if (kind == 0 && depth > 1) {
+          // parameterized selector, such elements are not used in compose and have no children
+          // because nested elements inherit selector parameters
+          addSelector(element, css + "[title='%s']")
+              .putArray("args").addObject().put("name", name + "Title").put("type", "string");
+          element.put("public", true);
+          continue;
+        } else if (kind == 1) {
+          element.putArray("type").add("clickable");
+          addSelector(element, css);
+          clickable.add(name);
+        } else if (kind == 2) {
+          element.putArray("type").add("editable");
+          addSelector(element, css);
+          editable.add(name);
+        } else {
+          addSelector(element, css);
+          element.put("public", random.nextBoolean());
+          basic.add(name);
+        }
+        if (depth < MAX_DEPTH && random.nextInt(3) > 0) {
+          if (random.nextBoolean()) {
+            addElements(element.putObject("shadow").putArray("elements"), depth + 1);
+          } else {
+            addElements(element.putArray("elements"), depth + 1);
+          }
+        }
+      }
+    }
+
+    // references previous page and component of the same block
+    private void addCustomElements(ArrayNode elements) {
+      int block = index - index % BLOCK_SIZE;
+      if (index > block) {
+        addCustomElement(elements, block + random.nextInt(index - block));
+      }
+      if (block + 7 < count) {
+        addCustomElement(elements, block + 7);
+      }
+    }
+
+    private void addCustomElement(ArrayNode elements, int referenceIndex) {
+      String name = "custom" + elementsCounter++;
+      ObjectNode element = elements.addObject().put("name", name);
+      element.put("type", getPageObjectURI(getRelativePath(referenceIndex)));
+      addSelector(element, String.format(".p%d-%s", index, name));
+      element.put("public", true);
+      element.put("nullable", random.nextBoolean());
+      custom.add(name);
+    }
+
+    private String capitalize(String name) {
+      return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private void addMethods(ArrayNode methods) {
+      for (String name : clickable) {
+        addCompose(methods.addObject().put("name", "click" + capitalize(name)), name, "click");
+      }
+      for (String name : basic) {
+        addCompose(methods.addObject().put("name", "get" + capitalize(name) + "Text")
+            .put("return", "string"), name, "getText");
+      }
+      for (String name : custom) {
+        addCompose(methods.addObject().put("name", "is" + capitalize(name) + "Present")
+            .put("return", "boolean"), name, "isPresent");
+      }
+      if (!editable.isEmpty()) {
+        // one method with statement for every editable element
+        ObjectNode method = methods.addObject().put("name", "fillForm");
+        ArrayNode statements = method.putArray("compose");
+        for (String name : editable) {
+          ObjectNode statement = statements.addObject().put("element", name)
+              .put("apply", "setText");
+          statement.putArray("args").addObject().put("name", name + "Value")
+              .put("type", "string");
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utam.compiler.grammar.JsonDeserializer;
+import utam.compiler.guardrails.GlobalValidation;
+import utam.core.declarative.translator.TranslatorConfig;
+
+/**
+ * guardrails across all page objects of the generated corpus <br> validation compares every pair
+ * of elements, so 10k corpus is not in default parameters, it can be run with "-p
+ * pageObjects=10000"
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GlobalValidationBenchmark {
+
+  @Param({"10", "1000"})
+  public int pageObjects;
+
+  private CompilerCorpus corpus;
+  private TranslatorConfig config;
+  private final List<JsonDeserializer> compiled = new ArrayList<>();
+
+  @Setup
+  public void setup() throws IOException {
+    corpus = new CompilerCorpus(pageObjects);
+    config = corpus.getInMemoryConfig();
+    for (String pageObjectURI : config.getConfiguredSource().getPageObjects()) {
+      compiled.add(new JsonDeserializer(config, config.getConfiguredSource(), pageObjectURI));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    corpus.delete();
+  }
+
+  @Benchmark
+  public GlobalValidation validate() {
+    GlobalValidation validation = new GlobalValidation(config.getValidationMode());
+    for (JsonDeserializer deserializer : compiled) {
+      deserializer.getPageObjectContext().setGlobalGuardrailsContext(validation);
+    }
+    validation.validate();
+    return validation;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.compiler;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import utam.core.declarative.translator.TranslatorSourceConfig;
+
+/**
+ * source of declarations kept in memory, so that benchmarks of compiler stages do not read files
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+class InMemorySourceConfig implements TranslatorSourceConfig {
+
+  private final Map<String, String> declarations = new LinkedHashMap<>();
+
+  InMemorySourceConfig(Map<String, String> corpus) {
+    corpus.forEach((relativePath, json) -> declarations
+        .put(CorpusGenerator.getPageObjectURI(relativePath), json));
+  }
+
+  @Override
+  public Reader getDeclarationReader(String pageObjectURI) {
+    return new StringReader(declarations.get(pageObjectURI));
+  }
+
+  @Override
+  public Collection<String> getPageObjects() {
+    return declarations.keySet();
+  }
+
+  @Override
+  public void recursiveScan() {
+    // nothing to scan, declarations are known
+  }
+}
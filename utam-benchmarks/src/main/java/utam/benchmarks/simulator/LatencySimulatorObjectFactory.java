@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utam.core.selenium.utilities.WebDriverSimulator.WebElementInfo;
+import utam.core.selenium.utilities.WebDriverSimulatorObjectFactory;
+
+/**
+ * simulator factory that creates in-memory driver and elements with configurable latency <br>
+ * elements are found by exact match of the CSS selector they were registered with, index is built
+ * on first find after all elements are registered
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class LatencySimulatorObjectFactory extends WebDriverSimulatorObjectFactory {
+
+  // key of the index is parent element name (null for top level) and selector
+  private final Map<String, Map<String, List<WebElement>>> index = new HashMap<>();
+  // elements in order of registration so that lists are found in the same order
+  private final List<String> registered = new ArrayList<>();
+  private Map<String, WebElementInfo> knownElements;
+
+  public LatencySimulatorObjectFactory() {
+  }
+
+  @Override
+  protected WebDriver createDriver(Map<String, WebElementInfo> knownElements) {
+    this.knownElements = knownElements;
+    return new SimulatedWebDriver(this);
+  }
+
+  @Override
+  protected WebElement createElement(String elementName) {
+    registered.add(elementName);
+    return new SimulatedWebElement(elementName, this);
+  }
+
+  @Override
+  protected void setElementAttribute(WebElement element, String attributeName,
+      String attributeValue) {
+    ((SimulatedWebElement) element).setAttribute(attributeName, attributeValue);
+  }
+
+  @Override
+  protected void setElementText(WebElement element, String text) {
+    ((SimulatedWebElement) element).setText(text);
+  }
+
+  @Override
+  protected void setElementVisibility(WebElement element, boolean isVisible) {
+    ((SimulatedWebElement) element).setVisible(isVisible);
+  }
+
+  private synchronized Map<String, Map<String, List<WebElement>>> getIndex() {
+    if (index.isEmpty()) {
+      for (String name : registered) {
+        WebElementInfo info = knownElements.get(name);
+        if (info == null) {
+          continue;
+        }
+        index.computeIfAbsent(info.getParentElementName(), key -> new HashMap<>())
+            .computeIfAbsent(info.getCssSelector().toString(), key -> new ArrayList<>())
+            .add(info.getElement());
+      }
+    }
+    return index;
+  }
+
+  List<WebElement> find(String parentName, By by) {
+    Map<String, List<WebElement>> children = getIndex().get(parentName);
+    if (children == null) {
+      return Collections.emptyList();
+    }
+    List<WebElement> found = children.get(by.toString());
+    return found == null ? Collections.emptyList() : new ArrayList<>(found);
+  }
+
+  WebElement findFirst(String parentName, By by) {
+    List<WebElement> found = find(parentName, by);
+    if (found.isEmpty()) {
+      throw new NoSuchElementException(String.format("can't find %s", by));
+    }
+    return found.get(0);
+  }
+}
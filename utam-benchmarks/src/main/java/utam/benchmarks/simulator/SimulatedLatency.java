@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.simulator;
+
+/**
+ * latency added to every command of the simulated driver and element to imitate round trip to a
+ * browser <br> latency is spent in a busy loop because sleep is not precise for microseconds
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class SimulatedLatency {
+
+  private static volatile long latencyNanos;
+
+  private SimulatedLatency() {
+  }
+
+  /**
+   * set latency of every simulated command
+   *
+   * @param micros latency in microseconds, 0 for no latency
+   */
+  public static void setLatencyMicros(long micros) {
+    latencyNanos = micros * 1000;
+  }
+
+  static void spend() {
+    long latency = latencyNanos;
+    if (latency <= 0) {
+      return;
+    }
+    long end = System.nanoTime() + latency;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+}
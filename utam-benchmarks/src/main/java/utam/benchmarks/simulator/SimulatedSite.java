@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import utam.core.selenium.element.DriverAdapter;
+import utam.core.selenium.utilities.WebDriverSimulator;
+import utam.core.selenium.utilities.WebDriverSimulator.WebElementInfo;
+
+/**
+ * page used by benchmarks: root element with a container of items and a chain of nested levels
+ * <pre>
+ * body
+ *   .container
+ *     .item (text "item 0"), .item (text "item 1") ...
+ *   .level
+ *     .level ...
+ * </pre>
+ * filter script of the element list is emulated for "getText" with "stringContains" matcher
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class SimulatedSite {
+
+  public static final String ROOT = "body";
+  public static final String CONTAINER = ".container";
+  public static final String ITEM = ".item";
+  public static final String LEVEL = ".level";
+
+  private final SimulatedWebDriver webDriver;
+
+  /**
+   * build simulated page
+   *
+   * @param itemsCount number of items in container
+   * @param depth      number of nested levels
+   */
+  public SimulatedSite(int itemsCount, int depth) {
+    WebDriverSimulator simulator = new WebDriverSimulator(LatencySimulatorObjectFactory.class);
+    WebElementInfo root = simulator.registerElement("root", ROOT);
+    WebElementInfo container = simulator.registerElement("container", CONTAINER);
+    root.withChild(container);
+    for (int i = 0; i < itemsCount; i++) {
+      container.withChild(
+          simulator.registerElement("item" + i, ITEM).withText(getItemText(i)));
+    }
+    WebElementInfo parent = root;
+    for (int i = 0; i < depth; i++) {
+      WebElementInfo level = simulator.registerElement("level" + i, LEVEL);
+      parent.withChild(level);
+      parent = level;
+    }
+    this.webDriver = (SimulatedWebDriver) simulator.getDriver();
+    this.webDriver.setScriptHandler((script, args) -> emulateFilter(args));
+  }
+
+  /**
+   * text of the item with given index
+   *
+   * @param index index of the item
+   * @return text
+   */
+  public static String getItemText(int index) {
+    return "item " + index;
+  }
+
+  // arguments of the filter script: elements, apply method, apply argument, matcher, expected
+  private static Object emulateFilter(Object[] args) {
+    if (args.length != 5 || !(args[0] instanceof List) || !"getText".equals(args[1])
+        || !"stringContains".equals(args[3])) {
+      return null;
+    }
+    List<?> elements = (List<?>) args[0];
+    List<Long> matched = new ArrayList<>();
+    for (int i = 0; i < elements.size(); i++) {
+      String text = ((SimulatedWebElement) elements.get(i)).getText();
+      if (text.contains(String.valueOf(args[4]))) {
+        // remote driver returns numbers from script as long
+        matched.add((long) i);
+      }
+    }
+    return matched;
+  }
+
+  /**
+   * simulated selenium driver, can be used to replace script handler
+   *
+   * @return selenium driver
+   */
+  public SimulatedWebDriver getWebDriver() {
+    return webDriver;
+  }
+
+  /**
+   * new driver adapter for simulated driver
+   *
+   * @return driver adapter
+   */
+  public DriverAdapter getDriver() {
+    return new DriverAdapter(webDriver);
+  }
+}
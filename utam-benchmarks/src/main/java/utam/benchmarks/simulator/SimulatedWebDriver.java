@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.simulator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * in-memory driver of the simulated page, every command spends simulated latency <br> scripts are
+ * not interpreted, benchmark can set handler that emulates result of the script it uses
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class SimulatedWebDriver implements WebDriver, JavascriptExecutor {
+
+  private final LatencySimulatorObjectFactory factory;
+  private BiFunction<String, Object[], Object> scriptHandler = (script, args) -> null;
+
+  SimulatedWebDriver(LatencySimulatorObjectFactory factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * set function that returns result of the executed script
+   *
+   * @param scriptHandler function of script and its arguments
+   */
+  public void setScriptHandler(BiFunction<String, Object[], Object> scriptHandler) {
+    this.scriptHandler = scriptHandler;
+  }
+
+  @Override
+  public void get(String url) {
+    SimulatedLatency.spend();
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    SimulatedLatency.spend();
+    return "about:blank";
+  }
+
+  @Override
+  public String getTitle() {
+    SimulatedLatency.spend();
+    return "";
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    SimulatedLatency.spend();
+    return factory.find(null, by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    SimulatedLatency.spend();
+    return factory.findFirst(null, by);
+  }
+
+  @Override
+  public String getPageSource() {
+    SimulatedLatency.spend();
+    return "";
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public void quit() {
+  }
+
+  @Override
+  public Set<String> getWindowHandles() {
+    return Collections.singleton(getWindowHandle());
+  }
+
+  @Override
+  public String getWindowHandle() {
+    return "simulated";
+  }
+
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedOperationException("switching is not simulated");
+  }
+
+  @Override
+  public Navigation navigate() {
+    throw new UnsupportedOperationException("navigation is not simulated");
+  }
+
+  @Override
+  public Options manage() {
+    throw new UnsupportedOperationException("options are not simulated");
+  }
+
+  @Override
+  public Object executeScript(String script, Object... args) {
+    SimulatedLatency.spend();
+    return scriptHandler.apply(script, args);
+  }
+
+  @Override
+  public Object executeAsyncScript(String script, Object... args) {
+    return executeScript(script, args);
+  }
+}
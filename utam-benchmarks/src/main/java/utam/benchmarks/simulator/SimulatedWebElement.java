@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.benchmarks.simulator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/**
+ * in-memory element of the simulated page, every command spends simulated latency
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class SimulatedWebElement implements WebElement {
+
+  private final String name;
+  private final LatencySimulatorObjectFactory factory;
+  private final Map<String, String> attributes = new HashMap<>();
+  private String text = "";
+  private boolean isVisible = true;
+
+  SimulatedWebElement(String name, LatencySimulatorObjectFactory factory) {
+    this.name = name;
+    this.factory = factory;
+  }
+
+  void setAttribute(String attribute, String value) {
+    attributes.put(attribute, value);
+  }
+
+  void setText(String text) {
+    this.text = text;
+  }
+
+  void setVisible(boolean isVisible) {
+    this.isVisible = isVisible;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  @Override
+  public void click() {
+    SimulatedLatency.spend();
+  }
+
+  @Override
+  public void submit() {
+    SimulatedLatency.spend();
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+    SimulatedLatency.spend();
+  }
+
+  @Override
+  public void clear() {
+    SimulatedLatency.spend();
+  }
+
+  @Override
+  public String getTagName() {
+    SimulatedLatency.spend();
+    return "div";
+  }
+
+  @Override
+  public String getAttribute(String name) {
+    SimulatedLatency.spend();
+    return attributes.get(name);
+  }
+
+  @Override
+  public boolean isSelected() {
+    SimulatedLatency.spend();
+    return false;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    SimulatedLatency.spend();
+    return true;
+  }
+
+  @Override
+  public String getText() {
+    SimulatedLatency.spend();
+    return text;
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    SimulatedLatency.spend();
+    return factory.find(name, by);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    SimulatedLatency.spend();
+    return factory.findFirst(name, by);
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    SimulatedLatency.spend();
+    return isVisible;
+  }
+
+  @Override
+  public Point getLocation() {
+    SimulatedLatency.spend();
+    return new Point(0, 0);
+  }
+
+  @Override
+  public Dimension getSize() {
+    SimulatedLatency.spend();
+    return new Dimension(100, 20);
+  }
+
+  @Override
+  public Rectangle getRect() {
+    SimulatedLatency.spend();
+    return new Rectangle(getLocation(), getSize());
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    SimulatedLatency.spend();
+    return "";
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    throw new UnsupportedOperationException("screenshots are not simulated");
+  }
+
+  @Override
+  public String toString() {
+    return String.format("simulated element '%s'", name);
+  }
+}
@@ -7,14 +7,13 @@
  */
 package utam.compiler.grammar;
 
-import static utam.compiler.helpers.AnnotationUtils.getFindAnnotation;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.openqa.selenium.By;
 import utam.compiler.helpers.ElementContext;
 import utam.compiler.helpers.ElementUnitTestHelper;
 import utam.compiler.helpers.TranslationContext;
@@ -27,7 +26,9 @@ import utam.compiler.translator.TranslationTypesConfigJava;
 import utam.core.declarative.representation.MethodParameter;
 import utam.core.declarative.representation.PageObjectMethod;
 import utam.core.declarative.representation.TypeProvider;
+import utam.core.element.Locator;
 import utam.core.framework.consumer.UtamError;
+import utam.core.selenium.element.LocatorBy;
 
 /**
  * Page Object Element
@@ -262,6 +263,39 @@ public final class UtamElement {
     }
   }
 
+  // selector can be merged with scope only if both are CSS, scope is not a list and nullability is same
+  ElementContext.Basic getMergeableScope(TranslationContext context, ElementContext scopeElement,
+      boolean isExpandScopeShadowRoot, Locator locator) {
+    if (!context.isFlattenSelectors()
+        || isExpandScopeShadowRoot
+        || !(scopeElement instanceof ElementContext.Basic)) {
+      return null;
+    }
+    ElementContext.Basic scope = (ElementContext.Basic) scopeElement;
+    if (scope.getFieldSelector() == null
+        || scope.isList()
+        || scope.isNullable() != isNullable()) {
+      return null;
+    }
+    if (!isMergeableSelector(scope.getFieldSelector()) || !isMergeableSelector(locator)) {
+      return null;
+    }
+    String child = locator.getStringValue().trim();
+    if (child.startsWith(">") || child.startsWith("+") || child.startsWith("~")) {
+      return null;
+    }
+    return scope;
+  }
+
+  private static boolean isMergeableSelector(Locator locator) {
+    if (!(locator.getValue() instanceof By.ByCssSelector)) {
+      return false;
+    }
+    String css = locator.getStringValue();
+    // selectors group or scope pseudo class change meaning when concatenated
+    return !css.isEmpty() && !css.contains(",") && !css.contains(":scope");
+  }
+
   class Basic extends Traversal {
 
     private Basic() {
@@ -288,20 +322,32 @@ public final class UtamElement {
           TypeUtilities.Element.asBasicType(name, type, isPublicImplementationOnlyElement);
       UtamSelector.Context selectorContext = selector.getContext();
       List<MethodParameter> addedParameters = new ArrayList<>(selectorContext.getParameters());
+      ElementContext fieldScope = scopeElement;
+      Locator fieldSelector = selectorContext.getLocator();
+      boolean isFieldExpand = isExpandScopeShadowRoot;
+      ElementContext.Basic mergeableScope = getMergeableScope(context, scopeElement,
+          isExpandScopeShadowRoot, fieldSelector);
+      if (mergeableScope != null) {
+        // parameters order is preserved: scope selector parameters go first
+        fieldScope = mergeableScope.getFieldScope();
+        fieldSelector = LocatorBy.byCss(String.format("%s %s",
+            mergeableScope.getFieldSelector().getStringValue(), fieldSelector.getStringValue()));
+        isFieldExpand = mergeableScope.isFieldExpandScopeShadowRoot();
+        context.setFlattenedLink();
+      }
       ElementField field =
-          new ElementField(
-              name, getFindAnnotation(selectorContext.getLocator(), scopeElement,
-              isExpandScopeShadowRoot, isNullable()));
+          new ElementField(name, fieldSelector, fieldScope, isFieldExpand, isNullable());
       if (filter != null) {
         filter.setElementFilter(Type.BASIC, elementType, name);
         addedParameters.addAll(filter.getApplyMethodParameters());
         addedParameters.addAll(filter.getMatcherParameters());
       }
       boolean isList = selector.isReturnAll && (filter == null || !filter.getFindFirst());
-      ElementContext elementContext =
+      ElementContext.Basic elementContext =
           new ElementContext.Basic(
               scopeElement, name, elementType, selectorContext.getLocator(), isList,
               addedParameters, isNullable());
+      elementContext.setFieldLocation(fieldScope, fieldSelector, isFieldExpand);
       final PageObjectMethod method;
       if (filter != null) {
         // element parameters do not include filter or matcher parameters
@@ -328,10 +374,11 @@ public final class UtamElement {
       context.setElement(elementContext);
       context.setMethod(method);
       elementContext.setElementMethod(method);
+      // unit test describes the same chain as generated field, which can have merged selector
       context.setTestableElement(name, new ElementUnitTestHelper(
-              selectorContext.getLocator().getStringValue(),
-              scopeElement == null? null : scopeElement.getName(),
-              isExpandScopeShadowRoot,
+              fieldSelector.getStringValue(),
+              fieldScope == null? null : fieldScope.getName(),
+              isFieldExpand,
               isList
       ));
       return new ElementContext[] {elementContext};
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import utam.compiler.helpers.*;
 import utam.compiler.representation.ComposeMethodStatement;
+import utam.compiler.representation.ComposeMethodStatement.BasicElementListOperation;
 import utam.compiler.representation.ComposeMethodStatement.BasicElementOperation;
 import utam.compiler.representation.ComposeMethodStatement.ElementOperand;
 import utam.compiler.representation.ComposeMethodStatement.Operand;
@@ -103,7 +104,8 @@ class UtamMethodAction {
         PrimitiveType.BOOLEAN), predicate);
   }
 
-  private Operation getBasicOperation(ElementContext element, MethodContext methodContext) {
+  private Operation getBasicOperation(TranslationContext context, ElementContext element,
+      MethodContext methodContext) {
     ActionType action = getActionType(apply, element.getType(), element.getName());
     if (BasicElementActionType.containsElement.getApplyString().equals(apply) && args.length == 1) {
       // If the action is "containsElement", it may have one argument (a selector),
@@ -118,6 +120,10 @@ class UtamMethodAction {
         .stream()
         .map(methodContext::setStatementArg)
         .collect(Collectors.toList());
+    if (context.isListGetters() && element.isList()
+        && BasicElementListOperation.isSupported(action)) {
+      return new BasicElementListOperation(action, parameters);
+    }
     return new BasicElementOperation(action, parameters);
   }
 
@@ -239,7 +245,7 @@ class UtamMethodAction {
     if (element.isCustomElement() || element.isDocumentElement() || element.isSelfElement()) {
       return getCustomOperation(methodContext);
     }
-    return getBasicOperation(element, methodContext);
+    return getBasicOperation(context, element, methodContext);
   }
 
   private List<MethodParameter> getMatcherParameters(MethodContext methodContext) {
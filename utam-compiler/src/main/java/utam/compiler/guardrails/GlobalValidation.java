@@ -10,10 +10,14 @@ package utam.compiler.guardrails;
 import static utam.compiler.guardrails.ValidationExclusions.isViolationAllowed;
 import static utam.compiler.guardrails.ValidationUtilities.getValidationError;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import utam.compiler.helpers.ElementContext;
 import utam.core.declarative.translator.GuardrailsMode;
 import utam.core.framework.UtamLogger;
@@ -30,6 +34,8 @@ public class GlobalValidation {
       "Validation failure for element '%s' in Page Object '%s' and element '%s' in Page Object '%s': ";
   private final Map<String, Collection<ElementContext>> allElementsAccumulated = Collections
       .synchronizedMap(new HashMap<>());
+  // page objects that were not changed since previous validation
+  private final Set<String> cachedPageObjects = Collections.synchronizedSet(new HashSet<>());
   private final GuardrailsMode guardrailsMode;
 
   public GlobalValidation(GuardrailsMode guardrailsMode) {
@@ -49,21 +55,44 @@ public class GlobalValidation {
   }
 
   /**
-   * iterate through all Page Objects and all their elements
+   * set elements of the page object that was already validated during previous compilation, its
+   * elements are only validated against page objects that changed since then
+   *
+   * @param pageObjectURI page object URI
+   * @param elements      elements restored from previous compilation
+   */
+  public void setCachedPageObjectElements(String pageObjectURI,
+      Collection<ElementContext> elements) {
+    setPageObjectElements(pageObjectURI, elements);
+    cachedPageObjects.add(pageObjectURI);
+  }
+
+  /**
+   * iterate through all Page Objects and all their elements, every element is only compared with
+   * elements of other Page Objects that have same selector
    */
   public void validate() {
-    for (String firstPageObject : allElementsAccumulated.keySet()) {
-      for (ElementContext firstElementContext : allElementsAccumulated.get(firstPageObject)) {
-        ValidationSubject first = new ValidationSubject(firstPageObject, firstElementContext);
-        for (String secondPageObject : allElementsAccumulated.keySet()) {
-          if (secondPageObject.equals(firstPageObject)) {
-            continue; // we already tested inside same PO
-          }
-          for (ElementContext secondElementContext : allElementsAccumulated.get(secondPageObject)) {
-            ValidationSubject second = new ValidationSubject(secondPageObject, secondElementContext);
-            checkViolations(first, second);
-          }
+    SelectorIndex<ValidationSubject> index = new SelectorIndex<>();
+    List<ValidationSubject> subjects = new ArrayList<>();
+    for (String pageObject : allElementsAccumulated.keySet()) {
+      for (ElementContext elementContext : allElementsAccumulated.get(pageObject)) {
+        ValidationSubject subject = new ValidationSubject(pageObject, elementContext);
+        subjects.add(subject);
+        index.add(elementContext, subject);
+      }
+    }
+    // candidates are in the same order as page objects and elements,
+    // so violations are reported in the same order as by comparing all pairs
+    for (ValidationSubject first : subjects) {
+      for (ValidationSubject second : index.getCandidates(first.elementContext)) {
+        if (second.pageObjectName.equals(first.pageObjectName)) {
+          continue; // we already tested inside same PO
+        }
+        if (cachedPageObjects.contains(first.pageObjectName)
+            && cachedPageObjects.contains(second.pageObjectName)) {
+          continue; // both were validated during previous compilation
         }
+        checkViolations(first, second);
       }
     }
   }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.guardrails;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import utam.compiler.helpers.ElementContext;
+import utam.core.element.Locator;
+
+/**
+ * index of elements by selector used by guardrails <br> validation error is only possible for two
+ * elements with same not empty selector, so element is compared with candidates from its bucket
+ * instead of all other elements. Inside a bucket roots and custom elements are also kept apart
+ * because basic element can only violate guardrails with them
+ *
+ * @param <T> type of the indexed subject
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+final class SelectorIndex<T> {
+
+  private final Map<Locator, Bucket<T>> buckets = new HashMap<>();
+
+  private static Locator getKey(ElementContext element) {
+    Locator selector = element.getSelector();
+    // same as ValidationUtilities.isSameSelector, null or empty selector never match
+    if (selector == null || selector.getStringValue().isEmpty()) {
+      return null;
+    }
+    return selector;
+  }
+
+  private static boolean isRootOrCustom(ElementContext element) {
+    return element.isRootElement() || element.isCustomElement();
+  }
+
+  /**
+   * add subject to the index, subjects are returned as candidates in order of adding
+   *
+   * @param element element to get selector from
+   * @param subject indexed subject
+   */
+  void add(ElementContext element, T subject) {
+    Locator key = getKey(element);
+    if (key == null) {
+      return;
+    }
+    Bucket<T> bucket = buckets.computeIfAbsent(key, k -> new Bucket<>());
+    bucket.all.add(subject);
+    if (isRootOrCustom(element)) {
+      bucket.rootOrCustom.add(subject);
+    }
+  }
+
+  /**
+   * get subjects that can have validation error with the element, it can include element itself
+   *
+   * @param element element to validate
+   * @return list of candidates, same order as they were added
+   */
+  List<T> getCandidates(ElementContext element) {
+    if (element.isSelfElement() || element.isDocumentElement()
+        || element instanceof ElementContext.Container) {
+      return Collections.emptyList();
+    }
+    Locator key = getKey(element);
+    Bucket<T> bucket = key == null ? null : buckets.get(key);
+    if (bucket == null) {
+      return Collections.emptyList();
+    }
+    return isRootOrCustom(element) ? bucket.all : bucket.rootOrCustom;
+  }
+
+  private static final class Bucket<T> {
+
+    private final List<T> all = new ArrayList<>();
+    private final List<T> rootOrCustom = new ArrayList<>();
+  }
+}
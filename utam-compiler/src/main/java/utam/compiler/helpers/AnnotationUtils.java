@@ -111,7 +111,7 @@ public final class AnnotationUtils {
             .collect(Collectors.toList()));
   }
 
-  static String getWrappedString(String string) {
+  public static String getWrappedString(String string) {
     if (string.startsWith("\"")) {
       return string;
     }
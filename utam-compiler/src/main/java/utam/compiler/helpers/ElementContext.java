@@ -130,6 +130,11 @@ public abstract class ElementContext {
 
   public static class Basic extends ElementContext {
 
+    // location of the generated field, scope and selector can be merged with parent element
+    private ElementContext fieldScope;
+    private Locator fieldSelector;
+    private boolean isFieldExpandScopeShadowRoot;
+
     public Basic(
         ElementContext scopeContext,
         String name,
@@ -155,6 +160,26 @@ public abstract class ElementContext {
     public Basic(String name) {
       this(name, actionable, EMPTY_SELECTOR);
     }
+
+    public void setFieldLocation(ElementContext scope, Locator selector,
+        boolean isExpandScopeShadowRoot) {
+      this.fieldScope = scope;
+      this.fieldSelector = selector;
+      this.isFieldExpandScopeShadowRoot = isExpandScopeShadowRoot;
+    }
+
+    public ElementContext getFieldScope() {
+      return fieldScope;
+    }
+
+    // null if field location was not set
+    public Locator getFieldSelector() {
+      return fieldSelector;
+    }
+
+    public boolean isFieldExpandScopeShadowRoot() {
+      return isFieldExpandScopeShadowRoot;
+    }
   }
 
   public static class Container extends ElementContext {
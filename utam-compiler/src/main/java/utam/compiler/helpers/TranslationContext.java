@@ -61,6 +61,8 @@ public final class TranslationContext {
   private boolean isAbstractPageObject = false;
   private boolean isImplementationPageObject = false;
   private final Map<String, ElementUnitTestHelper> testableElements = new HashMap<>();
+  // number of scope links removed by merging selectors
+  private int flattenedLinksCount = 0;
 
   public TranslationContext(String pageObjectURI, TranslatorConfig translatorConfiguration) {
     this.pageObjectURI = pageObjectURI;
@@ -98,6 +100,10 @@ public final class TranslationContext {
     validation.setPageObjectElements(pageObjectURI, elementContextMap.values());
   }
 
+  public Collection<ElementContext> getElements() {
+    return elementContextMap.values();
+  }
+
   public void setAbstract() {
     this.isAbstractPageObject = true;
   }
@@ -230,4 +236,47 @@ public final class TranslationContext {
   public void setTestableElement(String elementName, ElementUnitTestHelper helper) {
     this.testableElements.put(elementName, helper);
   }
+
+  /**
+   * check if selectors of nested light DOM elements can be merged with parent selector
+   *
+   * @return true if configured
+   */
+  public boolean isFlattenSelectors() {
+    return translatorConfiguration.isFlattenSelectors();
+  }
+
+  /**
+   * check if page object should assign its element fields in generated bootstrap method
+   *
+   * @return true if configured
+   */
+  public boolean isGenerateBootstrap() {
+    return translatorConfiguration.isGenerateBootstrap();
+  }
+
+  /**
+   * check if getters applied to a list of basic elements should read all values with one script
+   *
+   * @return true if configured
+   */
+  public boolean isListGetters() {
+    return translatorConfiguration.isListGetters();
+  }
+
+  /**
+   * remember that element selector was merged with its scope, used for compiler report
+   */
+  public void setFlattenedLink() {
+    flattenedLinksCount++;
+  }
+
+  /**
+   * number of scope links that were removed by merging selectors
+   *
+   * @return number of removed links
+   */
+  public int getFlattenedLinksCount() {
+    return flattenedLinksCount;
+  }
 }
@@ -14,6 +14,7 @@ import static utam.compiler.helpers.TypeUtilities.SELECTOR;
 import static utam.compiler.helpers.TypeUtilities.VOID;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -30,6 +31,7 @@ import utam.compiler.helpers.TypeUtilities.ListOf;
 import utam.core.declarative.representation.MethodParameter;
 import utam.core.declarative.representation.TypeProvider;
 import utam.core.framework.base.UtamUtilitiesContext;
+import utam.core.framework.element.ElementListProperties;
 
 /**
  * single statement in a compose method, all statements are
@@ -235,7 +237,9 @@ public abstract class ComposeMethodStatement {
       imports.add(LIST_IMPORT);
       imports.add(operation.action.getReturnType());
       classImports.addAll(imports);
-      classImports.add(COLLECTOR_IMPORT);
+      if (!(operation instanceof BasicElementListOperation)) {
+        classImports.add(COLLECTOR_IMPORT);
+      }
     }
 
     @Override
@@ -534,6 +538,47 @@ public abstract class ComposeMethodStatement {
     }
   }
 
+  /**
+   * getter applied to a list of basic elements, all values are read with one call to the runtime
+   * instead of invoking getter for every element
+   */
+  public static final class BasicElementListOperation extends BasicElementOperation {
+
+    static final TypeProvider ELEMENT_LIST_PROPERTIES_TYPE =
+        new TypeUtilities.FromClass(ElementListProperties.class);
+    private static final List<String> SUPPORTED_METHODS = Arrays.asList("getText", "getAttribute",
+        "getClassAttribute", "getTitle", "getValue", "isVisible", "isEnabled");
+
+    public BasicElementListOperation(ActionType action, List<MethodParameter> actionParameters) {
+      super(action, actionParameters);
+    }
+
+    /**
+     * check if values of the list can be read with one call
+     *
+     * @param action applied action
+     * @return true if action is a supported getter
+     */
+    public static boolean isSupported(ActionType action) {
+      return SUPPORTED_METHODS.contains(action.getApplyString());
+    }
+
+    @Override
+    String getCode(String invocationPattern, String elementGetter) {
+      String parametersValues = getParametersValuesString(actionParameters);
+      String separator = parametersValues.isEmpty() ? "" : ", ";
+      return String.format("%s.%s(%s%s%s)", ELEMENT_LIST_PROPERTIES_TYPE.getSimpleName(),
+          getAction().getInvokeMethodName(), elementGetter, separator, parametersValues);
+    }
+
+    @Override
+    List<TypeProvider> getClassImports() {
+      List<TypeProvider> res = new ArrayList<>(super.getClassImports());
+      res.add(ELEMENT_LIST_PROPERTIES_TYPE);
+      return res;
+    }
+  }
+
   /**
    * information about applied action with a predicate
    */
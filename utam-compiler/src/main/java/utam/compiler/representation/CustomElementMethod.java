@@ -23,6 +23,8 @@ import java.util.stream.Stream;
 
 import static utam.compiler.helpers.TypeUtilities.SELECTOR;
 import static utam.compiler.representation.ComposeMethod.getElementLocatorString;
+import static utam.compiler.representation.ElementMethod.ELEMENT_FILTER_TYPE;
+import static utam.compiler.representation.ElementMethod.getFilterDescriptorCode;
 import static utam.compiler.representation.ElementMethod.getPredicateCode;
 import static utam.compiler.translator.TranslationUtilities.getElementGetterMethodName;
 
@@ -38,6 +40,7 @@ public abstract class CustomElementMethod implements PageObjectMethod {
   private static final String BUILDER_METHOD = "build";
   private static final String LIST_BUILDER_METHOD = "buildList";
   private static final String TMP_VARIABLE = "instance";
+  private static final String SCRIPT_FILTER_METHOD = "isVisible";
 
   private static String getBuilderPrefix(ElementContext scopeElement, Root root, boolean isNullable, boolean isExpandParentShadow) {
     return String.format(
@@ -183,6 +186,12 @@ public abstract class CustomElementMethod implements PageObjectMethod {
       }
       String builderPrefix = getBuilderPrefix(scopeElement, root, isNullable, isExpandParentShadow);
       String predicate = getPredicateCode(applyMethod, applyParameters, matcherType, matcherParameters);
+      // only root visibility of a custom element can be evaluated with script
+      if (SCRIPT_FILTER_METHOD.equals(applyMethod)) {
+        classImports.add(ELEMENT_FILTER_TYPE);
+        predicate = String.format("%s, %s", predicate,
+            getFilterDescriptorCode(applyMethod, applyParameters, matcherType, matcherParameters));
+      }
       String builderSuffix = getFilteredBuilderSuffix(returnType, predicate, !isFindFirst);
       codeLines.add(String.format("%s.%s", builderPrefix, builderSuffix));
     }
@@ -7,14 +7,23 @@
  */
 package utam.compiler.representation;
 
+import static utam.compiler.helpers.AnnotationUtils.getFindAnnotation;
+import static utam.compiler.helpers.AnnotationUtils.getWrappedString;
 import static utam.compiler.helpers.TypeUtilities.ELEMENT_FIELD;
+import static utam.compiler.helpers.TypeUtilities.SELECTOR;
 
 import java.util.Collections;
+import utam.compiler.helpers.ElementContext;
 import utam.core.declarative.representation.AnnotationProvider;
 import utam.core.declarative.representation.PageClassField;
 import utam.core.declarative.representation.TypeProvider;
 
 import java.util.List;
+import utam.core.element.FindContext;
+import utam.core.element.Locator;
+import utam.core.selenium.appium.LocatorAccessibilityId;
+import utam.core.selenium.appium.LocatorClassChain;
+import utam.core.selenium.appium.LocatorUIAutomator;
 
 /**
  * representation of the page object element
@@ -26,10 +35,44 @@ public final class ElementField implements PageClassField {
 
   private final String name;
   private final List<AnnotationProvider> annotations;
+  private final String bootstrapCode;
 
   public ElementField(String name, AnnotationProvider annotation) {
     this.name = name;
     this.annotations = Collections.singletonList(annotation);
+    this.bootstrapCode = null;
+  }
+
+  public ElementField(String name, Locator locator, ElementContext scopeElement, boolean isExpand,
+      boolean isNullable) {
+    this.name = name;
+    this.annotations = Collections
+        .singletonList(getFindAnnotation(locator, scopeElement, isExpand, isNullable));
+    // same scope as in annotation: page object root or previously assigned element field
+    String scope = scopeElement == null || scopeElement.isRootElement() ? "root"
+        : String.format("this.%s", scopeElement.getName());
+    this.bootstrapCode = String.format("this.%s = %s.scope(%s, %s.%s.%s)",
+        name,
+        scope,
+        getLocatorCode(locator),
+        FindContext.class.getSimpleName(),
+        FindContext.Type.class.getSimpleName(),
+        FindContext.Type.build(isNullable, isExpand).name());
+  }
+
+  private static String getLocatorCode(Locator locator) {
+    final String method;
+    if (locator instanceof LocatorAccessibilityId) {
+      method = "byAccessibilityId";
+    } else if (locator instanceof LocatorClassChain) {
+      method = "byClassChain";
+    } else if (locator instanceof LocatorUIAutomator) {
+      method = "byUiAutomator";
+    } else {
+      method = "byCss";
+    }
+    return String.format("%s.%s(%s)", SELECTOR.getSimpleName(), method,
+        getWrappedString(locator.getStringValue()));
   }
 
   @Override
@@ -51,4 +94,9 @@ public final class ElementField implements PageClassField {
   public String getDeclaration() {
     return String.format("private %s %s", getType().getSimpleName(), getName());
   }
+
+  @Override
+  public String getBootstrapCode() {
+    return bootstrapCode;
+  }
 }
@@ -13,6 +13,7 @@ import static utam.compiler.helpers.TypeUtilities.LIST_IMPORT;
 import static utam.compiler.translator.TranslationUtilities.getElementGetterMethodName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import utam.core.declarative.representation.MethodDeclaration;
 import utam.core.declarative.representation.MethodParameter;
 import utam.core.declarative.representation.PageObjectMethod;
 import utam.core.declarative.representation.TypeProvider;
+import utam.core.framework.base.ElementFilter;
 import utam.core.framework.element.BasePageElement;
 import utam.core.driver.Document;
 
@@ -37,6 +39,11 @@ import utam.core.driver.Document;
 public abstract class ElementMethod implements PageObjectMethod {
 
   private static final TypeProvider DOCUMENT_TYPE = new FromClass(Document.class);
+  static final TypeProvider ELEMENT_FILTER_TYPE = new FromClass(ElementFilter.class);
+  // basic element methods that runtime can evaluate with script
+  private static final List<String> SCRIPT_FILTER_METHODS = Arrays.asList(
+      "getText", "getAttribute", "getClassAttribute", "getTitle", "getValue", "isVisible",
+      "isEnabled");
   private static final MethodDeclaration DOCUMENT_GETTER_DECLARATION = new MethodDeclarationImpl(
       "getDocument",
       EMPTY_PARAMETERS,
@@ -97,6 +104,30 @@ public abstract class ElementMethod implements PageObjectMethod {
         getParametersVararg(elementParameters));
   }
 
+  /**
+   * declarative description of a filter is generated in addition to predicate, so that runtime
+   * can evaluate simple filters for all found elements with one script
+   *
+   * @param applyMethod       method applied to every element
+   * @param applyParameters   parameters of the applied method
+   * @param matcherType       type of the matcher
+   * @param matcherParameters parameters of the matcher
+   * @return code that creates filter description
+   */
+  static String getFilterDescriptorCode(
+      String applyMethod,
+      List<MethodParameter> applyParameters,
+      MatcherType matcherType,
+      List<MethodParameter> matcherParameters) {
+    List<MethodParameter> arguments = new ArrayList<>(applyParameters);
+    arguments.addAll(matcherParameters);
+    return String.format("new %s(\"%s\", \"%s\"%s)",
+        ELEMENT_FILTER_TYPE.getSimpleName(),
+        applyMethod,
+        matcherType.name(),
+        getParametersVararg(arguments));
+  }
+
   static String getPredicateCode(
       String applyMethod,
       List<MethodParameter> applyParameters,
@@ -234,12 +265,19 @@ public abstract class ElementMethod implements PageObjectMethod {
         this.imports.add(returnListType);
       }
       this.imports.add(new TypeUtilities.FromClass(BasePageElement.class));
+      String predicateCode = getPredicateCode(applyMethod, applyParameters, matcherType,
+          matcherParameters);
+      if (SCRIPT_FILTER_METHODS.contains(applyMethod)) {
+        this.imports.add(ELEMENT_FILTER_TYPE);
+        predicateCode = String.format("%s, %s", predicateCode,
+            getFilterDescriptorCode(applyMethod, applyParameters, matcherType, matcherParameters));
+      }
       this.codeLines.add(
           getElementFilteredListMethodCode(
               elementName,
               elementType,
               elementParameters,
-              getPredicateCode(applyMethod, applyParameters, matcherType, matcherParameters),
+              predicateCode,
               isFindFirstMatch));
     }
 
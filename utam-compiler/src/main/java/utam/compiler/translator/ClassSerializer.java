@@ -10,6 +10,8 @@ package utam.compiler.translator;
 import utam.compiler.helpers.TranslationContext;
 import utam.compiler.helpers.TypeUtilities;
 import utam.core.declarative.representation.*;
+import utam.core.element.ElementLocation;
+import utam.core.element.FindContext;
 import utam.core.framework.element.BasePageElement;
 
 import java.util.ArrayList;
@@ -29,6 +31,8 @@ import static utam.compiler.translator.TranslationUtilities.*;
  */
 public final class ClassSerializer {
 
+  private static final TypeProvider BOOTSTRAP_FIND_CONTEXT =
+      new TypeUtilities.FromClass(FindContext.class);
   private final PageObjectClass source;
   private final TranslationContext translationContext;
 
@@ -93,6 +97,9 @@ public final class ClassSerializer {
     getClassFields().forEach(out::addAll);
     out.add(NEW_LINE);
     out.add(NEW_LINE);
+    if (isBootstrapGenerated()) {
+      out.addAll(getBootstrapMethod());
+    }
     source.getMethods().stream()
             // if method is private and never used, do not not declare to avoid test coverage alert
             .filter(this::isUsedMethod)
@@ -135,6 +142,25 @@ public final class ClassSerializer {
         .forEach(out::add);
   }
 
+  // every field should know how to assign itself, otherwise factory scans annotations at runtime
+  private boolean isBootstrapGenerated() {
+    return translationContext.isGenerateBootstrap()
+        && !source.getFields().isEmpty()
+        && source.getFields().stream().allMatch(field -> field.getBootstrapCode() != null);
+  }
+
+  private List<String> getBootstrapMethod() {
+    List<String> out = new ArrayList<>();
+    out.add(NEW_LINE);
+    out.add("@Override");
+    out.add(String.format("protected final boolean bootstrap(%s root) {",
+        ElementLocation.class.getSimpleName()));
+    source.getFields().forEach(field -> out.add(getStatement(field.getBootstrapCode())));
+    out.add("return true;");
+    out.add("}");
+    return out;
+  }
+
   private boolean isUsedMethod(PageObjectMethod method) {
     return method.isPublic() ||
         translationContext.getUsedPrivateMethods().contains(method.getDeclaration().getName());
@@ -169,6 +195,10 @@ public final class ClassSerializer {
         .flatMap(classField -> classField.getAnnotations().stream())
         .flatMap(a -> a.getImportTypes().stream())
         .forEach(a -> res.add(getImportStatement(a)));
+    if (isBootstrapGenerated()) {
+      res.add(getImportStatement(TypeUtilities.SELECTOR));
+      res.add(getImportStatement(BOOTSTRAP_FIND_CONTEXT));
+    }
     source
         .getMethods()
         .forEach(
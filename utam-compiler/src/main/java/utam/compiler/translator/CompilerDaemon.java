@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.translator;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static utam.compiler.translator.DefaultTargetConfiguration.MANIFEST_FILE_NAME;
+import static utam.core.framework.UtamLogger.error;
+import static utam.core.framework.UtamLogger.info;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import utam.core.declarative.translator.TranslatorConfig;
+
+/**
+ * long running compiler: keeps JVM and compiler classes loaded between compilations, recompiles
+ * when page object declarations are saved and accepts compilation requests on a local socket <br>
+ * every compilation gets new configuration from supplier to pick up added and removed files, it is
+ * expected to be incremental so that only changed page objects and their dependents are translated
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+final class CompilerDaemon implements Closeable {
+
+  static final String COMPILE_REQUEST = "compile";
+  static final String STOP_REQUEST = "stop";
+  static final String OK_RESPONSE = "ok";
+  static final String ERROR_RESPONSE = "error";
+  static final String ERR_UNKNOWN_REQUEST = "unknown request '%s', expected '%s' or '%s'";
+  static final String ERR_CONFIGURATION = "compiler configuration error";
+  static final String ERR_WRONG_TOKEN = "wrong or missing token";
+  static final String TOKEN_FILE_NAME = "utam-daemon.token";
+  // connection is closed if client does not send anything for this time
+  static final int SOCKET_TIMEOUT_MSEC = (int) TimeUnit.MINUTES.toMillis(1);
+  // several files are often saved at once, wait for events to settle before compiling
+  private static final long QUIET_PERIOD_MSEC = 100;
+
+  private final Supplier<TranslatorConfig> configSupplier;
+  private final CountDownLatch stopped = new CountDownLatch(1);
+  private final Object compilationLock = new Object();
+  private volatile ServerSocket serverSocket;
+  private volatile ExecutorService connections;
+  private volatile Path tokenFile;
+  private volatile String token;
+  private volatile WatchService watchService;
+
+  /**
+   * @param configSupplier returns new compiler configuration for every compilation or null if
+   *                       configuration has error
+   */
+  CompilerDaemon(Supplier<TranslatorConfig> configSupplier) {
+    this.configSupplier = configSupplier;
+  }
+
+  // every response is one line, client reads one line per request
+  private static String getResponse(String status, String message) {
+    return String.format("%s: %s", status, message.replaceAll("\\s*\\R\\s*", " ").trim());
+  }
+
+  private static String getErrorMessage(Exception e) {
+    return e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+  }
+
+  /**
+   * run compilation, requests from socket and from watched folder are never compiled at the same
+   * time
+   *
+   * @return response with status and summary of the compilation
+   */
+  String compile() {
+    synchronized (compilationLock) {
+      long timer = System.currentTimeMillis();
+      TranslatorConfig translatorConfig = configSupplier.get();
+      if (translatorConfig == null) {
+        return getResponse(ERROR_RESPONSE, ERR_CONFIGURATION);
+      }
+      try {
+        DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+        translator.run();
+        translator.write();
+        translator.writeDependenciesConfigs();
+        return getResponse(OK_RESPONSE, String.format("translated %d page objects, took %d msec",
+            translator.getGeneratedPageObjectsNames().size(),
+            System.currentTimeMillis() - timer));
+      } catch (IOException | RuntimeException e) {
+        error(e);
+        return getResponse(ERROR_RESPONSE, getErrorMessage(e));
+      }
+    }
+  }
+
+  /**
+   * start accepting requests on loopback address. Any local user can connect to the port, so the
+   * first line of every connection should be the token that daemon writes into the file readable
+   * only by its owner. Every next line is a request with command, response is a line with status
+   * and message
+   *
+   * @param port      port to listen on, 0 to pick any free port
+   * @param tokenFile file to write token to, deleted when daemon is stopped
+   * @return port that daemon listens on
+   * @throws IOException if socket can't be opened or token can't be written
+   */
+  int listen(int port, Path tokenFile) throws IOException {
+    token = writeToken(tokenFile);
+    this.tokenFile = tokenFile;
+    serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    connections = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "utam-compiler-daemon");
+      thread.setDaemon(true);
+      return thread;
+    });
+    connections.execute(this::acceptRequests);
+    info(String.format("compiler daemon listens on port %d, token is in '%s'",
+        serverSocket.getLocalPort(), tokenFile));
+    return serverSocket.getLocalPort();
+  }
+
+  private static String writeToken(Path tokenFile) throws IOException {
+    byte[] bytes = new byte[32];
+    new SecureRandom().nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    // file is created again so that permissions are set before token is written
+    Files.createDirectories(tokenFile.toAbsolutePath().getParent());
+    Files.deleteIfExists(tokenFile);
+    if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+      FileAttribute<?> ownerOnly = PosixFilePermissions
+          .asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+      Files.createFile(tokenFile, ownerOnly);
+    } else {
+      Files.createFile(tokenFile);
+    }
+    Files.write(tokenFile, Collections.singletonList(token), StandardCharsets.UTF_8);
+    return token;
+  }
+
+  private void acceptRequests() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connections.execute(() -> processRequests(socket));
+      } catch (IOException e) {
+        if (!serverSocket.isClosed()) {
+          error(e);
+        }
+      }
+    }
+  }
+
+  // every connection is processed in its own thread, compilations still run one at a time
+  private void processRequests(Socket connection) {
+    try (Socket socket = connection;
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer = new PrintWriter(
+            new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+      socket.setSoTimeout(SOCKET_TIMEOUT_MSEC);
+      String clientToken = reader.readLine();
+      if (clientToken == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+          clientToken.trim().getBytes(StandardCharsets.UTF_8))) {
+        writer.println(getResponse(ERROR_RESPONSE, ERR_WRONG_TOKEN));
+        return;
+      }
+      String request;
+      while ((request = reader.readLine()) != null) {
+        request = request.trim();
+        if (COMPILE_REQUEST.equals(request)) {
+          writer.println(compile());
+        } else if (STOP_REQUEST.equals(request)) {
+          writer.println(getResponse(OK_RESPONSE, "compiler daemon stopped"));
+          close();
+          return;
+        } else {
+          writer.println(getResponse(ERROR_RESPONSE,
+              String.format(ERR_UNKNOWN_REQUEST, request, COMPILE_REQUEST, STOP_REQUEST)));
+        }
+      }
+    } catch (IOException e) {
+      // read timeout or client error only closes this connection
+      if (!serverSocket.isClosed()) {
+        error(e);
+      }
+    }
+  }
+
+  /**
+   * watch folder with declarations and compile after declarations were changed, added or removed,
+   * returns when daemon is stopped
+   *
+   * @param root root folder with page objects declarations
+   * @throws IOException if folder can't be watched
+   */
+  void watch(Path root) throws IOException {
+    watchService = FileSystems.getDefault().newWatchService();
+    register(root);
+    info(String.format("compiler daemon watches folder '%s'", root));
+    try {
+      while (stopped.getCount() > 0) {
+        WatchKey key = watchService.take();
+        boolean isChanged = false;
+        // drain events until folder is quiet
+        while (key != null) {
+          isChanged |= processEvents(key);
+          key = watchService.poll(QUIET_PERIOD_MSEC, TimeUnit.MILLISECONDS);
+        }
+        if (isChanged) {
+          info(compile());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // daemon was stopped
+    }
+  }
+
+  private void register(Path root) throws IOException {
+    try (Stream<Path> folders = Files.walk(root)) {
+      for (Path folder : (Iterable<Path>) folders.filter(Files::isDirectory)::iterator) {
+        folder.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+      }
+    }
+  }
+
+  // returns true if event can affect compilation
+  private boolean processEvents(WatchKey key) {
+    Path folder = (Path) key.watchable();
+    boolean isChanged = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        isChanged = true;
+        continue;
+      }
+      Path path = folder.resolve((Path) event.context());
+      String fileName = path.getFileName().toString();
+      if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+        try {
+          register(path);
+        } catch (IOException e) {
+          error(e);
+        }
+        isChanged = true;
+      } else if (fileName.equals(MANIFEST_FILE_NAME)) {
+        // compiler writes manifest itself
+        continue;
+      } else if (fileName.endsWith(".json")
+          // deleted folder can't be checked, it has no extension
+          || (event.kind() == ENTRY_DELETE && !fileName.contains("."))) {
+        isChanged = true;
+      }
+    }
+    key.reset();
+    return isChanged;
+  }
+
+  /**
+   * wait until daemon is stopped by request
+   *
+   * @throws InterruptedException if thread was interrupted
+   */
+  void await() throws InterruptedException {
+    stopped.await();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // waiting threads are released only after daemon resources are closed
+    try {
+      if (watchService != null) {
+        watchService.close();
+      }
+      if (serverSocket != null) {
+        serverSocket.close();
+      }
+      if (connections != null) {
+        connections.shutdown();
+      }
+      if (tokenFile != null) {
+        Files.deleteIfExists(tokenFile);
+      }
+    } finally {
+      stopped.countDown();
+    }
+  }
+}
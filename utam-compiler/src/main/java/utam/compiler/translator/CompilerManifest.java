@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.translator;
+
+import static utam.core.framework.UtamLogger.info;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.CharStreams;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import utam.compiler.UtamCompilationError;
+import utam.compiler.helpers.ElementContext;
+import utam.compiler.helpers.TypeUtilities;
+import utam.core.declarative.representation.PageObjectDeclaration;
+import utam.core.declarative.translator.ProfileConfiguration;
+import utam.core.declarative.translator.TranslatorConfig;
+import utam.core.element.Locator;
+import utam.core.framework.context.Profile;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * manifest of the incremental compilation, written next to generated Page Objects <br> for every
+ * page object it keeps hash of the declaration, hashes of generated files, types it depends on,
+ * its part of profiles mapping and elements for global guardrails. Manifest written by different
+ * compiler version or with different configuration is ignored
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+final class CompilerManifest {
+
+  static final String ERR_WRITING_MANIFEST = "error while writing compiler manifest '%s'";
+  private static final int VERSION = 1;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  // selector types that can be restored from manifest, same as in JSON declaration
+  private static final Map<String, Function<String, Locator>> LOCATORS = new LinkedHashMap<>();
+
+  static {
+    LOCATORS.put("css", LocatorBy::byCss);
+    LOCATORS.put("accessid", LocatorBy::byAccessibilityId);
+    LOCATORS.put("classchain", LocatorBy::byClassChain);
+    LOCATORS.put("uiautomator", LocatorBy::byUiAutomator);
+  }
+
+  private final int version;
+  private final String configuration;
+  private final Map<String, Entry> pageObjects = new TreeMap<>();
+
+  @JsonCreator
+  CompilerManifest(
+      @JsonProperty(value = "version") int version,
+      @JsonProperty(value = "configuration") String configuration,
+      @JsonProperty(value = "pageObjects") Map<String, Entry> pageObjects) {
+    this.version = version;
+    this.configuration = configuration;
+    if (pageObjects != null) {
+      this.pageObjects.putAll(pageObjects);
+    }
+  }
+
+  CompilerManifest(String configuration) {
+    this(VERSION, configuration, null);
+  }
+
+  /**
+   * read manifest of the previous compilation
+   *
+   * @param path          path of the manifest file
+   * @param configuration current configuration of the compiler
+   * @return manifest, empty if file does not exist or was written with other configuration
+   */
+  static CompilerManifest read(String path, String configuration) {
+    File file = new File(path);
+    if (!file.exists()) {
+      info(String.format("compiler manifest '%s' not found, all page objects will be translated",
+          path));
+      return new CompilerManifest(configuration);
+    }
+    try {
+      CompilerManifest manifest = MAPPER.readValue(file, CompilerManifest.class);
+      if (manifest.version == VERSION && configuration.equals(manifest.configuration)) {
+        return manifest;
+      }
+      info(String.format("compiler configuration changed, ignoring manifest '%s'", path));
+    } catch (IOException e) {
+      info(String.format("can't read compiler manifest '%s': %s", path, e.getMessage()));
+    }
+    return new CompilerManifest(configuration);
+  }
+
+  /**
+   * configuration that affects generated code, manifest is only valid for same configuration
+   *
+   * @param translatorConfig compiler configuration
+   * @return string with configuration
+   */
+  static String getConfiguration(TranslatorConfig translatorConfig) {
+    Map<String, Set<String>> profiles = new TreeMap<>();
+    for (ProfileConfiguration profile : translatorConfig.getConfiguredProfiles()) {
+      profiles.put(profile.getPropertyKey(), new TreeSet<>(profile.getSupportedValues()));
+    }
+    return String.join(";",
+        String.valueOf(CompilerManifest.class.getPackage().getImplementationVersion()),
+        translatorConfig.getModuleName(),
+        String.valueOf(translatorConfig.getValidationMode()),
+        String.valueOf(translatorConfig.getConfiguredTarget().getUnitTestRunnerType()),
+        String.valueOf(translatorConfig.isFlattenSelectors()),
+        String.valueOf(translatorConfig.isGenerateBootstrap()),
+        String.valueOf(translatorConfig.isListGetters()),
+        profiles.toString());
+  }
+
+  /**
+   * SHA-256 of the content
+   *
+   * @param content string content
+   * @return hex string with hash
+   */
+  static String hash(String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] bytes = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder();
+      for (byte b : bytes) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * SHA-256 of the content read till the end, reader is closed
+   *
+   * @param reader reader
+   * @return hex string with hash
+   * @throws IOException if content can't be read
+   */
+  static String hash(Reader reader) throws IOException {
+    try (Reader content = reader) {
+      return hash(CharStreams.toString(content));
+    }
+  }
+
+  /**
+   * write manifest with current state
+   *
+   * @param path path of the manifest file
+   */
+  void write(String path) {
+    try {
+      File file = new File(path);
+      if (file.getParentFile() != null) {
+        file.getParentFile().mkdirs();
+      }
+      MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, this);
+    } catch (IOException e) {
+      throw new UtamCompilationError(String.format(ERR_WRITING_MANIFEST, path), e);
+    }
+  }
+
+  @JsonProperty("version")
+  int getVersion() {
+    return version;
+  }
+
+  @JsonProperty("configuration")
+  String getConfiguration() {
+    return configuration;
+  }
+
+  @JsonProperty("pageObjects")
+  Map<String, Entry> getPageObjects() {
+    return pageObjects;
+  }
+
+  Entry get(String pageObjectURI) {
+    return pageObjects.get(pageObjectURI);
+  }
+
+  void put(String pageObjectURI, Entry entry) {
+    pageObjects.put(pageObjectURI, entry);
+  }
+
+  /**
+   * find page objects that have to be translated: declaration is new or changed, generated files
+   * were changed, or page object depends on type of one of those or of removed page object
+   *
+   * @param sourceHashes   hashes of all current declarations, null if declaration can't be read
+   * @param typeOfURI      function that returns type name for page object URI
+   * @param isOutputChanged predicate to check generated files of the page object
+   * @return set of page objects URIs
+   */
+  Set<String> getChanged(Map<String, String> sourceHashes, Function<String, String> typeOfURI,
+      Predicate<Entry> isOutputChanged) {
+    Set<String> changed = new HashSet<>();
+    Set<String> changedTypes = new HashSet<>();
+    for (Map.Entry<String, String> source : sourceHashes.entrySet()) {
+      Entry entry = pageObjects.get(source.getKey());
+      if (entry == null
+          || source.getValue() == null
+          || !source.getValue().equals(entry.source)
+          || entry.outputs == null
+          || isOutputChanged.test(entry)) {
+        changed.add(source.getKey());
+        changedTypes.add(typeOfURI.apply(source.getKey()));
+      }
+    }
+    for (String removed : pageObjects.keySet()) {
+      if (!sourceHashes.containsKey(removed)) {
+        changedTypes.add(typeOfURI.apply(removed));
+      }
+    }
+    // types to page objects that depend on them
+    Map<String, List<String>> dependents = new HashMap<>();
+    for (String pageObjectURI : sourceHashes.keySet()) {
+      Entry entry = pageObjects.get(pageObjectURI);
+      if (entry != null && !changed.contains(pageObjectURI)) {
+        entry.dependencies.forEach(type -> dependents
+            .computeIfAbsent(type, key -> new ArrayList<>()).add(pageObjectURI));
+      }
+    }
+    List<String> queue = new ArrayList<>(changedTypes);
+    while (!queue.isEmpty()) {
+      String type = queue.remove(queue.size() - 1);
+      for (String dependent : dependents.getOrDefault(type, new ArrayList<>())) {
+        if (changed.add(dependent)) {
+          queue.add(typeOfURI.apply(dependent));
+        }
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * page object in the manifest
+   *
+   * @author elizaveta.ivanova
+   */
+  @JsonInclude(Include.NON_NULL)
+  static final class Entry {
+
+    private final String source;
+    private final String interfaceType;
+    private final String classType;
+    private final boolean isInterfaceOnly;
+    private final boolean isClassWithInterface;
+    // profile name to values, null if implementation does not have profiles
+    private final Map<String, List<String>> profiles;
+    private final Set<String> dependencies = new TreeSet<>();
+    private final List<Element> elements = new ArrayList<>();
+    // generated type name to hash of the code, null until page object is written
+    private Map<String, String> outputs;
+
+    @JsonCreator
+    Entry(
+        @JsonProperty(value = "source") String source,
+        @JsonProperty(value = "interfaceType") String interfaceType,
+        @JsonProperty(value = "classType") String classType,
+        @JsonProperty(value = "interfaceOnly") boolean isInterfaceOnly,
+        @JsonProperty(value = "classWithInterface") boolean isClassWithInterface,
+        @JsonProperty(value = "profiles") Map<String, List<String>> profiles,
+        @JsonProperty(value = "dependencies") Collection<String> dependencies,
+        @JsonProperty(value = "elements") List<Element> elements,
+        @JsonProperty(value = "outputs") Map<String, String> outputs) {
+      this.source = source;
+      this.interfaceType = interfaceType;
+      this.classType = classType;
+      this.isInterfaceOnly = isInterfaceOnly;
+      this.isClassWithInterface = isClassWithInterface;
+      this.profiles = profiles;
+      if (dependencies != null) {
+        this.dependencies.addAll(dependencies);
+      }
+      if (elements != null) {
+        this.elements.addAll(elements);
+      }
+      this.outputs = outputs == null ? null : new TreeMap<>(outputs);
+    }
+
+    /**
+     * create entry for translated page object
+     *
+     * @param source   hash of the declaration
+     * @param object   translated page object
+     * @param elements elements of the page object
+     * @return entry or null if some element can't be kept in manifest
+     */
+    static Entry of(String source, PageObjectDeclaration object,
+        Collection<ElementContext> elements) {
+      Map<String, List<String>> profiles = null;
+      if (!object.isInterfaceOnly() && object.isClassWithProfiles()) {
+        profiles = new TreeMap<>();
+        for (Profile profile : object.getImplementation().getProfiles()) {
+          profiles.computeIfAbsent(profile.getName(), key -> new ArrayList<>())
+              .add(profile.getValue());
+        }
+      }
+      String interfaceType = object.getInterface().getInterfaceType().getFullName();
+      Entry entry = new Entry(source,
+          interfaceType,
+          object.isInterfaceOnly() ? null
+              : object.getImplementation().getClassType().getFullName(),
+          object.isInterfaceOnly(),
+          object.isClassWithInterface(),
+          profiles,
+          null,
+          null,
+          null);
+      if (!object.isClassWithInterface()) {
+        // implementation depends on the interface it implements
+        entry.dependencies.add(interfaceType);
+      }
+      for (ElementContext element : elements) {
+        Element summary = Element.of(element);
+        if (summary == null) {
+          return null;
+        }
+        if (element.isCustomElement()) {
+          entry.dependencies.add(element.getType().getFullName());
+        }
+        entry.elements.add(summary);
+      }
+      return entry;
+    }
+
+    @JsonProperty("source")
+    String getSource() {
+      return source;
+    }
+
+    @JsonProperty("interfaceType")
+    String getInterfaceType() {
+      return interfaceType;
+    }
+
+    @JsonProperty("classType")
+    String getClassType() {
+      return classType;
+    }
+
+    @JsonProperty("interfaceOnly")
+    boolean isInterfaceOnly() {
+      return isInterfaceOnly;
+    }
+
+    @JsonProperty("classWithInterface")
+    boolean isClassWithInterface() {
+      return isClassWithInterface;
+    }
+
+    @JsonProperty("profiles")
+    Map<String, List<String>> getProfiles() {
+      return profiles;
+    }
+
+    @JsonProperty("dependencies")
+    Set<String> getDependencies() {
+      return dependencies;
+    }
+
+    @JsonProperty("elements")
+    List<Element> getElements() {
+      return elements;
+    }
+
+    @JsonProperty("outputs")
+    Map<String, String> getOutputs() {
+      return outputs;
+    }
+
+    /**
+     * set hashes of the code written for the page object
+     *
+     * @param code map of generated type name to its code
+     */
+    void setOutputs(Map<String, String> code) {
+      outputs = new TreeMap<>();
+      code.forEach((typeName, content) -> outputs.put(typeName, hash(content)));
+    }
+
+    /**
+     * restore elements to validate them against changed page objects
+     *
+     * @return list of elements
+     */
+    List<ElementContext> getElementContexts() {
+      List<ElementContext> elementContexts = new ArrayList<>();
+      for (Element element : elements) {
+        elementContexts.add(element.getElementContext());
+      }
+      return elementContexts;
+    }
+  }
+
+  /**
+   * element of the page object, only keeps what is used by global guardrails
+   *
+   * @author elizaveta.ivanova
+   */
+  @JsonInclude(Include.NON_NULL)
+  static final class Element {
+
+    private final String name;
+    private final Kind kind;
+    private final String type;
+    private final String selectorType;
+    private final String selector;
+
+    @JsonCreator
+    Element(
+        @JsonProperty(value = "name") String name,
+        @JsonProperty(value = "kind") Kind kind,
+        @JsonProperty(value = "type") String type,
+        @JsonProperty(value = "selectorType") String selectorType,
+        @JsonProperty(value = "selector") String selector) {
+      this.name = name;
+      this.kind = kind;
+      this.type = type;
+      this.selectorType = selectorType;
+      this.selector = selector;
+    }
+
+    static Element of(ElementContext element) {
+      Kind kind = Kind.of(element);
+      if (kind == null) {
+        return null;
+      }
+      String type = null;
+      if (kind == Kind.ROOT) {
+        type = ((ElementContext.Root) element).getEnclosingPageObjectType().getFullName();
+      } else if (kind == Kind.CUSTOM || kind == Kind.BASIC) {
+        type = element.getType().getFullName();
+      }
+      Locator locator = element.getSelector();
+      if (locator == null) {
+        return new Element(element.getName(), kind, type, null, null);
+      }
+      String value = locator.getStringValue();
+      for (Map.Entry<String, Function<String, Locator>> selectorType : LOCATORS.entrySet()) {
+        if (selectorType.getValue().apply(value).equals(locator)) {
+          return new Element(element.getName(), kind, type, selectorType.getKey(), value);
+        }
+      }
+      return null;
+    }
+
+    @JsonProperty("name")
+    String getName() {
+      return name;
+    }
+
+    @JsonProperty("kind")
+    Kind getKind() {
+      return kind;
+    }
+
+    @JsonProperty("type")
+    String getType() {
+      return type;
+    }
+
+    @JsonProperty("selectorType")
+    String getSelectorType() {
+      return selectorType;
+    }
+
+    @JsonProperty("selector")
+    String getSelector() {
+      return selector;
+    }
+
+    ElementContext getElementContext() {
+      Locator locator = selectorType == null ? null : LOCATORS.get(selectorType).apply(selector);
+      switch (kind) {
+        case SELF:
+          return ElementContext.Self.SELF_ELEMENT;
+        case DOCUMENT:
+          return ElementContext.Document.DOCUMENT_ELEMENT;
+        case CONTAINER:
+          return new ElementContext.Container(name);
+        case ROOT:
+          return new ElementContext.Root(new TypeUtilities.FromString(type), locator);
+        case CUSTOM:
+          return new ElementContext.Custom(name, new TypeUtilities.FromString(type), locator);
+        default:
+          return new ElementContext.Basic(name, new TypeUtilities.FromString(type), locator);
+      }
+    }
+  }
+
+  /**
+   * kinds of elements that guardrails distinguish
+   */
+  enum Kind {
+    SELF, DOCUMENT, CONTAINER, ROOT, CUSTOM, BASIC;
+
+    static Kind of(ElementContext element) {
+      if (element.isSelfElement()) {
+        return SELF;
+      }
+      if (element.isDocumentElement()) {
+        return DOCUMENT;
+      }
+      if (element instanceof ElementContext.Container) {
+        return CONTAINER;
+      }
+      if (element.isRootElement()) {
+        return ROOT;
+      }
+      if (element.isCustomElement()) {
+        return CUSTOM;
+      }
+      if (element instanceof ElementContext.Basic) {
+        return BASIC;
+      }
+      return null;
+    }
+  }
+}
@@ -15,20 +15,27 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import utam.compiler.UtamCompilationError;
 import utam.core.declarative.translator.TranslatorSourceConfig;
 import utam.core.framework.consumer.UtamError;
@@ -44,8 +51,10 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
   static final String ERR_MISSING_SOURCE_PATH = "source path for Page Object '%s' is not configured";
   static final String ERR_DUPLICATE_PAGE_OBJECT = "source for Page Object '%s' is already configured";
   static final String ERR_IO_DURING_SCAN = "Error while scanning file(s) path %s";
+  private static final String SCAN_REPORT = "scanned %d file(s) in %d ms, found %d Page Object(s)";
   private static final String PAGE_OBJECT_URI_FORMAT = "%s/pageObjects/%s";
-  private final Map<String, String> sourcePath = new HashMap<>();
+  // filled concurrently by the scanner
+  private final Map<String, String> sourcePath = new ConcurrentHashMap<>();
   private final RecursiveScanner scanner;
   private final ScannerConfig scannerConfig;
 
@@ -71,20 +80,29 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
    * @param fileMaskRegex regex with mask for JSON to extract page object name
    */
   void preProcess(String packageName, Path filePath, String fileMaskRegex) {
+    preProcess(packageName, filePath, Pattern.compile(fileMaskRegex));
+  }
+
+  /**
+   * same as above but with already compiled mask, can be called from multiple threads
+   *
+   * @param packageName name of package is used in matcher
+   * @param filePath    full file path
+   * @param fileMask    compiled mask for JSON to extract page object name
+   */
+  void preProcess(String packageName, Path filePath, Pattern fileMask) {
     info(String.format("found Page Object '%s'", filePath.toString()));
-    String pageObjectURI = getPageObjectURI(packageName, filePath, fileMaskRegex);
-    if (sourcePath.containsKey(pageObjectURI)) {
+    String pageObjectURI = getPageObjectURI(packageName, filePath, fileMask);
+    if (sourcePath.putIfAbsent(pageObjectURI, filePath.toString()) != null) {
       throw new UtamCompilationError(String.format(ERR_DUPLICATE_PAGE_OBJECT, pageObjectURI));
     }
-    sourcePath.put(pageObjectURI, filePath.toString());
   }
 
-  String getPageObjectURI(String packageName, Path filePath, String fileMaskRegex) {
-    final Pattern relativePattern = Pattern.compile(fileMaskRegex);
-    Matcher matcher = relativePattern.matcher(filePath.toString());
+  String getPageObjectURI(String packageName, Path filePath, Pattern fileMask) {
+    Matcher matcher = fileMask.matcher(filePath.toString());
     // gets text inside () of the mask, usually PO file name
     final String relativePath = matcher.find() ? matcher.group(1) : "";
-    final String relativePageObjectName = relativePath.replaceAll(Pattern.quote("."), File.separator);
+    final String relativePageObjectName = relativePath.replace(".", File.separator);
     return String.format(PAGE_OBJECT_URI_FORMAT, packageName, relativePageObjectName);
   }
 
@@ -108,10 +126,14 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
 
   @Override
   public void recursiveScan() {
-    for (String packageName : scannerConfig.getAllPackages()) {
-      String fileMaskRegex = scannerConfig.getFileMask(packageName);
-      scanner.scan(this, packageName, fileMaskRegex);
-    }
+    scan(scannerConfig.getPackageMasks());
+  }
+
+  final void scan(List<PackageMask> masks) {
+    long start = System.currentTimeMillis();
+    long filesVisited = scanner.scan(this, masks);
+    info(String.format(SCAN_REPORT, filesVisited, System.currentTimeMillis() - start,
+        sourcePath.size()));
   }
 
   // for tests
@@ -134,19 +156,79 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
     }
 
     void scan(DefaultSourceConfiguration config, String packageName, String fileMaskRegex) {
-      PathMatcher matcher = FileSystems.getDefault().getPathMatcher("regex:" + fileMaskRegex);
+      scan(config, Collections.singletonList(new PackageMask(packageName, fileMaskRegex)));
+    }
+
+    /**
+     * walk root folder once, subfolders are traversed in parallel and every file is matched
+     * against masks of all packages
+     *
+     * @param config source configuration to collect page objects
+     * @param masks  file masks of the packages
+     * @return number of visited files
+     */
+    long scan(DefaultSourceConfiguration config, List<PackageMask> masks) {
+      if (masks.isEmpty()) {
+        return 0;
+      }
       try {
-        Files.walkFileTree(Paths.get(rootFolder), new SimpleFileVisitor<>() {
-          @Override
-          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-            if (matcher.matches(file)) {
-              config.preProcess(packageName, file, fileMaskRegex);
+        Path root = Paths.get(rootFolder);
+        return ForkJoinPool.commonPool().invoke(new FolderScan(config, masks, root));
+      } catch (UncheckedIOException | NullPointerException e) {
+        throw new UtamCompilationError(String.format(ERR_IO_DURING_SCAN, rootFolder), e);
+      }
+    }
+  }
+
+  // scans one folder, files are matched in place and subfolders are forked
+  private static final class FolderScan extends RecursiveTask<Long> {
+
+    private final DefaultSourceConfiguration config;
+    private final List<PackageMask> masks;
+    private final Path path;
+
+    FolderScan(DefaultSourceConfiguration config, List<PackageMask> masks, Path path) {
+      this.config = config;
+      this.masks = masks;
+      this.path = path;
+    }
+
+    @Override
+    protected Long compute() {
+      List<FolderScan> subFolders = new ArrayList<>();
+      long filesVisited = 0;
+      try {
+        // same as walkFileTree, root can be a file and symbolic links are not followed
+        if (!Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS)
+            .isDirectory()) {
+          visitFile(path);
+          return 1L;
+        }
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(path)) {
+          for (Path child : children) {
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+              subFolders.add(new FolderScan(config, masks, child));
+            } else {
+              visitFile(child);
+              filesVisited++;
             }
-            return FileVisitResult.CONTINUE;
           }
-        });
-      } catch (IOException | NullPointerException e) {
-        throw new UtamCompilationError(String.format(ERR_IO_DURING_SCAN, rootFolder), e);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      invokeAll(subFolders);
+      for (FolderScan subFolder : subFolders) {
+        filesVisited += subFolder.join();
+      }
+      return filesVisited;
+    }
+
+    private void visitFile(Path file) {
+      for (PackageMask mask : masks) {
+        if (mask.matcher.matches(file)) {
+          config.preProcess(mask.packageName, file, mask.pattern);
+        }
       }
     }
   }
@@ -170,11 +252,11 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
     }
 
     @Override
-    void scan(DefaultSourceConfiguration config, String packageName, String fileMaskRegex) {
-      Pattern relativePattern = Pattern.compile(fileMaskRegex);
-      inputFiles.stream()
-          .filter(file -> relativePattern.matcher(file.toString()).matches())
-          .forEach(file -> config.preProcess(packageName, file.toPath(), fileMaskRegex));
+    long scan(DefaultSourceConfiguration config, List<PackageMask> masks) {
+      inputFiles.parallelStream().forEach(file -> masks.stream()
+          .filter(mask -> mask.pattern.matcher(file.toString()).matches())
+          .forEach(mask -> config.preProcess(mask.packageName, file.toPath(), mask.pattern)));
+      return inputFiles.size();
     }
 
   }
@@ -205,6 +287,30 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
     String getFileMask(String packageName) {
       return packagesMapping.get(packageName);
     }
+
+    List<PackageMask> getPackageMasks() {
+      return packagesMapping.entrySet().stream()
+          .map(entry -> new PackageMask(entry.getKey(), entry.getValue()))
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * file mask of the package, compiled once before scanning
+   *
+   * @author elizaveta.ivanova
+   */
+  static final class PackageMask {
+
+    final String packageName;
+    final Pattern pattern;
+    final PathMatcher matcher;
+
+    PackageMask(String packageName, String fileMaskRegex) {
+      this.packageName = packageName;
+      this.pattern = Pattern.compile(fileMaskRegex);
+      this.matcher = FileSystems.getDefault().getPathMatcher("regex:" + fileMaskRegex);
+    }
   }
 
   /**
@@ -215,35 +321,20 @@ public class DefaultSourceConfiguration implements TranslatorSourceConfig {
   static class SourceWithoutPackages extends DefaultSourceConfiguration {
 
     private final String pageObjectFileMask;
-    private final String rootFolder;
     private static final String DEFAULT_PACKAGE_NAME = "utam";
 
     SourceWithoutPackages(String rootFolder, String pageObjectsFileMask) {
       super(new ScannerConfig(pageObjectsFileMask, new HashMap<>()), new RecursiveScanner(rootFolder));
       this.pageObjectFileMask = pageObjectsFileMask;
-      this.rootFolder = rootFolder;
     }
 
     @Override
     public void recursiveScan() {
-      PathMatcher matcher = FileSystems.getDefault().getPathMatcher("regex:" + pageObjectFileMask);
-      try {
-        Files.walkFileTree(Paths.get(rootFolder), new SimpleFileVisitor<>() {
-          @Override
-          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-            if (matcher.matches(file)) {
-              preProcess(DEFAULT_PACKAGE_NAME, file, pageObjectFileMask);
-            }
-            return FileVisitResult.CONTINUE;
-          }
-        });
-      } catch (IOException | NullPointerException e) {
-        throw new UtamCompilationError(String.format(ERR_IO_DURING_SCAN, rootFolder), e);
-      }
+      scan(Collections.singletonList(new PackageMask(DEFAULT_PACKAGE_NAME, pageObjectFileMask)));
     }
 
     @Override
-    String getPageObjectURI(String packageName, Path filePath, String fileMaskRegex) {
+    String getPageObjectURI(String packageName, Path filePath, Pattern fileMask) {
       // this gets filename without file extension
       String fileName = filePath.getFileName().toString().split(Pattern.quote("."))[0];
       return String.format(PAGE_OBJECT_URI_FORMAT, DEFAULT_PACKAGE_NAME, fileName);
@@ -12,8 +12,10 @@ import static utam.core.framework.UtamLogger.info;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.regex.Pattern;
 import utam.core.declarative.representation.TypeProvider;
@@ -30,6 +32,7 @@ public class DefaultTargetConfiguration implements TranslatorTargetConfig {
 
   private static final String SRC_DIRECTORY_MARKER = File.separator + "main" + File.separator;
   private static final String TEST_DIRECTORY_MARKER = File.separator + "test" + File.separator;
+  static final String MANIFEST_FILE_NAME = "utam-manifest.json";
 
   private final String resourcesHomePath;
   private final String targetPath;
@@ -114,6 +117,17 @@ public class DefaultTargetConfiguration implements TranslatorTargetConfig {
     return getWriter(fullPath);
   }
 
+  @Override
+  public Reader getClassReader(TypeProvider pageObjectType) throws IOException {
+    File file = new File(getPageObjectClassPath(pageObjectType));
+    return file.exists() ? new FileReader(file) : null;
+  }
+
+  @Override
+  public String getManifestFilePath() {
+    return targetPath + File.separator + MANIFEST_FILE_NAME;
+  }
+
   String getPageObjectTestClassPath(TypeProvider pageObjectType) {
     return unitTestDirectory
         + File.separator
@@ -39,6 +39,11 @@ public class DefaultTranslatorConfiguration implements TranslatorConfig {
   private final TranslatorTargetConfig translatorTargetConfig;
   private final String moduleName;
   private final GuardrailsMode guardrailsMode;
+  private boolean isFlattenSelectors;
+  private boolean isGenerateBootstrap;
+  private int translationThreads = 1;
+  private boolean isIncremental;
+  private boolean isListGetters;
 
   /**
    * Initializes a new instance of the translator configuration class
@@ -147,6 +152,51 @@ public class DefaultTranslatorConfiguration implements TranslatorConfig {
     this.profileConfigurations.add(profileConfiguration);
   }
 
+  /**
+   * merge selectors of nested light DOM elements with parent selector
+   *
+   * @param isFlattenSelectors true to merge
+   */
+  public void setFlattenSelectors(boolean isFlattenSelectors) {
+    this.isFlattenSelectors = isFlattenSelectors;
+  }
+
+  /**
+   * generate bootstrap method that assigns element fields of a page object in code
+   *
+   * @param isGenerateBootstrap true to generate
+   */
+  public void setGenerateBootstrap(boolean isGenerateBootstrap) {
+    this.isGenerateBootstrap = isGenerateBootstrap;
+  }
+
+  /**
+   * translate page objects concurrently with given number of threads
+   *
+   * @param translationThreads number of threads, values less than 2 mean no concurrency
+   */
+  public void setTranslationThreads(int translationThreads) {
+    this.translationThreads = Math.max(1, translationThreads);
+  }
+
+  /**
+   * only translate page objects that changed since previous run or depend on changed ones
+   *
+   * @param isIncremental true to compile incrementally
+   */
+  public void setIncremental(boolean isIncremental) {
+    this.isIncremental = isIncremental;
+  }
+
+  /**
+   * read values of getters applied to a list of basic elements with one script
+   *
+   * @param isListGetters true to generate list getters
+   */
+  public void setListGetters(boolean isListGetters) {
+    this.isListGetters = isListGetters;
+  }
+
   @Override
   public TranslatorSourceConfig getConfiguredSource() {
     return translatorSourceConfig;
@@ -176,4 +226,29 @@ public class DefaultTranslatorConfiguration implements TranslatorConfig {
   public GuardrailsMode getValidationMode() {
     return guardrailsMode;
   }
+
+  @Override
+  public boolean isFlattenSelectors() {
+    return isFlattenSelectors;
+  }
+
+  @Override
+  public boolean isGenerateBootstrap() {
+    return isGenerateBootstrap;
+  }
+
+  @Override
+  public int getTranslationThreads() {
+    return translationThreads;
+  }
+
+  @Override
+  public boolean isIncremental() {
+    return isIncremental;
+  }
+
+  @Override
+  public boolean isListGetters() {
+    return isListGetters;
+  }
 }
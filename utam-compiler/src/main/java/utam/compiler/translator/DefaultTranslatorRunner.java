@@ -10,17 +10,33 @@ package utam.compiler.translator;
 import static utam.core.framework.UtamLogger.info;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 
+import com.google.common.io.CharStreams;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import utam.compiler.UtamCompilationError;
 import utam.compiler.grammar.JsonDeserializer;
 import utam.compiler.guardrails.GlobalValidation;
+import utam.compiler.helpers.TypeUtilities;
 import utam.core.declarative.representation.PageObjectClass;
 import utam.core.declarative.representation.PageObjectDeclaration;
 import utam.core.declarative.representation.PageObjectInterface;
@@ -32,6 +48,7 @@ import utam.core.declarative.translator.TranslatorSourceConfig;
 import utam.core.declarative.translator.TranslatorTargetConfig;
 import utam.core.declarative.translator.UnitTestRunner;
 import utam.core.framework.consumer.UtamError;
+import utam.core.framework.context.BeanIndex;
 import utam.core.framework.context.Profile;
 
 /**
@@ -51,12 +68,24 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
   static final String DUPLICATE_IMPL_WITH_PROFILE_ERR =
       "default implementation for type '%s' is already set as '%s' for profile '%s'";
   static final String PROFILE_NOT_CONFIGURED_ERR = "profile '%s' is not configured";
+  static final String ERR_CONCURRENT_TRANSLATION = "error while translating page objects concurrently";
+  // generation time in class javadoc is different for every run and is ignored when comparing files
+  private static final Pattern GENERATION_TIME =
+      Pattern.compile("@author UTAM \\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}");
   private final TranslatorConfig translatorConfig;
   private final Map<String, PageObjectDeclaration> generated = new HashMap<>();
   private final Map<Profile, Map<String, String>> profilesMapping = new HashMap<>();
   private final Profile defaultProfile;
   // max number of POs to generate for generator performance measurements
   private int maxPageObjectsCounter = Integer.MAX_VALUE;
+  // number of scope links removed by merging selectors for all page objects
+  private int flattenedLinksCounter = 0;
+  // number of page object files that were not written by last write because they did not change
+  private int skippedFilesCounter = 0;
+  // manifest of the current compilation, null if compilation is not incremental
+  private CompilerManifest manifest;
+  // hashes of declarations, only computed for incremental compilation
+  private final Map<String, String> sourceHashes = new HashMap<>();
 
   public DefaultTranslatorRunner(TranslatorConfig translatorConfig) {
     this.translatorConfig = translatorConfig;
@@ -89,6 +118,7 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
   public void write() throws IOException {
     int counter = 0;
     int filesCounter = 0;
+    skippedFilesCounter = 0;
     long timer = System.currentTimeMillis();
     for (String name : getGeneratedPageObjectsNames()) {
       if (counter >= maxPageObjectsCounter) {
@@ -96,12 +126,19 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
       }
       PageObjectDeclaration object = getGeneratedObject(name);
       PageObjectInterface pageObjectInterface = object.getInterface();
+      // generated type name to code, kept in manifest
+      Map<String, String> outputs = new HashMap<>();
       if (object.isClassWithInterface()) {
         info(
             String.format(
                 "write interface %s", pageObjectInterface.getInterfaceType().getFullName()));
-        write(pageObjectInterface.getInterfaceType(), pageObjectInterface.getApiCode());
-        filesCounter++;
+        if (write(pageObjectInterface.getInterfaceType(), pageObjectInterface.getApiCode())) {
+          filesCounter++;
+        } else {
+          skippedFilesCounter++;
+        }
+        outputs.put(pageObjectInterface.getInterfaceType().getFullName(),
+            pageObjectInterface.getApiCode());
       } else {
         info(
             String.format(
@@ -112,16 +149,43 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
         info(
             String.format(
                 "write class %s", object.getImplementation().getClassType().getFullName()));
-        write(object.getImplementation().getClassType(), object.getImplementation().getImplCode());
-        filesCounter++;
-        if (writeUnitTest(object.getImplementation())) {
+        if (write(object.getImplementation().getClassType(),
+            object.getImplementation().getImplCode())) {
           filesCounter++;
+        } else {
+          skippedFilesCounter++;
         }
+        outputs.put(object.getImplementation().getClassType().getFullName(),
+            object.getImplementation().getImplCode());
+        if (getTargetConfig().getUnitTestRunnerType() != UnitTestRunner.NONE) {
+          if (writeUnitTest(object.getImplementation())) {
+            filesCounter++;
+          } else {
+            skippedFilesCounter++;
+          }
+        }
+      }
+      if (manifest != null && manifest.get(name) != null) {
+        manifest.get(name).setOutputs(outputs);
       }
       counter++;
     }
-    info(String.format("generated %d files for %d page objects, took %d msec", filesCounter, counter,
-        System.currentTimeMillis() - timer));
+    if (manifest != null) {
+      manifest.write(getTargetConfig().getManifestFilePath());
+    }
+    info(String.format(
+        "generated %d files for %d page objects, %d files did not change and were skipped, took %d msec",
+        filesCounter, counter, skippedFilesCounter, System.currentTimeMillis() - timer));
+  }
+
+  // used in tests
+  final int getFlattenedLinksCount() {
+    return flattenedLinksCounter;
+  }
+
+  // used in tests
+  final int getSkippedFilesCount() {
+    return skippedFilesCounter;
   }
 
   // set max number of POs to generate for generator performance measurements
@@ -129,36 +193,52 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     this.maxPageObjectsCounter = number;
   }
 
-  // returns true if new file was written
+  // returns true if new file was written, false if unit test already exists
   private boolean writeUnitTest(PageObjectClass impl) throws IOException {
-    if (translatorConfig.getConfiguredTarget().getUnitTestRunnerType() == UnitTestRunner.NONE) {
-      return false;
-    }
     TypeProvider typeProvider = impl.getClassType();
     Writer writer = getTargetConfig().getUnitTestWriter(typeProvider);
     // Legitimate case for writer == null is that the runner configuration
     // wants to write unit tests, but skip files that already exist.
-    if (writer != null) {
-      try {
-        info(String.format("generating unit test for %s", typeProvider.getFullName()));
-        writer.write(impl.getGeneratedUnitTestCode(
-            translatorConfig.getConfiguredTarget().getUnitTestRunnerType()));
-        writer.flush();
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+    if (writer == null) {
+      return false;
+    }
+    try (Writer unitTestWriter = writer) {
+      info(String.format("generating unit test for %s", typeProvider.getFullName()));
+      unitTestWriter.write(impl.getGeneratedUnitTestCode(
+          translatorConfig.getConfiguredTarget().getUnitTestRunnerType()));
+      unitTestWriter.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
     }
     return true;
   }
 
-  private void write(TypeProvider typeProvider, String code) throws IOException {
-    Writer writer = getTargetConfig().getClassWriter(typeProvider);
-    try {
+  // returns false if existing file already has same content, then it's not rewritten to keep its
+  // timestamp and not trigger recompilation of the generated sources
+  private boolean write(TypeProvider typeProvider, String code) throws IOException {
+    Reader existing = getTargetConfig().getClassReader(typeProvider);
+    if (existing != null && CompilerManifest.hash(withoutGenerationTime(existing))
+        .equals(CompilerManifest.hash(withoutGenerationTime(code)))) {
+      info(String.format("file for %s did not change", typeProvider.getFullName()));
+      return false;
+    }
+    try (Writer writer = getTargetConfig().getClassWriter(typeProvider)) {
       writer.write(code);
       writer.flush();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
+    return true;
+  }
+
+  private static String withoutGenerationTime(Reader reader) throws IOException {
+    try (Reader content = reader) {
+      return withoutGenerationTime(CharStreams.toString(content));
+    }
+  }
+
+  private static String withoutGenerationTime(String code) {
+    return GENERATION_TIME.matcher(code).replaceAll("@author UTAM");
   }
 
   private TranslatorTargetConfig getTargetConfig() {
@@ -167,25 +247,159 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
 
   @Override
   public void run() {
-    int counter = 0;
     long timer = System.currentTimeMillis();
     TranslatorSourceConfig sourceConfig = translatorConfig.getConfiguredSource();
     GlobalValidation globalGuardrails = new GlobalValidation(translatorConfig.getValidationMode());
     sourceConfig.recursiveScan();
-    for (String pageObjectURI : sourceConfig.getPageObjects()) {
-      if (counter >= maxPageObjectsCounter) {
-        break;
+    List<String> pageObjects = new ArrayList<>(sourceConfig.getPageObjects());
+    // order of results, of reported errors and of page objects limited by max counter should not
+    // depend on threads or on the order of scanned files
+    Collections.sort(pageObjects);
+    int threads = translatorConfig.getTranslationThreads();
+    if (pageObjects.size() > maxPageObjectsCounter) {
+      pageObjects = pageObjects.subList(0, maxPageObjectsCounter);
+    }
+    if (translatorConfig.isIncremental()) {
+      pageObjects = setNotChanged(pageObjects, globalGuardrails);
+    }
+    if (threads > 1) {
+      List<Translation> translations = translateConcurrently(pageObjects, threads);
+      for (Translation translation : translations) {
+        setTranslated(translation.getPageObjectURI(), translation.get(), globalGuardrails);
+      }
+    } else {
+      for (String pageObjectURI : pageObjects) {
+        setTranslated(pageObjectURI, translate(pageObjectURI), globalGuardrails);
       }
-      info(String.format("de-serialize Page Object %s", pageObjectURI));
-      JsonDeserializer deserializer = new JsonDeserializer(translatorConfig, sourceConfig, pageObjectURI);
-      PageObjectDeclaration object = deserializer.getObject();
-      setPageObject(pageObjectURI, object);
-      deserializer.getPageObjectContext().setGlobalGuardrailsContext(globalGuardrails);
-      counter++;
     }
     globalGuardrails.validate();
-    info(String.format("generated %d page objects, took %d msec", counter,
+    info(String.format("generated %d page objects, took %d msec", pageObjects.size(),
         System.currentTimeMillis() - timer));
+    if (translatorConfig.isFlattenSelectors()) {
+      info(String.format("merged selectors removed %d scope links", flattenedLinksCounter));
+    }
+  }
+
+  private JsonDeserializer translate(String pageObjectURI) {
+    info(String.format("de-serialize Page Object %s", pageObjectURI));
+    return new JsonDeserializer(translatorConfig, translatorConfig.getConfiguredSource(),
+        pageObjectURI);
+  }
+
+  // page objects are translated in parallel, but shared state is only changed from calling thread
+  private List<Translation> translateConcurrently(List<String> pageObjects, int threads) {
+    List<Translation> translations = pageObjects.stream()
+        .map(Translation::new)
+        .collect(Collectors.toList());
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      pool.submit(() -> translations.parallelStream().forEach(Translation::translate)).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UtamCompilationError(ERR_CONCURRENT_TRANSLATION, e);
+    } catch (ExecutionException e) {
+      throw new UtamCompilationError(ERR_CONCURRENT_TRANSLATION, e);
+    } finally {
+      pool.shutdown();
+    }
+    return translations;
+  }
+
+  // page objects that did not change since previous compilation are restored from manifest,
+  // returns page objects that have to be translated
+  private List<String> setNotChanged(List<String> pageObjects, GlobalValidation globalGuardrails) {
+    String manifestPath = getTargetConfig().getManifestFilePath();
+    if (manifestPath == null) {
+      info("target configuration does not support incremental compilation");
+      return pageObjects;
+    }
+    String configuration = CompilerManifest.getConfiguration(translatorConfig);
+    CompilerManifest previous = CompilerManifest.read(manifestPath, configuration);
+    manifest = new CompilerManifest(configuration);
+    for (String pageObjectURI : pageObjects) {
+      sourceHashes.put(pageObjectURI, getSourceHash(pageObjectURI));
+    }
+    Set<String> changed = previous.getChanged(sourceHashes,
+        pageObjectURI -> translatorConfig.getTranslationTypesConfig()
+            .getInterfaceType(pageObjectURI).getFullName(),
+        this::isOutputChanged);
+    List<String> toTranslate = new ArrayList<>();
+    for (String pageObjectURI : pageObjects) {
+      if (changed.contains(pageObjectURI)) {
+        toTranslate.add(pageObjectURI);
+      } else {
+        CompilerManifest.Entry entry = previous.get(pageObjectURI);
+        setProfilesMapping(entry.getInterfaceType(), entry.getClassType(),
+            entry.isInterfaceOnly(), entry.isClassWithInterface(),
+            getConfiguredProfiles(entry.getProfiles()));
+        globalGuardrails.setCachedPageObjectElements(pageObjectURI, entry.getElementContexts());
+        manifest.put(pageObjectURI, entry);
+      }
+    }
+    info(String.format("%d page objects changed or depend on changed, %d did not change",
+        toTranslate.size(), pageObjects.size() - toTranslate.size()));
+    return toTranslate;
+  }
+
+  // null if declaration can't be read, then it is translated to report error
+  private String getSourceHash(String pageObjectURI) {
+    try {
+      return CompilerManifest.hash(
+          translatorConfig.getConfiguredSource().getDeclarationReader(pageObjectURI));
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private boolean isOutputChanged(CompilerManifest.Entry entry) {
+    for (Map.Entry<String, String> output : entry.getOutputs().entrySet()) {
+      try {
+        Reader reader = getTargetConfig()
+            .getClassReader(new TypeUtilities.FromString(output.getKey()));
+        if (reader == null || !output.getValue().equals(CompilerManifest.hash(reader))) {
+          return true;
+        }
+      } catch (IOException e) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private List<Profile> getConfiguredProfiles(Map<String, List<String>> profiles) {
+    if (profiles == null) {
+      return null;
+    }
+    List<Profile> configured = new ArrayList<>();
+    profiles.forEach((name, values) -> {
+      ProfileConfiguration configuration = translatorConfig.getConfiguredProfiles().stream()
+          .filter(profileConfiguration -> profileConfiguration.getPropertyKey().equals(name))
+          .findAny()
+          .orElseThrow(() -> new UtamError(String.format(PROFILE_NOT_CONFIGURED_ERR, name)));
+      values.forEach(value -> configured.add(configuration.getFromString(value)));
+    });
+    return configured;
+  }
+
+  private void setTranslated(String pageObjectURI, JsonDeserializer deserializer,
+      GlobalValidation globalGuardrails) {
+    PageObjectDeclaration object = deserializer.getObject();
+    setPageObject(pageObjectURI, object);
+    deserializer.getPageObjectContext().setGlobalGuardrailsContext(globalGuardrails);
+    if (manifest != null) {
+      CompilerManifest.Entry entry = CompilerManifest.Entry.of(sourceHashes.get(pageObjectURI),
+          object, deserializer.getPageObjectContext().getElements());
+      // page object that can't be kept in manifest is translated every time
+      if (entry != null) {
+        manifest.put(pageObjectURI, entry);
+      }
+    }
+    int flattened = deserializer.getPageObjectContext().getFlattenedLinksCount();
+    if (flattened > 0) {
+      info(String.format("merged selectors in Page Object %s, removed %d scope links",
+          pageObjectURI, flattened));
+      flattenedLinksCounter += flattened;
+    }
   }
 
   final String getResourcesRoot() {
@@ -203,13 +417,20 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
   public void writeDependenciesConfigs() {
     String profilesRoot = getResourcesRoot() + File.separator;
     String moduleName = translatorConfig.getModuleName();
+    Map<String, Map<String, String>> indexToWrite = new HashMap<>();
+    int filesCounter = 0;
+    int skippedFilesCounter = 0;
     for (Profile profile : getAllProfiles()) {
       Properties configToWrite = getProfileMapping(profile);
       if (!configToWrite.isEmpty()) {
+        indexToWrite.put(profile.getConfigName(moduleName), profilesMapping.get(profile));
         String profileConfigPath = profilesRoot + String.format("%s.properties", profile.getConfigName(moduleName));
         try {
-          Writer writer = new FileWriter(profileConfigPath);
-          configToWrite.store(writer, "profile configuration");
+          if (writeIfChanged(profileConfigPath, getPropertiesContent(configToWrite))) {
+            filesCounter++;
+          } else {
+            skippedFilesCounter++;
+          }
         } catch (IOException e) {
           throw new UtamCompilationError(
               String.format("error while writing profile configuration '%s'", profileConfigPath),
@@ -217,6 +438,57 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
         }
       }
     }
+    // properties files are still written for loaders that do not read index
+    String indexPath = profilesRoot + BeanIndex.getIndexName(moduleName);
+    ByteArrayOutputStream index = new ByteArrayOutputStream();
+    BeanIndex.write(indexToWrite, index);
+    try {
+      if (writeIfChanged(indexPath, index.toByteArray())) {
+        filesCounter++;
+      } else {
+        skippedFilesCounter++;
+      }
+    } catch (IOException e) {
+      throw new UtamCompilationError(
+          String.format("error while writing beans index '%s'", indexPath), e);
+    }
+    info(String.format("written %d profiles configuration files, %d did not change and were skipped",
+        filesCounter, skippedFilesCounter));
+  }
+
+  /**
+   * content of the profile configuration, same as Properties.store but without comments with
+   * timestamp and with sorted keys, so that same mapping always produces same file
+   *
+   * @param properties profile mapping
+   * @return bytes to write
+   * @throws IOException if properties can't be stored
+   */
+  static byte[] getPropertiesContent(Properties properties) throws IOException {
+    ByteArrayOutputStream stored = new ByteArrayOutputStream();
+    properties.store(stored, null);
+    // every stored entry is a single line, keys starting with comment symbol are escaped
+    List<String> lines = new ArrayList<>();
+    for (String line : stored.toString(StandardCharsets.ISO_8859_1.name())
+        .split(System.lineSeparator())) {
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        lines.add(line);
+      }
+    }
+    Collections.sort(lines);
+    StringBuilder content = new StringBuilder();
+    lines.forEach(line -> content.append(line).append(System.lineSeparator()));
+    return content.toString().getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  // returns false if file already has same content
+  private static boolean writeIfChanged(String path, byte[] content) throws IOException {
+    Path file = Paths.get(path);
+    if (Files.exists(file) && Arrays.equals(Files.readAllBytes(file), content)) {
+      return false;
+    }
+    Files.write(file, content);
+    return true;
   }
 
   final Properties getProfileMapping(Profile profile) {
@@ -235,24 +507,36 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     }
     generated.put(name, object);
     String typeName = object.getInterface().getInterfaceType().getFullName();
-    // interface only
     if (object.isInterfaceOnly()) {
+      setProfilesMapping(typeName, null, true, false, null);
+      return;
+    }
+    PageObjectClass implementation = object.getImplementation();
+    setProfilesMapping(typeName, implementation.getClassType().getFullName(), false,
+        object.isClassWithInterface(),
+        object.isClassWithProfiles() ? Arrays.asList(implementation.getProfiles()) : null);
+  }
+
+  // profiles are null if class does not have profiles
+  private void setProfilesMapping(String typeName, String classTypeName, boolean isInterfaceOnly,
+      boolean isClassWithInterface, List<Profile> profiles) {
+    // interface only
+    if (isInterfaceOnly) {
       setInterfaceOnly(typeName);
       return;
     }
-    String classTypeName = object.getImplementation().getClassType().getFullName();
     // default case - same file has both api and impl
-    if (object.isClassWithInterface()) {
+    if (isClassWithInterface) {
       // no profiles are set, it's default case, no need to do anything
       return;
     }
     // class implements other interface and does not have profiles
-    if (!object.isClassWithProfiles()) {
+    if (profiles == null) {
       setImplOnly(typeName, classTypeName);
       return;
     }
     // class that implements other interface and has profiles
-    for (Profile profile : object.getImplementation().getProfiles()) {
+    for (Profile profile : profiles) {
       setImplOnlyForProfile(profile, typeName, classTypeName);
     }
   }
@@ -287,4 +571,38 @@ public class DefaultTranslatorRunner implements TranslatorRunner {
     }
     profilesMapping.get(profile).put(typeName, classTypeName);
   }
+
+  /**
+   * result of the page object translation in one of the threads, error is kept to be thrown in
+   * order of page objects
+   */
+  private final class Translation {
+
+    private final String pageObjectURI;
+    private JsonDeserializer deserializer;
+    private RuntimeException error;
+
+    Translation(String pageObjectURI) {
+      this.pageObjectURI = pageObjectURI;
+    }
+
+    void translate() {
+      try {
+        deserializer = DefaultTranslatorRunner.this.translate(pageObjectURI);
+      } catch (RuntimeException e) {
+        error = e;
+      }
+    }
+
+    String getPageObjectURI() {
+      return pageObjectURI;
+    }
+
+    JsonDeserializer get() {
+      if (error != null) {
+        throw error;
+      }
+      return deserializer;
+    }
+  }
 }
@@ -79,6 +79,30 @@ public class JsonCompilerConfig {
     return moduleConfig.moduleName;
   }
 
+  public boolean isFlattenSelectors() {
+    return moduleConfig.isFlattenSelectors;
+  }
+
+  public boolean isGenerateBootstrap() {
+    return moduleConfig.isGenerateBootstrap;
+  }
+
+  public int getTranslationThreads() {
+    return moduleConfig.translationThreads;
+  }
+
+  public boolean isIncremental() {
+    return moduleConfig.isIncremental;
+  }
+
+  public boolean isListGetters() {
+    return moduleConfig.isListGetters;
+  }
+
+  public String getPageObjectsRootDirectory() {
+    return filePathsRoot + moduleConfig.pageObjectsRootDirectory;
+  }
+
   // for tests
   Module getModule() {
     return moduleConfig;
@@ -103,6 +127,11 @@ public class JsonCompilerConfig {
     private final String resourcesOutputDir;
     private final String unitTestsOutputDir;
     private final UnitTestRunner unitTestRunnerType;
+    private final boolean isFlattenSelectors;
+    private final boolean isGenerateBootstrap;
+    private final int translationThreads;
+    private final boolean isIncremental;
+    private final boolean isListGetters;
 
     /**
      * Initializes a new instance of the Module class. Instantiated via JSON deserialization.
@@ -122,6 +151,16 @@ public class JsonCompilerConfig {
      *                                 within the module
      * @param profiles                 an array of Profile objects representing the profiles used in
      *                                 JSON files of the module
+     * @param isFlattenSelectors       if true, selectors of nested light DOM elements are merged
+     *                                 with parent selector, default is false
+     * @param isGenerateBootstrap      if true, page objects assign element fields in generated
+     *                                 bootstrap method, default is false
+     * @param translationThreads       number of threads to translate page objects concurrently,
+     *                                 default is 1
+     * @param isIncremental            if true, only page objects that changed since previous run
+     *                                 and their dependents are translated, default is false
+     * @param isListGetters            if true, getters applied to a list of basic elements read
+     *                                 all values with one script, default is false
      */
     @JsonCreator
     public Module(
@@ -133,7 +172,12 @@ public class JsonCompilerConfig {
         @JsonProperty(value = "unitTestsOutputDir") final String unitTestDirectory,
         @JsonProperty(value = "unitTestsRunner", defaultValue = "NONE") UnitTestRunner unitTestRunner,
         @JsonProperty(value = "namespaces") List<Namespace> namespaces,
-        @JsonProperty(value = "profiles") List<Profile> profiles
+        @JsonProperty(value = "profiles") List<Profile> profiles,
+        @JsonProperty(value = "flattenSelectors") Boolean isFlattenSelectors,
+        @JsonProperty(value = "generateBootstrap") Boolean isGenerateBootstrap,
+        @JsonProperty(value = "translationThreads") Integer translationThreads,
+        @JsonProperty(value = "incremental") Boolean isIncremental,
+        @JsonProperty(value = "listGetters") Boolean isListGetters
     ) {
       this.moduleName = Objects.requireNonNullElse(moduleName, "");
       this.pageObjectsRootDirectory = pageObjectsRootDirectory;
@@ -144,6 +188,11 @@ public class JsonCompilerConfig {
       this.resourcesOutputDir = resourcesOutputDir;
       this.unitTestsOutputDir = validateUnitTestDirectory(unitTestRunner, unitTestDirectory);
       this.unitTestRunnerType = Objects.requireNonNullElse(unitTestRunner, NONE);
+      this.isFlattenSelectors = Boolean.TRUE.equals(isFlattenSelectors);
+      this.isGenerateBootstrap = Boolean.TRUE.equals(isGenerateBootstrap);
+      this.translationThreads = Objects.requireNonNullElse(translationThreads, 1);
+      this.isIncremental = Boolean.TRUE.equals(isIncremental);
+      this.isListGetters = Boolean.TRUE.equals(isListGetters);
     }
 
     void setUniqueProfiles(List<Profile> profiles) {
@@ -171,7 +220,12 @@ public class JsonCompilerConfig {
           null,
           null,
           new ArrayList<>(),
-          new ArrayList<>());
+          new ArrayList<>(),
+          null,
+          null,
+          null,
+          null,
+          null);
     }
 
     // used in tests
@@ -184,7 +238,12 @@ public class JsonCompilerConfig {
           null,
           null,
           new ArrayList<>(),
-          new ArrayList<>());
+          new ArrayList<>(),
+          null,
+          null,
+          null,
+          null,
+          null);
     }
 
     public TranslatorSourceConfig getSourceConfig(String compilerRootFolderName) {
@@ -295,6 +354,52 @@ public class JsonCompilerConfig {
     public UnitTestRunner getUnitTestRunnerType() {
       return unitTestRunnerType;
     }
+
+    /**
+     * if true, selectors of nested light DOM elements are merged with parent selector
+     *
+     * @return boolean
+     */
+    public boolean isFlattenSelectors() {
+      return isFlattenSelectors;
+    }
+
+    /**
+     * if true, page objects assign element fields in generated bootstrap method
+     *
+     * @return boolean
+     */
+    public boolean isGenerateBootstrap() {
+      return isGenerateBootstrap;
+    }
+
+    /**
+     * number of threads to translate page objects concurrently
+     *
+     * @return number of threads
+     */
+    public int getTranslationThreads() {
+      return translationThreads;
+    }
+
+    /**
+     * if true, only page objects that changed since previous run and their dependents are
+     * translated
+     *
+     * @return boolean
+     */
+    public boolean isIncremental() {
+      return isIncremental;
+    }
+
+    /**
+     * if true, getters applied to a list of basic elements read all values with one script
+     *
+     * @return boolean
+     */
+    public boolean isListGetters() {
+      return isListGetters;
+    }
   }
 
   /**
@@ -9,20 +9,26 @@ package utam.compiler.translator;
 
 import static utam.compiler.translator.DefaultTranslatorConfiguration.getConfiguredProfiles;
 import static utam.compiler.translator.DefaultTranslatorConfiguration.getScanner;
+import static utam.compiler.translator.CompilerDaemon.TOKEN_FILE_NAME;
 import static utam.compiler.translator.DefaultTranslatorConfiguration.getScannerConfig;
 import static utam.core.declarative.translator.GuardrailsMode.WARNING;
 import static utam.core.declarative.translator.UnitTestRunner.NONE;
 import static utam.core.declarative.translator.UnitTestRunner.validateUnitTestDirectory;
+import static utam.core.framework.UtamLogger.info;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.ExitCode;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
+import utam.compiler.UtamCompilationError;
 import utam.core.declarative.translator.GuardrailsMode;
 import utam.core.declarative.translator.ProfileConfiguration;
 import utam.core.declarative.translator.TranslatorConfig;
@@ -46,6 +52,8 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
   static final String PACKAGE_CONFIG_MISSING = "Packages mapping is not configured";
   static final String REDUNDANT_CLI_ARGS = "If JSON file is set, all other arguments are ignored";
   static final String ERR_COMPILER_CONFIG_NEEDS_ROOT = "To resolve configuration paths, set compilerRoot";
+  static final String ERR_WATCH_NEEDS_DIRECTORY =
+      "To watch for changes, set input directory instead of a list of files";
 
   @Option(names = {"-f", "-config", "--config"},
       description = "JSON file with configuration. "
@@ -96,6 +104,37 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
       description = "Defines how strict should be guardrails violations, possible values: 'error' or 'warning'")
   private String validationStrict;
 
+  @Option(names = {"-s", "-flattenSelectors", "--flattenSelectors"},
+      description = "Merge selectors of nested elements that do not cross shadow boundary with parent selector.")
+  private boolean isFlattenSelectors;
+
+  @Option(names = {"-b", "-generateBootstrap", "--generateBootstrap"},
+      description = "Generate method that assigns elements of a Page Object in code instead of runtime annotations scanning.")
+  private boolean isGenerateBootstrap;
+
+  @Option(names = {"-t", "-translationThreads", "--translationThreads"},
+      description = "Number of threads to translate Page Objects concurrently, default is 1.")
+  private int translationThreads = 1;
+
+  @Option(names = {"-a", "-incremental", "--incremental"},
+      description = "Only translate Page Objects that changed since previous run or depend on changed ones.")
+  private boolean isIncremental;
+
+  @Option(names = {"-e", "-listGetters", "--listGetters"},
+      description = "Read values of getters applied to a list of basic elements with one script, values are read from browser properties.")
+  private boolean isListGetters;
+
+  @Option(names = {"-w", "-watch", "--watch"},
+      description = "Keep running after compilation and recompile changed Page Objects when declarations in input directory are saved.")
+  private boolean isWatch;
+
+  @Option(names = {"-l", "-listenPort", "--listenPort"},
+      description = "Keep running after compilation and accept 'compile' and 'stop' requests on this local port. First line of every connection should be the token from utam-daemon.token file in output directory.")
+  private Integer listenPort;
+
+  // folder with declarations to watch for changes
+  private String pageObjectsRootDirectory;
+
   private Exception thrownError;
   Integer returnCode = CommandLine.ExitCode.OK;
 
@@ -127,7 +166,15 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
       TranslatorSourceConfig sourceConfig = jsonConfig.getSourceConfig();
       TranslatorTargetConfig targetConfig = jsonConfig.getTargetConfig();
       List<ProfileConfiguration> profiles = jsonConfig.getConfiguredProfiles();
-      return new DefaultTranslatorConfiguration(jsonConfig.getModuleName(), WARNING, sourceConfig, targetConfig, profiles);
+      DefaultTranslatorConfiguration config = new DefaultTranslatorConfiguration(
+          jsonConfig.getModuleName(), WARNING, sourceConfig, targetConfig, profiles);
+      config.setFlattenSelectors(jsonConfig.isFlattenSelectors());
+      config.setGenerateBootstrap(jsonConfig.isGenerateBootstrap());
+      config.setTranslationThreads(jsonConfig.getTranslationThreads());
+      config.setIncremental(jsonConfig.isIncremental() || isDaemon());
+      config.setListGetters(jsonConfig.isListGetters());
+      pageObjectsRootDirectory = jsonConfig.getPageObjectsRootDirectory();
+      return config;
     } catch (IOException e) {
       thrownError = e;
       returnCode = RUNTIME_ERR;
@@ -192,12 +239,19 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
 
       GuardrailsMode guardrailsMode = validationStrict == null? WARNING : GuardrailsMode.valueOf(validationStrict.toUpperCase());
 
-      return new DefaultTranslatorConfiguration(
+      DefaultTranslatorConfiguration config = new DefaultTranslatorConfiguration(
           moduleName,
           guardrailsMode,
           sourceConfig,
           targetConfig,
           getConfiguredProfiles(profileDefinitionsFile));
+      config.setFlattenSelectors(isFlattenSelectors);
+      config.setGenerateBootstrap(isGenerateBootstrap);
+      config.setTranslationThreads(translationThreads);
+      config.setIncremental(isIncremental || isDaemon());
+      config.setListGetters(isListGetters);
+      pageObjectsRootDirectory = inputDirectory == null ? null : inputDirectory.toString();
+      return config;
 
     } catch (IOException e) {
       thrownError = e;
@@ -213,12 +267,60 @@ public class TranslatorGenerationCommand implements Callable<Integer> {
     return setConfigFromCommandLineArgs();
   }
 
+  // daemon keeps running and recompiles incrementally
+  private boolean isDaemon() {
+    return isWatch || listenPort != null;
+  }
+
+  // token is written next to generated page objects
+  private static Path getTokenFile(TranslatorConfig translatorConfig) {
+    String manifestPath = translatorConfig.getConfiguredTarget().getManifestFilePath();
+    Path outputDirectory = manifestPath != null ? Paths.get(manifestPath).getParent()
+        : Paths.get(translatorConfig.getConfiguredTarget().getInjectionConfigRootFilePath());
+    return outputDirectory.resolve(TOKEN_FILE_NAME);
+  }
+
+  private Integer runDaemon(TranslatorConfig translatorConfig) {
+    if (isWatch && pageObjectsRootDirectory == null) {
+      thrownError = new UtamCompilationError(ERR_WATCH_NEEDS_DIRECTORY);
+      return CONFIG_ERR;
+    }
+    // first compilation uses already created configuration, then configuration is created for
+    // every compilation to scan sources again
+    AtomicReference<TranslatorConfig> parsedConfig = new AtomicReference<>(translatorConfig);
+    try (CompilerDaemon daemon = new CompilerDaemon(() -> {
+      TranslatorConfig config = parsedConfig.getAndSet(null);
+      return config != null ? config : getTranslationConfig();
+    })) {
+      info(daemon.compile());
+      if (listenPort != null) {
+        daemon.listen(listenPort, getTokenFile(translatorConfig));
+      }
+      if (isWatch) {
+        daemon.watch(Paths.get(pageObjectsRootDirectory));
+      } else {
+        daemon.await();
+      }
+      return CommandLine.ExitCode.OK;
+    } catch (IOException e) {
+      thrownError = e;
+      return RUNTIME_ERR;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CommandLine.ExitCode.OK;
+    }
+  }
+
   @Override
   public Integer call() {
     TranslatorConfig translatorConfig = getTranslationConfig();
     if (translatorConfig == null) {
       return returnCode; //error during configuration, exit
     }
+    if (isDaemon()) {
+      returnCode = runDaemon(translatorConfig);
+      return returnCode;
+    }
     try {
       TranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
       translator.run();
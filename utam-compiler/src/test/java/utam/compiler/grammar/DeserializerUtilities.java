@@ -33,8 +33,12 @@ public class DeserializerUtilities {
   private final String type;
 
   public DeserializerUtilities() {
+    this(getDefaultConfig());
+  }
+
+  DeserializerUtilities(TranslatorConfig translatorConfig) {
     this.type = TEST_URI;
-    this.translatorConfig = getDefaultConfig();
+    this.translatorConfig = translatorConfig;
   }
 
   private static String readJSON(String fileName) {
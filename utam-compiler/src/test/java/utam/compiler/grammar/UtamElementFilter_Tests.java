@@ -204,7 +204,7 @@ public class UtamElementFilter_Tests {
         "element(this.element)"
             + ".buildList(ElementElement.class, ElementElementImpl.class, "
             + "elm -> { String tmp = elm.getAttribute(arg2);\n"
-            + "return tmp!= null && tmp.contains(arg3); }, arg1)");
+            + "return tmp!= null && tmp.contains(arg3); }, new ElementFilter(\"getAttribute\", \"stringContains\", arg2,arg3), arg1)");
     methodInfo.setIsPublic(false);
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
   }
@@ -223,7 +223,7 @@ public class UtamElementFilter_Tests {
     methodInfo.addParameter(
         new PageObjectValidationTestHelper.MethodParameterInfo("arg2", "String"));
     methodInfo.addCodeLines(
-        "element(this.element).build(ElementElement.class, ElementElementImpl.class, elm -> Boolean.FALSE.equals(elm.isVisible()), arg1,arg2)");
+        "element(this.element).build(ElementElement.class, ElementElementImpl.class, elm -> Boolean.FALSE.equals(elm.isVisible()), new ElementFilter(\"isVisible\", \"isFalse\"), arg1,arg2)");
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
   }
 
@@ -237,7 +237,7 @@ public class UtamElementFilter_Tests {
         new PageObjectValidationTestHelper.MethodInfo("getCustom", "List<Test>");
     methodInfo.addCodeLines(
         "inScope(this.root, LocatorBy.byCss(\"selector3\"), true, true)"
-            + ".buildList(Test.class, elm -> elm.isVisible())");
+            + ".buildList(Test.class, elm -> elm.isVisible(), new ElementFilter(\"isVisible\", \"isTrue\"))");
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
   }
 
@@ -10,6 +10,7 @@ package utam.compiler.grammar;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
@@ -23,6 +24,7 @@ import static utam.compiler.grammar.UtamElement.Type;
 import static utam.compiler.grammar.UtamElementFilter_Tests.getInnerTextFilter;
 import static utam.compiler.grammar.UtamSelector_Tests.getListCssSelector;
 import static utam.compiler.grammar.UtamSelector_Tests.getUtamCssSelector;
+import static utam.compiler.translator.TranslatorMockUtilities.getDefaultConfig;
 
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +35,9 @@ import utam.compiler.helpers.TypeUtilities;
 import utam.compiler.representation.PageObjectValidationTestHelper;
 import utam.compiler.representation.PageObjectValidationTestHelper.FieldInfo;
 import utam.compiler.representation.PageObjectValidationTestHelper.MethodInfo;
+import utam.compiler.representation.PageObjectValidationTestHelper.MethodParameterInfo;
+import utam.compiler.translator.ClassSerializer;
+import utam.compiler.translator.DefaultTranslatorConfiguration;
 import utam.core.declarative.representation.*;
 import utam.core.framework.consumer.UtamError;
 
@@ -462,7 +467,7 @@ public class UtamElement_BasicTests {
   @Test
   public void testNullableListWithFilter() {
     MethodInfo methodInfo = new MethodInfo("getNullableFilter", "NullableFilterElement");
-    methodInfo.addCodeLine("element(this.nullableFilter).build(NullableFilterElement.class, NullableFilterElementImpl.class, elm -> elm.isVisible())");
+    methodInfo.addCodeLine("element(this.nullableFilter).build(NullableFilterElement.class, NullableFilterElementImpl.class, elm -> elm.isVisible(), new ElementFilter(\"isVisible\", \"isTrue\"))");
     TranslationContext context = new DeserializerUtilities().getContext("basicElementNullable");
     PageObjectMethod method = context.getMethod("getNullableFilter");
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
@@ -476,6 +481,83 @@ public class UtamElement_BasicTests {
     PageObjectValidationTestHelper.validateMethod(context.getMethod("getNullable"), methodInfo);
   }
 
+  @Test
+  public void testFlattenSelectors() {
+    DefaultTranslatorConfiguration config = getDefaultConfig();
+    config.setFlattenSelectors(true);
+    TranslationContext context = new DeserializerUtilities(config)
+        .getContext("basicElementFlatten");
+    assertThat(getFieldAnnotation(context, "save"),
+        is(equalTo("@ElementMarker.Find(css = \".panel[title='%s'] button.save\")")));
+    assertThat(getFieldAnnotation(context, "icon"), is(equalTo(
+        "@ElementMarker.Find(css = \".panel[title='%s'] button.save span:nth-of-type(%d)\")")));
+    // shadow boundary and different nullability are not merged
+    assertThat(getFieldAnnotation(context, "input"),
+        is(equalTo("@ElementMarker.Find(css = \"input\", scope = \"panel\", expand = true)")));
+    assertThat(getFieldAnnotation(context, "child"),
+        is(equalTo("@ElementMarker.Find(css = \".child\", scope = \"nullableParent\")")));
+    assertThat(context.getFlattenedLinksCount(), is(equalTo(2)));
+    // unit test registers element with the same chain as generated field
+    assertThat(context.getTestableElements().get("save").getElementRegistration("save"),
+        contains(
+            "//TODO: register element 'save' as a child of the root element:",
+            "//.withChild(simulator.registerElement(\"save\", \".panel[title='%s'] button.save\"));"));
+    MethodInfo methodInfo = new MethodInfo("getIcon", "IconElement");
+    methodInfo.addParameter(new MethodParameterInfo("title", "String"));
+    methodInfo.addParameter(new MethodParameterInfo("index", "Integer"));
+    methodInfo.addCodeLine(
+        "element(this.icon).build(IconElement.class, IconElementImpl.class, title,index)");
+    PageObjectValidationTestHelper.validateMethod(context.getMethod("getIcon"), methodInfo);
+  }
+
+  @Test
+  public void testSelectorsNotFlattenedByDefault() {
+    TranslationContext context = new DeserializerUtilities().getContext("basicElementFlatten");
+    assertThat(getFieldAnnotation(context, "save"),
+        is(equalTo("@ElementMarker.Find(css = \"button.save\", scope = \"panel\")")));
+    assertThat(context.getFlattenedLinksCount(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testGenerateBootstrap() {
+    DefaultTranslatorConfiguration config = getDefaultConfig();
+    config.setGenerateBootstrap(true);
+    DeserializerUtilities.Result result = new DeserializerUtilities(config)
+        .getResultFromFile("basicElementFlatten");
+    String code = new ClassSerializer(result.getPageObject().getImplementation(),
+        result.getContext()).toString();
+    assertThat(code, containsString("import utam.core.selenium.element.LocatorBy;"));
+    assertThat(code, containsString("import utam.core.element.FindContext;"));
+    assertThat(code, containsString("protected final boolean bootstrap(ElementLocation root) {"));
+    assertThat(code, containsString(
+        "this.panel = root.scope(LocatorBy.byCss(\".panel[title='%s']\"), FindContext.Type.EXISTING);"));
+    assertThat(code, containsString(
+        "this.input = this.panel.scope(LocatorBy.byCss(\"input\"), FindContext.Type.EXISTING_IN_SHADOW);"));
+    assertThat(code, containsString(
+        "this.nullableParent = root.scope(LocatorBy.byCss(\".parent\"), FindContext.Type.NULLABLE);"));
+    // annotations are kept for page objects loaded by older runtime
+    assertThat(code, containsString("@ElementMarker.Find(css = \"input\", scope = \"panel\", expand = true)"));
+  }
+
+  @Test
+  public void testBootstrapNotGeneratedByDefault() {
+    DeserializerUtilities.Result result = new DeserializerUtilities()
+        .getResultFromFile("basicElementFlatten");
+    String code = new ClassSerializer(result.getPageObject().getImplementation(),
+        result.getContext()).toString();
+    assertThat(code, not(containsString("bootstrap(")));
+    assertThat(result.getContext().getFields().get(0).getBootstrapCode(), is(equalTo(
+        "this.panel = root.scope(LocatorBy.byCss(\".panel[title='%s']\"), FindContext.Type.EXISTING)")));
+  }
+
+  private static String getFieldAnnotation(TranslationContext context, String name) {
+    return context.getFields().stream()
+        .filter(field -> field.getName().equals(name))
+        .findFirst()
+        .orElseThrow()
+        .getAnnotations().get(0).getAnnotationText();
+  }
+
   @Test
   public void testBasicElementTypeAsStringThrows() {
     UtamError e = expectThrows(
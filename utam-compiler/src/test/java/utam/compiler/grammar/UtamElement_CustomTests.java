@@ -266,7 +266,7 @@ public class UtamElement_CustomTests {
     MethodInfo methodInfo = new MethodInfo("getCustomNullableListFilter", "List<CustomTest>");
     methodInfo.addCodeLine(
             "inScope(this.root, LocatorBy.byCss(\".css\"), true, false)" +
-                    ".buildList(CustomTest.class, elm -> elm.isVisible())");
+                    ".buildList(CustomTest.class, elm -> elm.isVisible(), new ElementFilter(\"isVisible\", \"isTrue\"))");
     TranslationContext context = new DeserializerUtilities().getContext("customElementNullable");
     PageObjectMethod method = context.getMethod("getCustomNullableListFilter");
     PageObjectValidationTestHelper.validateMethod(method, methodInfo);
@@ -29,6 +29,7 @@ import static utam.compiler.helpers.PrimitiveType.STRING;
 import static utam.compiler.helpers.TypeUtilities.BasicElementInterface.clickable;
 import static utam.compiler.helpers.TypeUtilities.SELECTOR;
 import static utam.compiler.helpers.TypeUtilities.VOID;
+import static utam.compiler.translator.TranslatorMockUtilities.getDefaultConfig;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -46,6 +47,7 @@ import utam.compiler.helpers.TypeUtilities.ListOf;
 import utam.compiler.representation.ComposeMethodStatement;
 import utam.compiler.representation.ComposeMethodStatement.Single;
 import utam.compiler.representation.RootElementMethod;
+import utam.compiler.translator.DefaultTranslatorConfiguration;
 import utam.core.declarative.representation.MethodParameter;
 import utam.core.declarative.representation.TypeProvider;
 import utam.core.framework.consumer.UtamError;
@@ -386,4 +388,17 @@ public class UtamMethodAction_Tests {
     assertThat(statement.getCodeLines().get(1), is(equalTo("if (testElement == null || testElement.isEmpty()) { return null; }")));
     assertThat(statement.getCodeLines().get(2), is(equalTo("return testElement.stream().map(element -> element.getText()).collect(Collectors.toList());")));
   }
+
+  @Test
+  public void testListGettersReadValuesWithOneCall() {
+    DefaultTranslatorConfiguration config = getDefaultConfig();
+    config.setListGetters(true);
+    TranslationContext context = new TranslationContext(TEST_URI, config);
+    TestUtilities.UtamEntityCreator.createUtamElement(
+        ELEMENT_NAME, new String[] { clickable.name() }, getListSelector(), true).testTraverse(context);
+    UtamMethodAction action = new UtamMethodAction(ELEMENT_NAME, getText.getInvokeMethodName());
+    ComposeMethodStatement statement = action.getComposeAction(context, getMethodContext(STRING), true);
+    assertThat(statement, is(instanceOf(ComposeMethodStatement.ReturnsList.class)));
+    assertThat(statement.getCodeLines().get(2), is(equalTo("return ElementListProperties.getText(testElement);")));
+  }
 }
@@ -15,6 +15,7 @@ import static utam.compiler.guardrails.GlobalValidation.getErrorPrefix;
 import static utam.compiler.helpers.ElementContext.Self.SELF_ELEMENT;
 import static utam.compiler.helpers.TypeUtilities.BasicElementInterface.actionable;
 
+import java.util.Arrays;
 import java.util.Collections;
 import org.testng.annotations.Test;
 import utam.compiler.guardrails.GlobalValidation.ValidationSubject;
@@ -69,4 +70,32 @@ public class GlobalValidationTests {
     // warning in console
     globalValidation.validate();
   }
+
+  @Test
+  public void testBasicElementsWithSameSelectorNoError() {
+    Locator selector = getCssSelector("css");
+    GlobalValidation globalValidation = new GlobalValidation(GuardrailsMode.ERROR);
+    globalValidation.setPageObjectElements("first",
+        Collections.singletonList(new ElementContext.Basic("name1", actionable, selector)));
+    globalValidation.setPageObjectElements("second",
+        Collections.singletonList(new ElementContext.Basic("name2", actionable, selector)));
+    globalValidation.validate();
+  }
+
+  @Test
+  public void testValidateThrowsForFirstViolatingPair() {
+    Locator selector = getCssSelector("css");
+    ElementContext basicElement = new ElementContext.Basic("name1", actionable, selector);
+    ElementContext otherElement = new ElementContext.Basic("name2", actionable,
+        getCssSelector("other"));
+    ElementContext rootElement = new ElementContext.Root(
+        new TypeUtilities.FromString("test.Type"), selector);
+    GlobalValidation globalValidation = new GlobalValidation(GuardrailsMode.ERROR);
+    globalValidation.setPageObjectElements("first", Arrays.asList(otherElement, basicElement));
+    globalValidation.setPageObjectElements("second", Collections.singletonList(rootElement));
+    // basic element is compared with root of other page object, not with element of its own
+    UtamError e = expectThrows(UtamError.class, globalValidation::validate);
+    assertThat(e.getMessage(), startsWith(getErrorPrefix(new ValidationSubject("first", basicElement),
+        new ValidationSubject("second", rootElement))));
+  }
 }
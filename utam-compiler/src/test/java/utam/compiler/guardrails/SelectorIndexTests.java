@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.guardrails;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static utam.compiler.grammar.TestUtilities.getCssSelector;
+import static utam.compiler.helpers.ElementContext.Self.SELF_ELEMENT;
+import static utam.compiler.helpers.TypeUtilities.BasicElementInterface.actionable;
+
+import org.testng.annotations.Test;
+import utam.compiler.helpers.ElementContext;
+import utam.compiler.helpers.TypeUtilities;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class SelectorIndexTests {
+
+  @Test
+  public void testCandidatesHaveSameSelector() {
+    ElementContext first = new ElementContext.Basic("first", actionable, getCssSelector("css"));
+    ElementContext second = new ElementContext.Custom("second",
+        new TypeUtilities.FromString("test.Type"), getCssSelector("css"));
+    ElementContext other = new ElementContext.Custom("other",
+        new TypeUtilities.FromString("test.Type"), getCssSelector("other"));
+    SelectorIndex<String> index = new SelectorIndex<>();
+    index.add(first, "first");
+    index.add(second, "second");
+    index.add(other, "other");
+    assertThat(index.getCandidates(second), contains("first", "second"));
+    assertThat(index.getCandidates(other), contains("other"));
+  }
+
+  @Test
+  public void testBasicElementCandidatesAreRootOrCustom() {
+    ElementContext first = new ElementContext.Basic("first", actionable, getCssSelector("css"));
+    ElementContext second = new ElementContext.Basic("second", actionable, getCssSelector("css"));
+    ElementContext root = new ElementContext.Root(
+        new TypeUtilities.FromString("test.Type"), getCssSelector("css"));
+    SelectorIndex<String> index = new SelectorIndex<>();
+    index.add(first, "first");
+    index.add(second, "second");
+    assertThat(index.getCandidates(first), is(empty()));
+    index.add(root, "root");
+    assertThat(index.getCandidates(first), contains("root"));
+    assertThat(index.getCandidates(root), contains("first", "second", "root"));
+  }
+
+  @Test
+  public void testElementsWithoutSelectorAreNotIndexed() {
+    ElementContext root = new ElementContext.Root(new TypeUtilities.FromString("test.Type"));
+    SelectorIndex<String> index = new SelectorIndex<>();
+    index.add(root, "root");
+    index.add(SELF_ELEMENT, "self");
+    assertThat(index.getCandidates(root), is(empty()));
+    assertThat(index.getCandidates(SELF_ELEMENT), is(empty()));
+  }
+}
@@ -16,6 +16,7 @@ import static utam.compiler.helpers.ParameterUtils.EMPTY_PARAMETERS;
 import static utam.compiler.helpers.TypeUtilities.BasicElementInterface.actionable;
 import static utam.compiler.helpers.TypeUtilities.BasicElementInterface.clickable;
 import static utam.compiler.representation.ElementMethod.DOCUMENT_GETTER;
+import static utam.compiler.representation.ElementMethod.ELEMENT_FILTER_TYPE;
 
 import java.util.Collections;
 import org.testng.annotations.Test;
@@ -114,8 +115,10 @@ public class ElementMethodTests {
     info.addCodeLine("element(this.test)"
         + ".build(Actionable.class, ActionableImpl.class, "
         + "elm -> { String tmp = elm.getText();\n"
-        + "return tmp!= null && tmp.contains(test); })");
-    info.addImportedTypes(ACTIONABLE_TYPE.getFullName(), BASE_ELEMENT_TYPE);
+        + "return tmp!= null && tmp.contains(test); }, "
+        + "new ElementFilter(\"getText\", \"stringContains\", test))");
+    info.addImportedTypes(ACTIONABLE_TYPE.getFullName(), BASE_ELEMENT_TYPE,
+        ELEMENT_FILTER_TYPE.getFullName());
     PageObjectMethod method = new ElementMethod.Filtered(
         ELEMENT_NAME,
         ACTIONABLE_TYPE,
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.translator;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static utam.compiler.translator.CompilerDaemon.COMPILE_REQUEST;
+import static utam.compiler.translator.CompilerDaemon.ERROR_RESPONSE;
+import static utam.compiler.translator.CompilerDaemon.ERR_CONFIGURATION;
+import static utam.compiler.translator.CompilerDaemon.ERR_WRONG_TOKEN;
+import static utam.compiler.translator.CompilerDaemon.OK_RESPONSE;
+import static utam.compiler.translator.CompilerDaemon.STOP_REQUEST;
+import static utam.compiler.translator.CompilerDaemon.TOKEN_FILE_NAME;
+import static utam.compiler.translator.TranslatorMockUtilities.PAGE_OBJECT_SOURCE;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.testng.annotations.Test;
+import utam.compiler.translator.DefaultSourceConfiguration.RecursiveScanner;
+import utam.compiler.translator.DefaultSourceConfiguration.ScannerConfig;
+import utam.core.declarative.translator.TranslatorConfig;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class CompilerDaemonTests {
+
+  private static TranslatorConfig getConfig() {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTargetConfigurationTests.Mock targetConfig =
+        new DefaultTargetConfigurationTests.Mock();
+    try {
+      File profilesRoot = Files.createTempDirectory("utam-daemon").toFile();
+      profilesRoot.deleteOnExit();
+      targetConfig.setConfigPath(profilesRoot.getAbsolutePath());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return new DefaultTranslatorConfiguration(sourceConfig, targetConfig);
+  }
+
+  private static boolean isGenerated(File target) throws IOException {
+    try (Stream<Path> files = Files.walk(target.toPath())) {
+      return files.anyMatch(path -> path.getFileName().toString().equals("TestImpl.java"));
+    }
+  }
+
+  @Test
+  public void testCompile() throws IOException {
+    try (CompilerDaemon daemon = new CompilerDaemon(CompilerDaemonTests::getConfig)) {
+      assertThat(daemon.compile(), startsWith(OK_RESPONSE + ": translated 3 page objects"));
+    }
+  }
+
+  @Test
+  public void testCompileWithConfigurationError() throws IOException {
+    try (CompilerDaemon daemon = new CompilerDaemon(() -> null)) {
+      assertThat(daemon.compile(), is(equalTo(ERROR_RESPONSE + ": " + ERR_CONFIGURATION)));
+    }
+  }
+
+  private static TranslatorConfig getConfigWithError(RuntimeException error) {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock() {
+          @Override
+          public Collection<String> getPageObjects() {
+            throw error;
+          }
+        };
+    return new DefaultTranslatorConfiguration(sourceConfig,
+        new DefaultTargetConfigurationTests.Mock());
+  }
+
+  @Test
+  public void testCompileErrorIsOneLine() throws IOException {
+    try (CompilerDaemon daemon = new CompilerDaemon(
+        () -> getConfigWithError(new IllegalStateException("first line\n  second line\r\n")))) {
+      assertThat(daemon.compile(), is(equalTo(ERROR_RESPONSE + ": first line second line")));
+    }
+    try (CompilerDaemon daemon = new CompilerDaemon(
+        () -> getConfigWithError(new NullPointerException()))) {
+      assertThat(daemon.compile(),
+          is(equalTo(ERROR_RESPONSE + ": " + NullPointerException.class.getName())));
+    }
+  }
+
+  private static Path getTokenFile() throws IOException {
+    File folder = Files.createTempDirectory("utam-daemon-token").toFile();
+    folder.deleteOnExit();
+    return folder.toPath().resolve(TOKEN_FILE_NAME);
+  }
+
+  @Test
+  public void testRequestsOnSocket() throws Exception {
+    CompilerDaemon daemon = new CompilerDaemon(CompilerDaemonTests::getConfig);
+    Path tokenFile = getTokenFile();
+    int port = daemon.listen(0, tokenFile);
+    if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+      assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)),
+          is(equalTo("rw-------")));
+    }
+    String token = Files.readAllLines(tokenFile, StandardCharsets.UTF_8).get(0);
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer = new PrintWriter(
+            new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+      writer.println(token);
+      writer.println(COMPILE_REQUEST);
+      assertThat(reader.readLine(), startsWith(OK_RESPONSE + ": translated 3 page objects"));
+      writer.println("wrong");
+      assertThat(reader.readLine(), startsWith(ERROR_RESPONSE + ": unknown request 'wrong'"));
+      writer.println(STOP_REQUEST);
+      assertThat(reader.readLine(), startsWith(OK_RESPONSE));
+    }
+    // returns because daemon was stopped by request
+    daemon.await();
+    assertThat(Files.exists(tokenFile), is(false));
+  }
+
+  @Test
+  public void testMalformedDeclarationOnSocket() throws Exception {
+    try (CompilerDaemon daemon = new CompilerDaemon(() -> {
+      DefaultSourceConfigurationTests.Mock sourceConfig =
+          new DefaultSourceConfigurationTests.Mock();
+      sourceConfig.setJSONSource("utam-test/pageObjects/test/malformed", "{");
+      return new DefaultTranslatorConfiguration(sourceConfig,
+          new DefaultTargetConfigurationTests.Mock());
+    })) {
+      Path tokenFile = getTokenFile();
+      int port = daemon.listen(0, tokenFile);
+      String token = Files.readAllLines(tokenFile, StandardCharsets.UTF_8).get(0);
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+          BufferedReader reader = new BufferedReader(
+              new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+          PrintWriter writer = new PrintWriter(
+              new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+        writer.println(token);
+        writer.println(COMPILE_REQUEST);
+        assertThat(reader.readLine(), startsWith(ERROR_RESPONSE + ": "));
+        // error message was sent as one line, next response belongs to next request
+        writer.println("wrong");
+        assertThat(reader.readLine(), startsWith(ERROR_RESPONSE + ": unknown request 'wrong'"));
+      }
+    }
+  }
+
+  @Test
+  public void testRequestWithoutTokenIsRejected() throws Exception {
+    try (CompilerDaemon daemon = new CompilerDaemon(CompilerDaemonTests::getConfig)) {
+      int port = daemon.listen(0, getTokenFile());
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+          BufferedReader reader = new BufferedReader(
+              new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+          PrintWriter writer = new PrintWriter(
+              new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+        writer.println(STOP_REQUEST);
+        assertThat(reader.readLine(), is(equalTo(ERROR_RESPONSE + ": " + ERR_WRONG_TOKEN)));
+        // connection is closed and daemon keeps running
+        assertThat(reader.readLine(), is(nullValue()));
+      }
+      // daemon keeps accepting connections
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+          BufferedReader reader = new BufferedReader(
+              new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+          PrintWriter writer = new PrintWriter(
+              new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+        writer.println("wrong");
+        assertThat(reader.readLine(), is(equalTo(ERROR_RESPONSE + ": " + ERR_WRONG_TOKEN)));
+      }
+    }
+  }
+
+  @Test
+  public void testWatchCompilesChangedDeclaration() throws Exception {
+    File root = Files.createTempDirectory("utam-watch").toFile();
+    root.deleteOnExit();
+    File sources = new File(root, "sources");
+    File target = new File(root, "target");
+    assertThat(sources.mkdir() && target.mkdir(), is(true));
+    CompilerDaemon daemon = new CompilerDaemon(() -> {
+      DefaultTranslatorConfiguration config = new DefaultTranslatorConfiguration(
+          new DefaultSourceConfiguration(
+              new ScannerConfig(Collections.singletonMap("utam-test", ".*/sources")),
+              new RecursiveScanner(sources.toString())),
+          new DefaultTargetConfiguration(target.toString(), target.toString()));
+      config.setIncremental(true);
+      return config;
+    });
+    CompletableFuture<Void> watching = CompletableFuture.runAsync(() -> {
+      try {
+        daemon.watch(sources.toPath());
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(20);
+    // watch service is registered asynchronously, save declaration until it's compiled
+    while (!isGenerated(target) && System.currentTimeMillis() < deadline) {
+      Files.write(new File(sources, "test.utam.json").toPath(),
+          PAGE_OBJECT_SOURCE.getBytes(StandardCharsets.UTF_8));
+      Thread.sleep(500);
+    }
+    daemon.close();
+    watching.get(20, TimeUnit.SECONDS);
+    assertThat(isGenerated(target), is(true));
+  }
+}
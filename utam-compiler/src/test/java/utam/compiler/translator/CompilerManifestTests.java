@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.compiler.translator;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static utam.compiler.grammar.TestUtilities.getCssSelector;
+import static utam.compiler.helpers.TypeUtilities.BasicElementInterface.actionable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+import utam.compiler.helpers.ElementContext;
+import utam.compiler.helpers.TypeUtilities;
+import utam.compiler.translator.CompilerManifest.Element;
+import utam.compiler.translator.CompilerManifest.Entry;
+import utam.compiler.translator.CompilerManifest.Kind;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class CompilerManifestTests {
+
+  private static Entry getEntry(String source, String... dependencies) {
+    return new Entry(source, "test.Type", null, true, false, null, Arrays.asList(dependencies),
+        null, Collections.singletonMap("test.Type", CompilerManifest.hash("code")));
+  }
+
+  private static String getManifestPath() throws IOException {
+    File folder = Files.createTempDirectory("utam-manifest").toFile();
+    folder.deleteOnExit();
+    return folder + File.separator + "manifest.json";
+  }
+
+  @Test
+  public void testHash() throws IOException {
+    assertThat(CompilerManifest.hash("code"), is(equalTo(CompilerManifest.hash("code"))));
+    assertThat(CompilerManifest.hash("code"), is(not(equalTo(CompilerManifest.hash("other")))));
+    assertThat(CompilerManifest.hash(new StringReader("code")),
+        is(equalTo(CompilerManifest.hash("code"))));
+  }
+
+  @Test
+  public void testReadMissingFile() throws IOException {
+    CompilerManifest manifest = CompilerManifest.read(getManifestPath(), "config");
+    assertThat(manifest.getPageObjects().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    String path = getManifestPath();
+    CompilerManifest manifest = new CompilerManifest("config");
+    manifest.put("test/pageObjects/first", getEntry("hash", "test.Other"));
+    manifest.write(path);
+    CompilerManifest restored = CompilerManifest.read(path, "config");
+    Entry entry = restored.get("test/pageObjects/first");
+    assertThat(entry.getSource(), is(equalTo("hash")));
+    assertThat(entry.isInterfaceOnly(), is(true));
+    assertThat(entry.getDependencies(), containsInAnyOrder("test.Other"));
+    assertThat(entry.getOutputs().get("test.Type"), is(equalTo(CompilerManifest.hash("code"))));
+    // different compiler configuration invalidates manifest
+    assertThat(CompilerManifest.read(path, "other").getPageObjects().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testGetChangedIncludesDependents() {
+    CompilerManifest manifest = new CompilerManifest("config");
+    manifest.put("first", getEntry("first"));
+    manifest.put("second", getEntry("second", "first.Type"));
+    manifest.put("third", getEntry("third", "second.Type"));
+    manifest.put("fourth", getEntry("fourth"));
+    manifest.put("removed", getEntry("removed"));
+    manifest.put("fifth", getEntry("fifth", "removed.Type"));
+    Map<String, String> sources = new HashMap<>();
+    sources.put("first", "changed");
+    sources.put("second", "second");
+    sources.put("third", "third");
+    sources.put("fourth", "fourth");
+    sources.put("fifth", "fifth");
+    sources.put("new", "new");
+    assertThat(manifest.getChanged(sources, uri -> uri + ".Type", entry -> false),
+        containsInAnyOrder("first", "second", "third", "fifth", "new"));
+    sources.put("first", "first");
+    sources.put("removed", "removed");
+    sources.remove("new");
+    assertThat(manifest.getChanged(sources, uri -> uri + ".Type", entry -> false), is(empty()));
+    // generated files were changed
+    assertThat(manifest.getChanged(sources, uri -> uri + ".Type",
+        entry -> entry.getSource().equals("third")), containsInAnyOrder("third"));
+  }
+
+  @Test
+  public void testElementRestored() {
+    ElementContext root = new ElementContext.Root(new TypeUtilities.FromString("test.Root"),
+        getCssSelector("root"));
+    ElementContext custom = new ElementContext.Custom("custom",
+        new TypeUtilities.FromString("test.Custom"), getCssSelector("custom"));
+    ElementContext basic = new ElementContext.Basic("basic", actionable, getCssSelector("basic"));
+    for (ElementContext element : Arrays.asList(root, custom, basic)) {
+      Element summary = Element.of(element);
+      ElementContext restored = summary.getElementContext();
+      assertThat(Kind.of(restored), is(equalTo(Kind.of(element))));
+      assertThat(restored.getName(), is(equalTo(element.getName())));
+      assertThat(restored.getSelector(), is(equalTo(element.getSelector())));
+    }
+    assertThat(Element.of(new ElementContext.Container("container")).getKind(),
+        is(equalTo(Kind.CONTAINER)));
+  }
+}
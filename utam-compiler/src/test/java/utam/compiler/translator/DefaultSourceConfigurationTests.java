@@ -41,6 +41,7 @@ import org.hamcrest.CoreMatchers;
 import org.testng.annotations.Test;
 import utam.compiler.translator.DefaultSourceConfiguration.FilesScanner;
 import utam.compiler.translator.DefaultSourceConfiguration.RecursiveScanner;
+import utam.compiler.translator.DefaultSourceConfiguration.SourceWithoutPackages;
 import utam.core.declarative.translator.TranslatorConfig;
 import utam.core.declarative.translator.TranslatorSourceConfig;
 import utam.core.framework.consumer.UtamError;
@@ -111,6 +112,35 @@ public class DefaultSourceConfigurationTests {
         is(CoreMatchers.notNullValue()));
   }
 
+  @Test
+  public void testRecursiveScanMultiplePackages() {
+    Map<String, String> packages = new HashMap<>();
+    packages.put("package1", ".*/one");
+    packages.put("package2", ".*/two");
+    ScannerConfig scannerConfig = new ScannerConfig(packages);
+    RecursiveScanner scanner = new RecursiveScanner(
+        System.getProperty("user.dir") + "/src/test/resources/spec");
+    DefaultSourceConfiguration config = new DefaultSourceConfiguration(scannerConfig, scanner);
+    long filesVisited = scanner.scan(config, scannerConfig.getPackageMasks());
+    assertThat(filesVisited, is(equalTo(2L)));
+    assertThat(config.getPageObjects().size(), is(equalTo(2)));
+    assertThat(config.getPageObjectFileSourcePath("package1/pageObjects/first"),
+        containsString("first.utam.json"));
+    assertThat(config.getPageObjectFileSourcePath("package2/pageObjects/second"),
+        containsString("second.utam.json"));
+  }
+
+  @Test
+  public void testRecursiveScanWithoutPackages() {
+    DefaultSourceConfiguration config = new SourceWithoutPackages(
+        System.getProperty("user.dir") + "/src/test/resources/spec", DEFAULT_JSON_FILE_MASK_REGEX);
+    config.recursiveScan();
+    assertThat(config.getPageObjectFileSourcePath("utam/pageObjects/first"),
+        containsString("first.utam.json"));
+    assertThat(config.getPageObjectFileSourcePath("utam/pageObjects/second"),
+        containsString("second.utam.json"));
+  }
+
   @Test
   public void testRecursiveScanPreProcess() {
     ScannerConfig scannerConfig = new ScannerConfig(Collections.singletonMap("utam-one", ".*/one"));
@@ -49,4 +49,15 @@ public class DefaultTranslatorConfigurationTests {
     assertThat(config.getTranslationTypesConfig(), is(sameInstance(typesConfig)));
     assertThat(config.getConfiguredProfiles().iterator().next(), is(equalTo(profileConfiguration)));
   }
+
+  @Test
+  public void testSetTranslationThreads() {
+    DefaultTranslatorConfiguration config = new DefaultTranslatorConfiguration(
+        new DefaultSourceConfigurationTests.Mock(), new DefaultTargetConfigurationTests.Mock());
+    assertThat(config.getTranslationThreads(), is(equalTo(1)));
+    config.setTranslationThreads(8);
+    assertThat(config.getTranslationThreads(), is(equalTo(8)));
+    config.setTranslationThreads(0);
+    assertThat(config.getTranslationThreads(), is(equalTo(1)));
+  }
 }
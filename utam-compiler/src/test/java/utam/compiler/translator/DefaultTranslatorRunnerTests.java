@@ -34,14 +34,21 @@ import static utam.compiler.translator.TranslatorMockUtilities.TEST_URI_CLASS_NA
 import static utam.compiler.translator.TranslatorMockUtilities.TEST_URI_INTERFACE_NAME;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Properties;
+import java.util.stream.Stream;
 import org.testng.annotations.Test;
 import utam.compiler.grammar.JsonDeserializer;
+import utam.compiler.helpers.TypeUtilities;
 import utam.core.declarative.translator.TranslatorConfig;
 import utam.core.declarative.translator.TranslatorRunner;
 import utam.core.declarative.translator.UnitTestRunner;
 import utam.core.framework.consumer.UtamError;
+import utam.core.framework.context.BeanIndex;
 import utam.core.framework.context.Profile;
 import utam.core.framework.context.StringValueProfile;
 
@@ -316,6 +323,192 @@ public class DefaultTranslatorRunnerTests {
     assertThat(profiles.values().iterator().next(), is(equalTo(TEST_URI_CLASS_NAME)));
   }
 
+  @Test
+  public void testWriteDependenciesConfigsWritesIndex() throws IOException {
+    File profilesRoot = Files.createTempDirectory("utam").toFile();
+    profilesRoot.deleteOnExit();
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setJSONSource(TEST_URI, String.format("{ \"implements\" : \"%s\" }", TEST_URI));
+    DefaultTargetConfigurationTests.Mock targetConfig =
+        new DefaultTargetConfigurationTests.Mock();
+    targetConfig.setConfigPath(profilesRoot.getAbsolutePath());
+    DefaultTranslatorConfiguration translatorConfig = new DefaultTranslatorConfiguration(
+        sourceConfig, targetConfig);
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.writeDependenciesConfigs();
+    String moduleName = translatorConfig.getModuleName();
+    File index = new File(profilesRoot, BeanIndex.getIndexName(moduleName));
+    File properties = new File(profilesRoot,
+        DEFAULT_PROFILE.getConfigName(moduleName) + ".properties");
+    assertThat(index.exists(), is(true));
+    assertThat(properties.exists(), is(true));
+    index.deleteOnExit();
+    properties.deleteOnExit();
+  }
+
+  @Test
+  public void testWriteSkipsUnchangedFiles() throws IOException {
+    File target = Files.createTempDirectory("utam-unchanged").toFile();
+    target.deleteOnExit();
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTargetConfiguration targetConfig = new DefaultTargetConfiguration(target.toString(),
+        target.toString());
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration(sourceConfig,
+        targetConfig);
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    translator.writeDependenciesConfigs();
+    File generated = new File(targetConfig
+        .getPageObjectClassPath(new TypeUtilities.FromString(PAGE_OBJECT_IMPL_CLASS_NAME)));
+    File properties = new File(target,
+        DEFAULT_PROFILE.getConfigName(translatorConfig.getModuleName()) + ".properties");
+    final long timestamp = 1000;
+    assertThat(generated.setLastModified(timestamp), is(true));
+    assertThat(properties.setLastModified(timestamp), is(true));
+    translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    translator.writeDependenciesConfigs();
+    assertThat(generated.lastModified(), is(equalTo(timestamp)));
+    assertThat(properties.lastModified(), is(equalTo(timestamp)));
+  }
+
+  @Test
+  public void testExistingUnitTestIsCountedAsSkipped() throws IOException {
+    File target = Files.createTempDirectory("utam-unit-tests").toFile();
+    target.deleteOnExit();
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTargetConfiguration targetConfig = new DefaultTargetConfiguration(target.toString(),
+        target.toString(), UnitTestRunner.JUNIT, new File(target, "tests").toString());
+    TranslatorConfig translatorConfig = new DefaultTranslatorConfiguration(sourceConfig,
+        targetConfig);
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    assertThat(translator.getSkippedFilesCount(), is(equalTo(0)));
+    // second run: interfaces, classes and unit tests exist with same content
+    translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    try (Stream<Path> files = Files.walk(target.toPath())) {
+      long written = files.filter(path -> path.toString().endsWith(".java")).count();
+      assertThat(translator.getSkippedFilesCount(), is(equalTo((int) written)));
+    }
+  }
+
+  @Test
+  public void testPropertiesContentIsDeterministic() throws IOException {
+    Properties first = new Properties();
+    first.setProperty("b", "2");
+    first.setProperty("a", "1");
+    Properties second = new Properties();
+    second.setProperty("a", "1");
+    second.setProperty("b", "2");
+    byte[] content = DefaultTranslatorRunner.getPropertiesContent(first);
+    assertThat(content, is(equalTo(DefaultTranslatorRunner.getPropertiesContent(second))));
+    String expected = "a=1" + System.lineSeparator() + "b=2" + System.lineSeparator();
+    assertThat(new String(content, StandardCharsets.ISO_8859_1), is(equalTo(expected)));
+  }
+
+  @Test
+  public void testRunConcurrently() {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTranslatorConfiguration translatorConfig = new DefaultTranslatorConfiguration(
+        sourceConfig, new DefaultTargetConfigurationTests.Mock());
+    translatorConfig.setTranslationThreads(4);
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    DefaultTranslatorRunner sequential = getRunner();
+    sequential.run();
+    assertThat(translator.getGeneratedPageObjectsNames(),
+        containsInAnyOrder(sequential.getGeneratedPageObjectsNames().toArray()));
+    assertThat(translator.getProfileMapping(DEFAULT_PROFILE),
+        is(equalTo(sequential.getProfileMapping(DEFAULT_PROFILE))));
+  }
+
+  @Test
+  public void testRunConcurrentlyThrowsFirstErrorBySortedURI() {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    for (String name : new String[]{"wrongZ", "wrongB", "wrongA"}) {
+      sourceConfig.setJSONSource("utam-test/pageObjects/test/" + name, "{");
+    }
+    DefaultTranslatorConfiguration translatorConfig = new DefaultTranslatorConfiguration(
+        sourceConfig, new DefaultTargetConfigurationTests.Mock());
+    translatorConfig.setTranslationThreads(3);
+    for (int i = 0; i < 5; i++) {
+      DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+      UtamError e = expectThrows(UtamError.class, translator::run);
+      assertThat(e.getMessage(), containsString("utam-test/pageObjects/test/wrongA"));
+    }
+  }
+
+  @Test
+  public void testRunSequentiallyThrowsFirstErrorBySortedURI() {
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    for (String name : new String[]{"wrongZ", "wrongB", "wrongA"}) {
+      sourceConfig.setJSONSource("utam-test/pageObjects/test/" + name, "{");
+    }
+    DefaultTranslatorConfiguration translatorConfig = new DefaultTranslatorConfiguration(
+        sourceConfig, new DefaultTargetConfigurationTests.Mock());
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    UtamError e = expectThrows(UtamError.class, translator::run);
+    assertThat(e.getMessage(), containsString("utam-test/pageObjects/test/wrongA"));
+  }
+
+  @Test
+  public void testRunIncrementally() throws IOException {
+    File target = Files.createTempDirectory("utam-incremental").toFile();
+    target.deleteOnExit();
+    DefaultSourceConfigurationTests.Mock sourceConfig =
+        new DefaultSourceConfigurationTests.Mock();
+    sourceConfig.setSources();
+    DefaultTranslatorConfiguration translatorConfig = new DefaultTranslatorConfiguration(
+        sourceConfig, new DefaultTargetConfiguration(target.toString(), target.toString()));
+    translatorConfig.setIncremental(true);
+    // first run translates everything
+    DefaultTranslatorRunner translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    assertThat(translator.getGeneratedPageObjectsNames(), hasSize(3));
+    Properties mapping = translator.getProfileMapping(DEFAULT_PROFILE);
+    // nothing changed, profiles mapping is restored from manifest
+    translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    assertThat(translator.getGeneratedPageObjectsNames(), hasSize(0));
+    assertThat(translator.getProfileMapping(DEFAULT_PROFILE), is(equalTo(mapping)));
+    // implementation depends on changed interface
+    sourceConfig.setJSONSource(INTERFACE_ONLY_URI,
+        "{ \"interface\" : true, \"methods\": [{ \"name\" : \"testMethod\" }] }");
+    translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    assertThat(translator.getGeneratedPageObjectsNames(),
+        containsInAnyOrder(INTERFACE_ONLY_URI, IMPL_ONLY_URI));
+    // generated file was removed
+    File generated = new File(new DefaultTargetConfiguration(target.toString(), target.toString())
+        .getPageObjectClassPath(new TypeUtilities.FromString(PAGE_OBJECT_IMPL_CLASS_NAME)));
+    assertThat(generated.delete(), is(true));
+    translator = new DefaultTranslatorRunner(translatorConfig);
+    translator.run();
+    translator.write();
+    assertThat(translator.getGeneratedPageObjectsNames(), containsInAnyOrder(PAGE_OBJECT_URI));
+    assertThat(generated.exists(), is(true));
+  }
+
   @Test
   public void testGetResourcesRootThrows() {
     DefaultTargetConfigurationTests.Mock targetConfig = new DefaultTargetConfigurationTests.Mock();
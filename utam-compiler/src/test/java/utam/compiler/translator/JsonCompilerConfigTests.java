@@ -113,6 +113,11 @@ public class JsonCompilerConfigTests {
     assertThat(module.getPageObjectsRootDirectory(), is(equalTo("pageObjectsDirectory")));
     assertThat(module.getConfiguredProfiles(), is(emptyIterable()));
     assertThat(module.getPackagesMapping(), is(anEmptyMap()));
+    assertThat(module.isFlattenSelectors(), is(false));
+    assertThat(module.isGenerateBootstrap(), is(false));
+    assertThat(module.getTranslationThreads(), is(1));
+    assertThat(module.isIncremental(), is(false));
+    assertThat(module.isListGetters(), is(false));
     module.getSourceConfig("");
     module.getTargetConfig("");
   }
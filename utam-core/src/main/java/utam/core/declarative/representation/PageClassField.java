@@ -35,4 +35,13 @@ public interface PageClassField {
   TypeProvider getType();
 
   String getDeclaration();
+
+  /**
+   * statement that assigns field value in generated bootstrap method
+   *
+   * @return code line or null if field can't be assigned in code
+   */
+  default String getBootstrapCode() {
+    return null;
+  }
 }
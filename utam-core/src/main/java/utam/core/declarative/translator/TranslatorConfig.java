@@ -58,4 +58,55 @@ public interface TranslatorConfig {
    * @return type of validations
    */
   GuardrailsMode getValidationMode();
+
+  /**
+   * if set, selectors of nested elements that do not cross shadow boundary are merged with parent
+   * selector to reduce number of links in the locators chain
+   *
+   * @return true if selectors should be merged
+   */
+  default boolean isFlattenSelectors() {
+    return false;
+  }
+
+  /**
+   * if set, generated page objects assign their element fields in a bootstrap method instead of
+   * runtime annotations scanning
+   *
+   * @return true if bootstrap method should be generated
+   */
+  default boolean isGenerateBootstrap() {
+    return false;
+  }
+
+  /**
+   * number of threads that translate page objects, with more than one thread page objects are
+   * deserialized, compiled and validated concurrently
+   *
+   * @return number of threads, 1 means page objects are translated one by one
+   */
+  default int getTranslationThreads() {
+    return 1;
+  }
+
+  /**
+   * if set, compiler keeps manifest with hashes of declarations and their dependencies and only
+   * translates page objects that changed since previous run or depend on changed ones
+   *
+   * @return true if compilation is incremental
+   */
+  default boolean isIncremental() {
+    return false;
+  }
+
+  /**
+   * if set, getters applied to a list of basic elements in compose methods read values of all
+   * elements with one script, values are read with browser properties and can differ from values
+   * returned by element getters, ex. text is innerText
+   *
+   * @return true if list getters should be generated
+   */
+  default boolean isListGetters() {
+    return false;
+  }
 }
@@ -10,6 +10,7 @@ package utam.core.declarative.translator;
 import utam.core.declarative.representation.TypeProvider;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 
 /**
@@ -53,4 +54,24 @@ public interface TranslatorTargetConfig {
    * @return string with full path to resources folder with configs
    */
   String getInjectionConfigRootFilePath();
+
+  /**
+   * full path to the manifest of incremental compilation, kept next to generated Page Objects
+   *
+   * @return string with full path or null if target does not support incremental compilation
+   */
+  default String getManifestFilePath() {
+    return null;
+  }
+
+  /**
+   * reader for previously generated type, used to check that generated file was not changed
+   *
+   * @param typeProvider type of the PO, can be interface or class
+   * @return reader or null if file does not exist
+   * @throws IOException if file can't be read
+   */
+  default Reader getClassReader(TypeProvider typeProvider) throws IOException {
+    return null;
+  }
 }
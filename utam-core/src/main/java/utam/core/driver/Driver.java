@@ -30,6 +30,19 @@ public interface Driver {
    */
   Object executeScript(String script, Object... parameters);
 
+  /**
+   * executes given asynchronous javascript, script signals completion by invoking callback passed
+   * as the last argument, by default asynchronous scripts are not supported
+   *
+   * @param script     string with javascript code
+   * @param parameters parameters passed to the script
+   * @return value passed to the callback
+   * @throws UnsupportedOperationException if driver does not support asynchronous scripts
+   */
+  default Object executeAsyncScript(String script, Object... parameters) {
+    throw new UnsupportedOperationException("asynchronous script is not supported by the driver");
+  }
+
   /**
    * find element inside driver
    *
@@ -74,6 +87,33 @@ public interface Driver {
    */
   <T> T waitFor(Duration timeout, Duration pollingInterval, Expectations<T> expectations);
 
+  /**
+   * polling wait with intervals between checks defined by polling policy, by default policy is
+   * ignored and intervals are fixed
+   *
+   * @param timeout         timeout after which exception is thrown if condition is not met
+   * @param pollingInterval base interval between calling expectations action
+   * @param pollingPolicy   policy that defines intervals between checks
+   * @param expectations    action to apply
+   * @param element         element expectations are applied to, can be null
+   * @param <T>             return type
+   * @return result of the applied expectations
+   */
+  default <T> T waitFor(Duration timeout, Duration pollingInterval, PollingPolicy pollingPolicy,
+      Expectations<T> expectations, Element element) {
+    return waitFor(timeout, pollingInterval, expectations, element);
+  }
+
+  /**
+   * get statistics of the polling waits done with this driver, by default driver does not collect
+   * statistics and returns empty instance
+   *
+   * @return statistics instance
+   */
+  default WaitStatistics getWaitStatistics() {
+    return new WaitStatistics();
+  }
+
   /**
    * set active page context to NATIVE_APP
    */
@@ -27,10 +27,23 @@ public class DriverContext {
 
   private final DriverTimeouts timeouts;
   private final String bridgeAppTitle;
+  private final Options options;
 
-  public DriverContext(DriverTimeouts timeouts, String bridgeAppTitle) {
+  /**
+   * driver context with optional features
+   *
+   * @param timeouts       configured timeouts
+   * @param bridgeAppTitle title of the WebView page
+   * @param options        optional features, copied so that later changes do not affect context
+   */
+  public DriverContext(DriverTimeouts timeouts, String bridgeAppTitle, Options options) {
     this.timeouts = timeouts;
     this.bridgeAppTitle = bridgeAppTitle;
+    this.options = new Options(options);
+  }
+
+  public DriverContext(DriverTimeouts timeouts, String bridgeAppTitle) {
+    this(timeouts, bridgeAppTitle, new Options());
   }
 
   /**
@@ -50,4 +63,115 @@ public class DriverContext {
   public String getBridgeAppTitle() {
     return bridgeAppTitle;
   }
+
+  /**
+   * if set, chain of CSS locators is resolved with single JavaScript call instead of a driver
+   * command per locator
+   *
+   * @return true if script traversal is enabled
+   */
+  public boolean isScriptTraversal() {
+    return options.isScriptTraversal;
+  }
+
+  /**
+   * if set, found elements are cached by factory until DOM generation changes
+   *
+   * @return true if elements cache is enabled
+   */
+  public boolean isElementCache() {
+    return options.isElementCache;
+  }
+
+  /**
+   * if set, waits for visibility, invisibility and absence are done by a script that observes DOM
+   * mutations in the browser instead of polling from the client
+   *
+   * @return true if browser side waits are enabled
+   */
+  public boolean isObserverWaits() {
+    return options.isObserverWaits;
+  }
+
+  /**
+   * if set, simple element filters generated with a declarative description are evaluated for all
+   * found elements with a single script
+   *
+   * @return true if script filters are enabled
+   */
+  public boolean isScriptFilters() {
+    return options.isScriptFilters;
+  }
+
+  /**
+   * optional driver features, all are disabled by default
+   *
+   * @author elizaveta.ivanova
+   * @since 236
+   */
+  public static final class Options {
+
+    private boolean isScriptTraversal;
+    private boolean isElementCache;
+    private boolean isObserverWaits;
+    private boolean isScriptFilters;
+
+    public Options() {
+    }
+
+    Options(Options options) {
+      this.isScriptTraversal = options.isScriptTraversal;
+      this.isElementCache = options.isElementCache;
+      this.isObserverWaits = options.isObserverWaits;
+      this.isScriptFilters = options.isScriptFilters;
+    }
+
+    /**
+     * resolve chain of CSS locators with single JavaScript call
+     *
+     * @param isEnabled true to enable
+     * @return same options
+     */
+    public Options setScriptTraversal(boolean isEnabled) {
+      this.isScriptTraversal = isEnabled;
+      return this;
+    }
+
+    /**
+     * cache found elements by factory, lists and elements with nullable links are not cached
+     *
+     * @param isEnabled true to enable
+     * @return same options
+     */
+    public Options setElementCache(boolean isEnabled) {
+      this.isElementCache = isEnabled;
+      return this;
+    }
+
+    /**
+     * wait for visibility and absence with a script observing DOM mutations
+     *
+     * @param isEnabled true to enable
+     * @return same options
+     */
+    public Options setObserverWaits(boolean isEnabled) {
+      this.isObserverWaits = isEnabled;
+      return this;
+    }
+
+    /**
+     * evaluate simple element filters with a single script <br> values are read with browser
+     * properties and can differ from values returned by element methods, so the same filter can
+     * match other elements when option is enabled: text is innerText, enabled state is the
+     * "disabled" property, visibility is checked with computed style and element size <br> same
+     * as elements of lists, element returned by a filter is not found again after it became stale
+     *
+     * @param isEnabled true to enable
+     * @return same options
+     */
+    public Options setScriptFilters(boolean isEnabled) {
+      this.isScriptFilters = isEnabled;
+      return this;
+    }
+  }
 }
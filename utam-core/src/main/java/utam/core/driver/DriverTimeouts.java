@@ -29,16 +29,28 @@ public class DriverTimeouts {
   private final Duration waitForTimeout;
   private final Duration fluentTimeout;
   private final Duration pollingInterval;
+  private final PollingPolicy pollingPolicy;
 
-  public DriverTimeouts(Duration findTimeout, Duration fluentTimeout, Duration waitForTimeout, Duration pollingInterval) {
+  public DriverTimeouts(Duration findTimeout, Duration fluentTimeout, Duration waitForTimeout,
+      Duration pollingInterval, PollingPolicy pollingPolicy) {
     this.findTimeout = findTimeout;
     this.waitForTimeout = waitForTimeout;
     this.fluentTimeout = fluentTimeout;
     this.pollingInterval = pollingInterval;
+    this.pollingPolicy = pollingPolicy;
+  }
+
+  public DriverTimeouts(Duration findTimeout, Duration fluentTimeout, Duration waitForTimeout, Duration pollingInterval) {
+    this(findTimeout, fluentTimeout, waitForTimeout, pollingInterval, PollingPolicy.FIXED);
+  }
+
+  public DriverTimeouts(Duration findTimeout, Duration waitForTimeout, Duration pollingInterval,
+      PollingPolicy pollingPolicy) {
+    this(findTimeout, Duration.ZERO, waitForTimeout, pollingInterval, pollingPolicy);
   }
 
   public DriverTimeouts(Duration findTimeout, Duration waitForTimeout, Duration pollingInterval) {
-    this(findTimeout, Duration.ZERO, waitForTimeout, pollingInterval);
+    this(findTimeout, waitForTimeout, pollingInterval, PollingPolicy.FIXED);
   }
 
   /**
@@ -69,6 +81,16 @@ public class DriverTimeouts {
     return pollingInterval;
   }
 
+  /**
+   * policy for intervals between checks of the fluent wait, polling interval is used as the
+   * longest interval
+   *
+   * @return polling policy
+   */
+  public PollingPolicy getPollingPolicy() {
+    return pollingPolicy;
+  }
+
   /**
    * applied for all interactions that do not wait, like click
    *
@@ -87,7 +109,8 @@ public class DriverTimeouts {
       return tmp.getFindTimeout().equals(getFindTimeout())
           && tmp.getPollingInterval().equals(getPollingInterval())
           && tmp.getWaitForTimeout().equals(getWaitForTimeout())
-          && tmp.getFluentWaitTimeout().equals(getFluentWaitTimeout());
+          && tmp.getFluentWaitTimeout().equals(getFluentWaitTimeout())
+          && tmp.getPollingPolicy() == getPollingPolicy();
     }
     return false;
   }
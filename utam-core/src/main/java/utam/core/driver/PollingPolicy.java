@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import utam.core.framework.UtamCoreError;
+
+/**
+ * policy that defines how long to sleep between checks of a wait condition, condition is always
+ * checked first without sleeping
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+@FunctionalInterface
+public interface PollingPolicy {
+
+  String ERR_UNKNOWN_POLLING_POLICY = "unknown polling policy '%s', supported values are 'fixed', 'exponential' and 'jitter'";
+  Duration EXPONENTIAL_INITIAL_INTERVAL = Duration.ofMillis(10);
+
+  /**
+   * sleep for configured polling interval after every check
+   */
+  PollingPolicy FIXED = (poll, pollingInterval) -> pollingInterval;
+
+  /**
+   * start from short interval and double it after every check, polling interval is used as a cap
+   */
+  PollingPolicy EXPONENTIAL = exponential(EXPONENTIAL_INITIAL_INTERVAL);
+
+  /**
+   * same as exponential, but every interval is randomized between its half and full value to
+   * avoid checks from parallel tests happening at the same moment
+   */
+  PollingPolicy JITTER = jitter(EXPONENTIAL);
+
+  /**
+   * exponential backoff policy capped by the polling interval
+   *
+   * @param initialInterval interval to sleep after the first check
+   * @return policy instance
+   */
+  static PollingPolicy exponential(Duration initialInterval) {
+    return (poll, pollingInterval) -> {
+      // after 30 doublings any reasonable interval is above the cap
+      long multiplier = 1L << Math.min(poll - 1, 30);
+      Duration interval = initialInterval.multipliedBy(multiplier);
+      return interval.compareTo(pollingInterval) > 0 ? pollingInterval : interval;
+    };
+  }
+
+  /**
+   * randomize intervals of another policy
+   *
+   * @param policy policy to randomize
+   * @return policy instance
+   */
+  static PollingPolicy jitter(PollingPolicy policy) {
+    return (poll, pollingInterval) -> {
+      long millis = policy.getInterval(poll, pollingInterval).toMillis();
+      if (millis < 2) {
+        return Duration.ofMillis(millis);
+      }
+      return Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis / 2, millis + 1));
+    };
+  }
+
+  /**
+   * get policy by name used in JSON config
+   *
+   * @param name one of "fixed", "exponential" or "jitter"
+   * @return policy instance
+   */
+  static PollingPolicy getPolicy(String name) {
+    if ("fixed".equals(name)) {
+      return FIXED;
+    }
+    if ("exponential".equals(name)) {
+      return EXPONENTIAL;
+    }
+    if ("jitter".equals(name)) {
+      return JITTER;
+    }
+    throw new UtamCoreError(String.format(ERR_UNKNOWN_POLLING_POLICY, name));
+  }
+
+  /**
+   * get interval to sleep before next check
+   *
+   * @param poll            number of checks done so far, starts from 1
+   * @param pollingInterval configured polling interval
+   * @return duration to sleep
+   */
+  Duration getInterval(int poll, Duration pollingInterval);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import java.time.Duration;
+
+/**
+ * statistics of the waits done by a driver, used to tune polling policy
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class WaitStatistics {
+
+  private long waits;
+  private long failures;
+  private long polls;
+  private Duration timeToSuccess = Duration.ZERO;
+  private int lastPolls;
+  private Duration lastDuration = Duration.ZERO;
+
+  /**
+   * record finished wait
+   *
+   * @param polls     number of condition checks
+   * @param duration  time spent in wait
+   * @param isSuccess true if condition was met, false if wait timed out or threw
+   */
+  public synchronized void record(int polls, Duration duration, boolean isSuccess) {
+    this.waits++;
+    this.polls += polls;
+    this.lastPolls = polls;
+    this.lastDuration = duration;
+    if (isSuccess) {
+      timeToSuccess = timeToSuccess.plus(duration);
+    } else {
+      failures++;
+    }
+  }
+
+  /**
+   * @return number of finished waits
+   */
+  public synchronized long getWaits() {
+    return waits;
+  }
+
+  /**
+   * @return number of waits that did not succeed
+   */
+  public synchronized long getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return number of condition checks in all waits
+   */
+  public synchronized long getPolls() {
+    return polls;
+  }
+
+  /**
+   * @return total time spent in waits that succeeded
+   */
+  public synchronized Duration getTimeToSuccess() {
+    return timeToSuccess;
+  }
+
+  /**
+   * @return number of condition checks in the last wait
+   */
+  public synchronized int getLastPolls() {
+    return lastPolls;
+  }
+
+  /**
+   * @return time spent in the last wait
+   */
+  public synchronized Duration getLastDuration() {
+    return lastDuration;
+  }
+}
@@ -60,6 +60,61 @@ public interface ElementLocation {
    */
   List<Element> findElements(Driver driver);
 
+  /**
+   * find element starting from driver, if possible the whole chain is resolved with one script
+   * call
+   *
+   * @param driver instance of the driver
+   * @return instance of the element or null if element is nullable
+   */
+  default Element findElementWithScript(Driver driver) {
+    return findElement(driver);
+  }
+
+  /**
+   * find elements starting from driver, if possible the whole chain is resolved with one script
+   * call
+   *
+   * @param driver instance of the driver
+   * @return list of found elements or null if element is nullable
+   */
+  default List<Element> findElementsWithScript(Driver driver) {
+    return findElements(driver);
+  }
+
+  /**
+   * find element starting from driver and remember element found for every link
+   *
+   * @param driver instance of the driver
+   * @param path   list owned by caller, replaced with elements found for every link, can be null
+   * @return instance of the element or null if element is nullable
+   */
+  default Element findElement(Driver driver, List<Element> path) {
+    return findElement(driver);
+  }
+
+  /**
+   * find element again after it became stale, if possible only links after the deepest element of
+   * the path that is still attached to the DOM are searched again
+   *
+   * @param driver instance of the driver
+   * @param path   elements found for every link during previous search, updated with new elements
+   * @return instance of the element or null if element is nullable
+   */
+  default Element refindElement(Driver driver, List<Element> path) {
+    return findElement(driver, path);
+  }
+
+  /**
+   * location that starts from already found element can't be identified by its chain string,
+   * location with nullable link can find element that is removed later
+   *
+   * @return true if found element can be cached with chain string as a key
+   */
+  default boolean isCacheable() {
+    return false;
+  }
+
   /**
    * marker of possible element absence
    *
@@ -14,6 +14,8 @@
 
 package utam.core.framework.base;
 
+import java.util.ArrayList;
+import java.util.List;
 import utam.core.driver.Document;
 import utam.core.element.Element;
 import utam.core.element.ElementLocation;
@@ -37,6 +39,8 @@ public abstract class BasePageObject extends UtamBaseImpl implements RootPageObj
 
   // lazy element injected in runtime when a Page Object is loaded
   private Element rootFound;
+  // elements found for every link of the root locator, used to find stale root again
+  private final List<Element> rootPath = new ArrayList<>();
   private BasePageElement rootElement;
 
   // has to be protected as used in "inScope" method from generated page objects
@@ -51,6 +55,17 @@ public abstract class BasePageObject extends UtamBaseImpl implements RootPageObj
     this.factory = factory;
   }
 
+  /**
+   * page object generated with bootstrap option assigns its element fields in code, otherwise
+   * factory assigns annotated fields with reflection
+   *
+   * @param root location of the page object root
+   * @return true if element fields were assigned
+   */
+  protected boolean bootstrap(ElementLocation root) {
+    return false;
+  }
+
   protected final Document getDocument() {
     if (document == null) {
       document = new DocumentObject(getFactory());
@@ -70,16 +85,22 @@ public abstract class BasePageObject extends UtamBaseImpl implements RootPageObj
     if (rootElement == null) {
       rootElement = getElement().isNull() ? null : new BasePageElement();
       if (rootElement != null) {
-        rootElement.initialize(getFactory(), getElement());
+        rootElement.initialize(getFactory(), getElement(), this::refindElement);
       }
     }
     return rootElement;
   }
 
+  // root element became stale, find it again and rebind found root
+  private Element refindElement() {
+    rootFound = getFactory().refindElement(getRootLocator(), rootPath);
+    return rootFound;
+  }
+
   @Override
   protected final Element getElement() {
     if(rootFound == null) {
-      rootFound = getFactory().findElement(getRootLocator());
+      rootFound = getFactory().findElement(getRootLocator(), rootPath);
     }
     return rootFound;
   }
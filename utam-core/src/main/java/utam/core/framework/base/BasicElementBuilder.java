@@ -9,8 +9,10 @@ package utam.core.framework.base;
 
 import static utam.core.framework.base.CustomElementBuilder.getFilteredElementNotFoundErr;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.openqa.selenium.NotFoundException;
 import utam.core.element.BasicElement;
@@ -48,20 +50,22 @@ public class BasicElementBuilder {
     ElementLocation elementLocation = this.elementFinder.setParameters(values);
 
     // if element is not nullable - this throws an error
-    Element element = factory.findElement(elementLocation);
+    // elements of every link are kept by the built element to find it again when it's stale
+    List<Element> path = new ArrayList<>();
+    Element element = factory.findElement(elementLocation, path);
 
     // if nothing is found and element is nullable - return null
     if (element.isNull()) {
       return null;
     }
-    return createInstance(implType, element);
+    return createInstance(implType, element, () -> factory.refindElement(elementLocation, path));
   }
 
   private <T extends BasicElement, R extends BasePageElement> T createInstance(
-      Class<R> implType, Element element) {
+      Class<R> implType, Element element, Supplier<Element> refind) {
     try {
-      R result = implType.getConstructor().newInstance();
-      result.initialize(factory, element);
+      R result = ConstructorCache.newInstance(implType);
+      result.initialize(factory, element, refind);
       return (T) result;
     } catch (ReflectiveOperationException e) {
       throw new UtamError(
@@ -98,6 +102,36 @@ public class BasicElementBuilder {
     throw new NullPointerException(getFilteredElementNotFoundErr(type));
   }
 
+  /**
+   * set parameters in actionable, then find it and return first element that matches filter, if
+   * possible filter is evaluated for all found elements with a single script
+   *
+   * @param type       type of the actionable
+   * @param filter     to apply to found list
+   * @param descriptor declarative description of the same filter
+   * @param values     selector parameters values, can be empty
+   * @param <T>        element type
+   * @return instance with parameters set in selector
+   */
+  public <T extends BasicElement, R extends BasePageElement> T build(
+      Class<T> type, Class<R> implType, Predicate<T> filter, ElementFilter descriptor,
+      Object... values) {
+    if (!descriptor.isEvaluatedWithScript(factory)) {
+      return build(type, implType, filter, values);
+    }
+    // if element is not nullable - this throws an error
+    List<Element> elementsFound = factory.findElements(this.elementFinder.setParameters(values));
+    if (elementsFound == null || elementsFound.isEmpty()) {
+      return null;
+    }
+    List<Integer> matched = descriptor.apply(factory.getDriver(), elementsFound);
+    // if none found that match condition - throw
+    if (matched.isEmpty()) {
+      throw new NullPointerException(getFilteredElementNotFoundErr(type));
+    }
+    return createInstance(implType, elementsFound.get(matched.get(0)), null);
+  }
+
   /**
    * set parameters in actionable, then find all elements and return list
    *
@@ -120,7 +154,7 @@ public class BasicElementBuilder {
 
     List<T> elementList = elementsFound
         .stream()
-        .map(el -> (T) createInstance(implType, el))
+        .map(el -> (T) createInstance(implType, el, null))
         .collect(Collectors.toList());
     return elementList;
   }
@@ -146,4 +180,33 @@ public class BasicElementBuilder {
 
     return list.stream().filter(filter).collect(Collectors.toList());
   }
+
+  /**
+   * set parameters in actionable, then find all elements that match filter, if possible filter is
+   * evaluated for all found elements with a single script
+   *
+   * @param type       type of the actionable
+   * @param filter     to apply to found list
+   * @param descriptor declarative description of the same filter
+   * @param values     selector parameters values, can be empty
+   * @param <T>        element type
+   * @return list of instances that match filter
+   */
+  public <T extends BasicElement, R extends BasePageElement> List<T> buildList(
+      Class<T> type, Class<R> implType, Predicate<T> filter, ElementFilter descriptor,
+      Object... values) {
+    if (!descriptor.isEvaluatedWithScript(factory)) {
+      return buildList(type, implType, filter, values);
+    }
+    // if element is not nullable - this throws an error
+    List<Element> elementsFound = factory.findElements(this.elementFinder.setParameters(values));
+    // if nothing is found and element is nullable - return null
+    if (elementsFound == null || elementsFound.isEmpty()) {
+      return null;
+    }
+    return descriptor.apply(factory.getDriver(), elementsFound)
+        .stream()
+        .map(index -> (T) createInstance(implType, elementsFound.get(index), null))
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.base;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * creates instances of page objects and elements with public no arguments constructor and
+ * utilities with declared no arguments constructor <br> constructor of every type is looked up
+ * once and kept as a method handle, so repeated instance creation does not go through reflection
+ * lookup and access checks
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class ConstructorCache {
+
+  // value is either method handle or exception thrown while looking up constructor
+  private static final ClassValue<Object> CONSTRUCTORS = new ClassValue<Object>() {
+    @Override
+    protected Object computeValue(Class<?> type) {
+      return lookup(type, false);
+    }
+  };
+
+  // utilities can declare non public constructor
+  private static final ClassValue<Object> DECLARED_CONSTRUCTORS = new ClassValue<Object>() {
+    @Override
+    protected Object computeValue(Class<?> type) {
+      return lookup(type, true);
+    }
+  };
+
+  private ConstructorCache() {
+  }
+
+  private static Object lookup(Class<?> type, boolean isDeclared) {
+    try {
+      Constructor<?> constructor = isDeclared ? type.getDeclaredConstructor()
+          : type.getConstructor();
+      constructor.setAccessible(true);
+      return MethodHandles.lookup()
+          .unreflectConstructor(constructor)
+          .asType(MethodType.methodType(Object.class));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return e;
+    }
+  }
+
+  private static <T> T newInstance(Class<T> type, Object constructor)
+      throws ReflectiveOperationException {
+    if (constructor instanceof ReflectiveOperationException) {
+      throw (ReflectiveOperationException) constructor;
+    }
+    if (constructor instanceof RuntimeException) {
+      throw new InstantiationException(((RuntimeException) constructor).getMessage());
+    }
+    try {
+      return type.cast((Object) ((MethodHandle) constructor).invokeExact());
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * create new instance of the type with cached constructor
+   *
+   * @param type type to create
+   * @param <T>  type bound
+   * @return new instance
+   * @throws ReflectiveOperationException if type does not have no arguments constructor or it
+   *                                      throws an error
+   */
+  public static <T> T newInstance(Class<T> type) throws ReflectiveOperationException {
+    return newInstance(type, CONSTRUCTORS.get(type));
+  }
+
+  /**
+   * create new instance of the type with cached declared constructor, which can be non public
+   *
+   * @param type type to create
+   * @param <T>  type bound
+   * @return new instance
+   * @throws ReflectiveOperationException if type does not declare no arguments constructor or it
+   *                                      throws an error
+   */
+  public static <T> T newDeclaredInstance(Class<T> type) throws ReflectiveOperationException {
+    return newInstance(type, DECLARED_CONSTRUCTORS.get(type));
+  }
+}
@@ -9,6 +9,7 @@ package utam.core.framework.base;
 
 import static utam.core.element.FindContext.Type.EXISTING;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -115,6 +116,36 @@ public class CustomElementBuilder {
     throw new NullPointerException(getFilteredElementNotFoundErr(type));
   }
 
+  /**
+   * scope page object of the custom type, then find all and return first instance that matches
+   * filter, if possible filter is evaluated for all found roots with a single script
+   *
+   * @param type       custom type
+   * @param <T>        custom generic type
+   * @param filter     filter to apply to the found instances
+   * @param descriptor declarative description of the same filter
+   * @return instance of the Page Object of given type
+   */
+  public <T extends PageObject> T build(Class<T> type, Predicate<T> filter,
+      ElementFilter descriptor) {
+    if (!descriptor.isEvaluatedWithScript(factory)) {
+      return build(type, filter);
+    }
+    // if element is not nullable - this throws an error
+    List<Element> found = factory.findElements(root);
+    List<Integer> matched = found == null || found.isEmpty() ? Collections.emptyList()
+        : descriptor.apply(factory.getDriver(), found);
+    if (!matched.isEmpty()) {
+      return new CustomElementBuilder(factory, new ElementLocationChain(found.get(matched.get(0))))
+          .build(type);
+    }
+    // if nothing is found and element is nullable - return null
+    if (root.isNullable()) {
+      return null;
+    }
+    throw new NullPointerException(getFilteredElementNotFoundErr(type));
+  }
+
   /**
    * scope page object of the custom type, then find all if nothing found, throws an error <br>
    *
@@ -157,6 +188,35 @@ public class CustomElementBuilder {
         .collect(Collectors.toList());
   }
 
+  /**
+   * scope page object of the custom type, then find all and return instances that match filter, if
+   * possible filter is evaluated for all found roots with a single script
+   *
+   * @param type       custom type
+   * @param <T>        custom generic type
+   * @param filter     filter to apply to the found instances
+   * @param descriptor declarative description of the same filter
+   * @return instances of the Page Object of given type
+   */
+  public <T extends PageObject> List<T> buildList(Class<T> type, Predicate<T> filter,
+      ElementFilter descriptor) {
+    if (!descriptor.isEvaluatedWithScript(factory)) {
+      return buildList(type, filter);
+    }
+    // if element is not nullable - this throws
+    List<Element> found = factory.findElements(root);
+
+    // if nothing is found and element is nullable - return null
+    if (found == null || found.isEmpty()) {
+      return root.isNullable() ? null : Collections.emptyList();
+    }
+    return descriptor.apply(factory.getDriver(), found)
+        .stream()
+        .map(index -> new CustomElementBuilder(factory, new ElementLocationChain(found.get(index)))
+            .build(type))
+        .collect(Collectors.toList());
+  }
+
   /**
    * UTAM PO as a parent of external PO <br> it needs to get
    */
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import utam.core.element.Element;
+
+/**
+ * cache of found elements shared by factories of a loader, key is the locators chain string with
+ * parameters set <br> only single elements of locations without nullable links are cached: page can
+add or remove elements without any signal to the cache, so lists and elements that might be absent
+are always found again <br> every invalidation increments DOM generation and drops all elements found
+ * before: after navigation to other URL, document reload, context reset, switch between native and
+ * web context or stale element error
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ElementCache {
+
+  private final Map<String, Element> elements = new HashMap<>();
+  private long generation = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private String documentUrl;
+
+  Element getElement(String key) {
+    Element cached = elements.get(key);
+    if (cached == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return cached;
+  }
+
+  void setElement(String key, Element element) {
+    elements.put(key, element);
+  }
+
+  /**
+   * set URL of the current document, cache is invalidated if it differs from URL known before
+   *
+   * @param url current URL, ignored if null
+   */
+  public void setDocumentUrl(String url) {
+    if (url == null) {
+      return;
+    }
+    if (documentUrl != null && !documentUrl.equals(url)) {
+      invalidate();
+    }
+    documentUrl = url;
+  }
+
+  /**
+   * start new DOM generation, all elements found before should be found again
+   */
+  public void invalidate() {
+    generation++;
+    elements.clear();
+  }
+
+  /**
+   * current DOM generation, incremented every time cache is invalidated
+   *
+   * @return generation number
+   */
+  public long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * number of lookups served from cache
+   *
+   * @return number of hits
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * number of lookups that needed to find element with driver
+   *
+   * @return number of misses
+   */
+  public long getMisses() {
+    return misses;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.base;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import utam.core.driver.Driver;
+import utam.core.element.Element;
+
+/**
+ * declarative description of an element filter, generated by compiler in addition to the filter
+ * predicate <br> simple filters can be evaluated for all found elements with a single script
+ * instead of applying predicate to every element
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class ElementFilter {
+
+  static final String FILTER_JAVASCRIPT =
+      "var elements = arguments[0], apply = arguments[1], applyArg = arguments[2];"
+          + "var matcher = arguments[3], expected = arguments[4];"
+          + "function isVisible(e) {"
+          + "var style = window.getComputedStyle(e);"
+          + "return style.visibility !== 'hidden' && style.display !== 'none'"
+          + " && (e.offsetWidth > 0 || e.offsetHeight > 0 || e.getClientRects().length > 0);"
+          + "}"
+          + "function getValue(e) {"
+          + "if (apply === 'getText') { return (e.innerText || '').trim(); }"
+          + "if (apply === 'isVisible') { return isVisible(e); }"
+          + "if (apply === 'isEnabled') { return !e.disabled; }"
+          + "if (applyArg === 'value' && e.value !== undefined) { return e.value; }"
+          + "return e.getAttribute(applyArg);"
+          + "}"
+          + "var matched = [];"
+          + "for (var i = 0; i < elements.length; i++) {"
+          + "var actual = getValue(elements[i]);"
+          + "var isMatch;"
+          + "if (matcher === 'isTrue') { isMatch = actual === true; }"
+          + "else if (matcher === 'isFalse') { isMatch = actual === false; }"
+          + "else if (matcher === 'notNull') { isMatch = actual !== null && actual !== undefined; }"
+          + "else if (matcher === 'stringEquals') { isMatch = actual === expected; }"
+          + "else { isMatch = actual !== null && actual !== undefined"
+          + " && String(actual).indexOf(expected) !== -1; }"
+          + "if (isMatch) { matched.push(i); }"
+          + "}"
+          + "return matched;";
+
+  private static final Set<String> SUPPORTED_MATCHERS = new HashSet<>(
+      Arrays.asList("isTrue", "isFalse", "notNull", "stringEquals", "stringContains"));
+  // apply methods that are shortcuts for getAttribute
+  private static final List<String> ATTRIBUTE_GETTERS = Arrays
+      .asList("getClassAttribute", "getTitle", "getValue");
+  private static final Set<String> SUPPORTED_METHODS = new HashSet<>(
+      Arrays.asList("getText", "getAttribute", "isVisible", "isEnabled"));
+
+  private final String applyMethod;
+  private final Object applyArgument;
+  private final String matcherType;
+  private final Object matcherArgument;
+
+  /**
+   * @param applyMethod method applied to every element, ex. "getText"
+   * @param matcherType name of the matcher, ex. "stringContains"
+   * @param arguments   apply method argument (only for "getAttribute") followed by matcher
+   *                    argument (only for string matchers)
+   */
+  public ElementFilter(String applyMethod, String matcherType, Object... arguments) {
+    List<Object> values = arguments == null ? Collections.emptyList() : Arrays.asList(arguments);
+    int index = 0;
+    if ("getAttribute".equals(applyMethod)) {
+      this.applyMethod = applyMethod;
+      this.applyArgument = values.size() > index ? values.get(index++) : null;
+    } else if (ATTRIBUTE_GETTERS.contains(applyMethod)) {
+      this.applyMethod = "getAttribute";
+      this.applyArgument = getAttributeName(applyMethod);
+    } else {
+      this.applyMethod = applyMethod;
+      this.applyArgument = null;
+    }
+    this.matcherType = matcherType;
+    this.matcherArgument = values.size() > index ? values.get(index) : null;
+  }
+
+  private static String getAttributeName(String getter) {
+    if ("getClassAttribute".equals(getter)) {
+      return "class";
+    }
+    return "getTitle".equals(getter) ? "title" : "value";
+  }
+
+  /**
+   * filter is evaluated with script if it is enabled in driver context, driver can execute scripts
+   * and both apply method and matcher are known
+   *
+   * @param factory page objects factory
+   * @return true if filter should be evaluated with script
+   */
+  boolean isEvaluatedWithScript(PageObjectsFactory factory) {
+    return SUPPORTED_METHODS.contains(applyMethod) && SUPPORTED_MATCHERS.contains(matcherType)
+        && factory.getDriverContext().isScriptFilters() && !factory.getDriver().isNative();
+  }
+
+  /**
+   * evaluate filter for all elements with one script call
+   *
+   * @param driver   driver instance
+   * @param elements found elements
+   * @return indexes of the elements that match filter, in the order of elements
+   */
+  List<Integer> apply(Driver driver, List<Element> elements) {
+    Object result = driver.executeScript(FILTER_JAVASCRIPT, elements, applyMethod, applyArgument,
+        matcherType, matcherArgument);
+    if (!(result instanceof Collection)) {
+      return Collections.emptyList();
+    }
+    return ((Collection<?>) result).stream()
+        .map(index -> ((Number) index).intValue())
+        .collect(Collectors.toList());
+  }
+}
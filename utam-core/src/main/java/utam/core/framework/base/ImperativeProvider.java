@@ -7,7 +7,6 @@
  */
 package utam.core.framework.base;
 
-import java.lang.reflect.Constructor;
 import utam.core.framework.consumer.UtamError;
 
 /**
@@ -29,10 +28,8 @@ public abstract class ImperativeProvider<T extends PageObject> implements Impera
 
   public static <T extends ImperativeProvider> T build(Class<T> type) {
     try {
-      Constructor<T> constructor = type.getDeclaredConstructor();
-      constructor.setAccessible(true);
-      return constructor.newInstance();
-    } catch (Exception e) {
+      return ConstructorCache.newDeclaredInstance(type);
+    } catch (ReflectiveOperationException e) {
       throw new UtamError(String.format(ERR_CANT_CREATE_UTILITY, type.getName()), e);
     }
   }
@@ -52,7 +52,39 @@ public interface PageObjectsFactory {
    */
   void bootstrap(PageObject instance, ElementLocation root);
 
+  /**
+   * get cache of found elements, used only if enabled in driver context
+   *
+   * @return instance of the cache, by default new empty cache that is never filled
+   */
+  default ElementCache getElementCache() {
+    return new ElementCache();
+  }
+
   Element findElement(ElementLocation location);
 
+  /**
+   * find element and remember elements found for every link of the location
+   *
+   * @param location element location
+   * @param path     list owned by the element instance, used later to find stale element again
+   * @return instance of the element
+   */
+  default Element findElement(ElementLocation location, List<Element> path) {
+    return findElement(location);
+  }
+
   List<Element> findElements(ElementLocation location);
+
+  /**
+   * find element again once, without waiting, after it became stale, found elements cache is
+   * invalidated
+   *
+   * @param location element location
+   * @param path     elements found for every link during previous search of the element instance
+   * @return new instance of the element, by default element is searched again from the root
+   */
+  default Element refindElement(ElementLocation location, List<Element> path) {
+    return findElement(location, path);
+  }
 }
@@ -7,20 +7,30 @@
  */
 package utam.core.framework.base;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import utam.core.driver.Driver;
 import utam.core.driver.DriverContext;
+import utam.core.driver.DriverTimeouts;
 import utam.core.element.Element;
 import utam.core.element.ElementLocation;
+import utam.core.element.FindContext;
+import utam.core.element.Locator;
 import utam.core.framework.consumer.PageObjectContext;
 import utam.core.framework.consumer.UtamError;
 import utam.core.framework.consumer.UtamLoaderConfig;
 import utam.core.framework.context.PlatformType;
 import utam.core.framework.element.ExpectationsImpl;
+import utam.core.framework.metrics.MetricsDriver;
 
 /**
  * selenium page objects factory
@@ -33,17 +43,34 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
   private final PageObjectContext pageObjectContext;
   private final Driver driver;
   private final DriverContext driverContext;
+  private final ElementCache elementCache;
+  // platform of the last bootstrapped page object, elements are not shared between contexts
+  private PlatformType platform;
 
   public PageObjectsFactoryImpl(
       PageObjectContext pageObjectContext, DriverContext driverContext,
-      Driver driver) {
+      Driver driver, ElementCache elementCache) {
     this.pageObjectContext = pageObjectContext;
     this.driverContext = driverContext;
     this.driver = driver;
+    this.elementCache = elementCache;
+  }
+
+  public PageObjectsFactoryImpl(
+      PageObjectContext pageObjectContext, DriverContext driverContext,
+      Driver driver) {
+    this(pageObjectContext, driverContext, driver, new ElementCache());
+  }
+
+  public PageObjectsFactoryImpl(UtamLoaderConfig utamLoaderConfig, Driver driver,
+      ElementCache elementCache) {
+    this(utamLoaderConfig.getPageContext(), utamLoaderConfig.getDriverContext(),
+        utamLoaderConfig.getDriverMetrics() == null ? driver
+            : new MetricsDriver(driver, utamLoaderConfig.getDriverMetrics()), elementCache);
   }
 
   public PageObjectsFactoryImpl(UtamLoaderConfig utamLoaderConfig, Driver driver) {
-    this(utamLoaderConfig.getPageContext(), utamLoaderConfig.getDriverContext(), driver);
+    this(utamLoaderConfig, driver, new ElementCache());
   }
 
   @Override
@@ -56,7 +83,10 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
     }
     BasePageObject pageObject = (BasePageObject) instance;
     pageObject.setBootstrap(root, this);
-    new FieldsBuilder(pageObject).bootstrapElements();
+    // hand written or not regenerated page object does not override bootstrap method
+    if (!pageObject.bootstrap(root)) {
+      new FieldsBuilder(pageObject).bootstrapElements();
+    }
     setPlatform(instance);
   }
 
@@ -68,6 +98,10 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
       pagePlatform = PlatformType.WEB;
     }
     if (getDriver().isMobile()) {
+      if (platform != null && platform != pagePlatform) {
+        elementCache.invalidate();
+      }
+      platform = pagePlatform;
       if (pagePlatform.equals(PlatformType.WEB)) {
         getDriver().setPageContextToWebView(getDriverContext().getBridgeAppTitle(),
             getDriverContext().getTimeouts().getWaitForTimeout(),
@@ -93,68 +127,208 @@ public class PageObjectsFactoryImpl implements PageObjectsFactory {
     return driver;
   }
 
+  @Override
+  public ElementCache getElementCache() {
+    return elementCache;
+  }
+
+  private boolean isCached(ElementLocation location) {
+    return driverContext.isElementCache() && location.isCacheable();
+  }
+
   @Override
   public Element findElement(ElementLocation location) {
-    return driver.waitFor(driverContext.getTimeouts().getFindTimeout(),
-        driverContext.getTimeouts().getPollingInterval(),
-        new ExpectationsImpl<>("find element", location::findElement));
+    return findElement(location, null);
+  }
+
+  @Override
+  public Element findElement(ElementLocation location, List<Element> path) {
+    if (!isCached(location)) {
+      return find(location, path);
+    }
+    String key = location.getLocatorChainString();
+    Element cached = elementCache.getElement(key);
+    if (cached != null) {
+      return cached;
+    }
+    Element found = find(location, path);
+    if (!found.isNull()) {
+      elementCache.setElement(key, found);
+    }
+    return found;
   }
 
   @Override
   public List<Element> findElements(ElementLocation location) {
-    return driver.waitFor(driverContext.getTimeouts().getFindTimeout(),
-        driverContext.getTimeouts().getPollingInterval(),
-        new ExpectationsImpl<>("find element", location::findElements));
+    // list can grow or shrink without any signal to the cache, so it's always found again
+    return findList(location);
+  }
+
+  @Override
+  public Element refindElement(ElementLocation location, List<Element> path) {
+    // element was re-rendered, cached elements are not valid anymore
+    elementCache.invalidate();
+    // caller is already inside a wait, so element is searched once
+    Element found = location.refindElement(driver, path);
+    if (isCached(location) && !found.isNull()) {
+      elementCache.setElement(location.getLocatorChainString(), found);
+    }
+    return found;
+  }
+
+  private Element find(ElementLocation location, List<Element> path) {
+    Function<Driver, Element> finder;
+    if (driverContext.isScriptTraversal()) {
+      // script does not return elements of intermediate links
+      if (path != null) {
+        path.clear();
+      }
+      finder = location::findElementWithScript;
+    } else {
+      finder = d -> location.findElement(d, path);
+    }
+    DriverTimeouts timeouts = driverContext.getTimeouts();
+    return driver.waitFor(timeouts.getFindTimeout(), timeouts.getPollingInterval(),
+        timeouts.getPollingPolicy(), new ExpectationsImpl<>("find element", finder), null);
+  }
+
+  private List<Element> findList(ElementLocation location) {
+    Function<Driver, List<Element>> finder = driverContext.isScriptTraversal()
+        ? location::findElementsWithScript : location::findElements;
+    DriverTimeouts timeouts = driverContext.getTimeouts();
+    return driver.waitFor(timeouts.getFindTimeout(), timeouts.getPollingInterval(),
+        timeouts.getPollingPolicy(), new ExpectationsImpl<>("find element", finder), null);
   }
 
   // assign values to the fields
   static class FieldsBuilder {
 
     static final String NON_EXISTING_FIELD_ERROR = "non-existing field '%s' is referenced as a scope";
+    static final String ERR_MISSING_FIND_ANNOTATION =
+        "element field '%s' in class '%s' does not have @ElementMarker.Find annotation";
+    private static final ClassValue<BootstrapPlan> BOOTSTRAP_PLANS = new ClassValue<BootstrapPlan>() {
+      @Override
+      protected BootstrapPlan computeValue(Class<?> type) {
+        return new BootstrapPlan(type);
+      }
+    };
 
     private final BasePageObject instance;
-    private final Map<String, ElementLocation> pageElements = new TreeMap<>();
+    final BootstrapPlan plan;
+    private final ElementLocation[] locations;
 
     FieldsBuilder(BasePageObject instance) {
       this.instance = instance;
+      this.plan = BOOTSTRAP_PLANS.get(instance.getClass());
+      this.locations = new ElementLocation[plan.names.length];
     }
 
-    ElementLocation getLocator(Field f) {
-      ElementMarker.Find annotation = f.getDeclaredAnnotation(ElementMarker.Find.class);
-      String scopeString = annotation.scope();
-      ElementLocation finder;
-      if (scopeString.isEmpty()) {
-        finder = instance.getRootLocator()
-            .scope(ElementMarker.getLocator(annotation),
-                ElementMarker.getFinderContext(annotation));
-      } else if (pageElements.containsKey(scopeString)) {
-        finder = pageElements.get(scopeString)
-            .scope(ElementMarker.getLocator(annotation),
-                ElementMarker.getFinderContext(annotation));
-      } else {
-        throw new UtamError(String.format(NON_EXISTING_FIELD_ERROR, scopeString));
+    private ElementLocation getLocation(int index) {
+      if (locations[index] == null) {
+        int scope = plan.scopes[index];
+        if (scope == BootstrapPlan.MISSING_SCOPE) {
+          throw new UtamError(String.format(NON_EXISTING_FIELD_ERROR, plan.scopeNames[index]));
+        }
+        ElementLocation scopeLocation =
+            scope == BootstrapPlan.ROOT_SCOPE ? instance.getRootLocator() : getLocation(scope);
+        locations[index] = scopeLocation.scope(plan.locators[index], plan.contexts[index]);
       }
-      pageElements.put(f.getName(), finder);
-      return finder;
+      return locations[index];
+    }
+
+    // used in tests
+    ElementLocation getLocator(Field f) {
+      return getLocation(Arrays.asList(plan.names).indexOf(f.getName()));
     }
 
     void bootstrapElements() {
-      Stream.of(instance.getClass().getDeclaredFields())
+      for (int i = 0; i < plan.names.length; i++) {
+        if (plan.locators[i] == null) {
+          throw new UtamError(String.format(ERR_MISSING_FIND_ANNOTATION, plan.names[i],
+              instance.getClass().getSimpleName()));
+        }
+        ElementLocation elementLocation = getLocation(i);
+        try {
+          if (plan.finalFields[i] != null) {
+            plan.finalFields[i].set(instance, elementLocation);
+          } else if (plan.setters[i] == null) {
+            throw plan.errors[i];
+          } else {
+            plan.setters[i].set(instance, elementLocation);
+          }
+        } catch (Exception e) {
+          throw new UtamError(
+              String.format(
+                  "Error while setting field '%s' in class '%s'",
+                  plan.names[i], instance.getClass().getSimpleName()),
+              e);
+        }
+      }
+    }
+  }
+
+  /**
+   * element fields of a page object class with their locators and scopes, built once per class
+   * <br> fields are kept in declaration order, scope can only reference field declared before
+   */
+  static final class BootstrapPlan {
+
+    static final int ROOT_SCOPE = -1;
+    static final int MISSING_SCOPE = -2;
+
+    final String[] names;
+    final Locator[] locators;
+    final FindContext[] contexts;
+    final int[] scopes;
+    final String[] scopeNames;
+    final VarHandle[] setters;
+    // var handle can't set final field, it's set with reflection
+    final Field[] finalFields;
+    final Exception[] errors;
+
+    BootstrapPlan(Class<?> type) {
+      List<Field> fields = Stream.of(type.getDeclaredFields())
           .filter(f -> ElementLocation.class.isAssignableFrom(f.getType()))
-          .forEach(
-              f -> {
-                ElementLocation elementLocation = getLocator(f);
-                try {
-                  f.setAccessible(true);
-                  f.set(instance, elementLocation);
-                } catch (Exception e) {
-                  throw new UtamError(
-                      String.format(
-                          "Error while setting field '%s' in class '%s'",
-                          f.getName(), instance.getClass().getSimpleName()),
-                      e);
-                }
-              });
+          .collect(Collectors.toList());
+      int size = fields.size();
+      names = new String[size];
+      locators = new Locator[size];
+      contexts = new FindContext[size];
+      scopes = new int[size];
+      scopeNames = new String[size];
+      setters = new VarHandle[size];
+      finalFields = new Field[size];
+      errors = new Exception[size];
+      Map<String, Integer> indexes = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        Field field = fields.get(i);
+        ElementMarker.Find annotation = field.getDeclaredAnnotation(ElementMarker.Find.class);
+        names[i] = field.getName();
+        // field without annotation can't be bootstrapped, locator is left null to throw later
+        if (annotation == null) {
+          continue;
+        }
+        locators[i] = ElementMarker.getLocator(annotation);
+        contexts[i] = ElementMarker.getFinderContext(annotation);
+        scopeNames[i] = annotation.scope();
+        if (scopeNames[i].isEmpty()) {
+          scopes[i] = ROOT_SCOPE;
+        } else {
+          scopes[i] = indexes.getOrDefault(scopeNames[i], MISSING_SCOPE);
+        }
+        indexes.put(names[i], i);
+        try {
+          if (Modifier.isFinal(field.getModifiers())) {
+            field.setAccessible(true);
+            finalFields[i] = field;
+          } else {
+            setters[i] = MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                .unreflectVarHandle(field);
+          }
+        } catch (IllegalAccessException | RuntimeException e) {
+          errors[i] = e;
+        }
+      }
     }
   }
 }
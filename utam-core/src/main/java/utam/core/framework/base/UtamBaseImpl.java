@@ -19,6 +19,7 @@ import utam.core.element.Locator;
 import utam.core.framework.UtamLogger;
 import utam.core.framework.element.ElementExpectations;
 import utam.core.framework.element.ExpectationsImpl;
+import utam.core.framework.element.ObserverExpectations;
 
 /**
  * abstraction base for an element and a page object
@@ -64,27 +65,37 @@ public abstract class UtamBaseImpl implements UtamBase {
     return waitFor(expectations);
   }
 
+  private boolean isObserverWaits() {
+    return getFactory().getDriverContext().isObserverWaits();
+  }
+
   private <T> T waitFor(Expectations<T> expectations) {
     log(expectations.getLogMessage());
-    return getDriver().waitFor(getDriverTimeouts().getWaitForTimeout(), getDriverTimeouts().getPollingInterval(), expectations,
-        getElement());
+    return getDriver().waitFor(getDriverTimeouts().getWaitForTimeout(), getDriverTimeouts().getPollingInterval(),
+        getDriverTimeouts().getPollingPolicy(), expectations, getElement());
   }
 
   @Override
   public final void waitForAbsence() {
-    Expectations<Boolean> expectations = ElementExpectations.absence();
+    Expectations<Boolean> expectations = isObserverWaits()
+        ? ObserverExpectations.absence(getDriverTimeouts().getWaitForTimeout())
+        : ElementExpectations.absence();
     waitFor(expectations);
   }
 
   @Override
   public final void waitForVisible() {
-    Expectations<Boolean> expectations = ElementExpectations.visibility(true);
+    Expectations<Boolean> expectations = isObserverWaits()
+        ? ObserverExpectations.visibility(true, getDriverTimeouts().getWaitForTimeout())
+        : ElementExpectations.visibility(true);
     waitFor(expectations);
   }
 
   @Override
   public final void waitForInvisible() {
-    Expectations<Boolean> expectations = ElementExpectations.visibility(false);
+    Expectations<Boolean> expectations = isObserverWaits()
+        ? ObserverExpectations.visibility(false, getDriverTimeouts().getWaitForTimeout())
+        : ElementExpectations.visibility(false);
     waitFor(expectations);
   }
 
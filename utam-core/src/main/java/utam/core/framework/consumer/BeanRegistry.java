@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.consumer;
+
+import static utam.core.framework.consumer.PageObjectContextImpl.getClassFromName;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import utam.core.framework.base.PageObject;
+
+/**
+ * immutable map of configured page object type names to the names of their implementations <br>
+ * implementing class is loaded only when bean is requested for the first time and then reused
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+final class BeanRegistry {
+
+  private final Map<String, String> beanNames;
+  private final Map<String, Class> resolved = new ConcurrentHashMap<>();
+
+  BeanRegistry(Map<String, String> beanNames) {
+    this.beanNames = Collections.unmodifiableMap(new HashMap<>(beanNames));
+  }
+
+  /**
+   * create registry from already loaded classes
+   *
+   * @param beans map of page object types to implementing classes
+   * @return registry with all classes resolved
+   */
+  static BeanRegistry fromClasses(Map<Class<? extends PageObject>, Class> beans) {
+    Map<String, String> names = new HashMap<>();
+    beans.forEach((type, implType) -> names.put(type.getName(), implType.getName()));
+    BeanRegistry registry = new BeanRegistry(names);
+    beans.forEach((type, implType) -> registry.resolved.put(type.getName(), implType));
+    return registry;
+  }
+
+  /**
+   * check if implementation is configured for the type
+   *
+   * @param type page object type
+   * @return true if bean is configured
+   */
+  boolean isConfigured(Class<? extends PageObject> type) {
+    return beanNames.containsKey(type.getName());
+  }
+
+  /**
+   * get implementing class for configured type, class is loaded on first request
+   *
+   * @param type page object type
+   * @return implementing class or null if bean is not configured
+   */
+  Class getBeanClass(Class<? extends PageObject> type) {
+    String className = beanNames.get(type.getName());
+    if (className == null) {
+      return null;
+    }
+    return resolved.computeIfAbsent(type.getName(), key -> getClassFromName(className));
+  }
+
+  // used in tests
+  boolean isResolved(Class<? extends PageObject> type) {
+    return resolved.containsKey(type.getName());
+  }
+}
@@ -29,16 +29,24 @@ public class JsonLoaderConfig {
   private final List<Module> modules = new ArrayList<>();
   // if profile is set at the loader level, then it applies to all modules
   final List<Profile> profiles = new ArrayList<>();
+  // name of the polling policy for waits, null means default
+  private final String pollingPolicy;
 
   @JsonCreator
   public JsonLoaderConfig(
       @JsonProperty(value = "modules", required = true) List<Module> modules,
-      @JsonProperty(value = "profiles") List<Profile> profiles) {
+      @JsonProperty(value = "profiles") List<Profile> profiles,
+      @JsonProperty(value = "pollingPolicy") String pollingPolicy) {
     this.modules.add(new Module(null, new ArrayList<>()));
     this.modules.addAll(modules);
     if (profiles != null) {
       this.profiles.addAll(profiles);
     }
+    this.pollingPolicy = pollingPolicy;
+  }
+
+  public JsonLoaderConfig(List<Module> modules, List<Profile> profiles) {
+    this(modules, profiles, null);
   }
 
   /**
@@ -92,6 +100,15 @@ public class JsonLoaderConfig {
     return modules;
   }
 
+  /**
+   * get name of the configured polling policy
+   *
+   * @return "fixed", "exponential", "jitter" or null if not set
+   */
+  public String getPollingPolicy() {
+    return pollingPolicy;
+  }
+
   /**
    * JSON mapper class for loader config to read and write. Should be kept separate from compiler
    * config
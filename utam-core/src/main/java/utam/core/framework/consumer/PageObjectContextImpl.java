@@ -7,11 +7,10 @@
  */
 package utam.core.framework.consumer;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 import utam.core.framework.UtamCoreError;
 import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.ConstructorCache;
 import utam.core.framework.base.PageObject;
 
 /**
@@ -25,10 +24,14 @@ public class PageObjectContextImpl implements PageObjectContext {
   public static final String ERR_GET_CLASS_BY_NAME = "can't find class with name %s";
   static final String ERR_GET_INSTANCE_BY_NAME = "can't create instance of type '%s'";
 
-  private final Map<Class<? extends PageObject>, Class> beansOverride;
+  private final BeanRegistry beansOverride;
 
   public PageObjectContextImpl(Map<Class<? extends PageObject>, Class> overrides) {
-    this.beansOverride = overrides;
+    this(BeanRegistry.fromClasses(overrides));
+  }
+
+  PageObjectContextImpl(BeanRegistry beansOverride) {
+    this.beansOverride = beansOverride;
   }
 
   public static Class getClassFromName(String className) {
@@ -50,20 +53,15 @@ public class PageObjectContextImpl implements PageObjectContext {
     Class<? extends T> implementingClass;
     if (BasePageObject.class.isAssignableFrom(type)) { // if class and not interface is passed
       implementingClass = type;
-    } else if (beansOverride.containsKey(type)) {
-      implementingClass = beansOverride.get(type);
+    } else if (beansOverride.isConfigured(type)) {
+      implementingClass = beansOverride.getBeanClass(type);
     } else {
       String className = getDefaultImplType(type.getName())[1];
       implementingClass = getClassFromName(className);
     }
     try {
-      Constructor<? extends T> constructor = implementingClass.getConstructor();
-      constructor.setAccessible(true);
-      return constructor.newInstance();
-    } catch (NoSuchMethodException
-        | IllegalAccessException
-        | InstantiationException
-        | InvocationTargetException e) {
+      return ConstructorCache.newInstance(implementingClass);
+    } catch (ReflectiveOperationException e) {
       throw new UtamError(String.format(ERR_GET_INSTANCE_BY_NAME, type.getName()), e);
     }
   }
@@ -9,6 +9,7 @@ package utam.core.framework.consumer;
 
 import utam.core.driver.Document;
 import utam.core.element.Locator;
+import utam.core.framework.base.ElementCache;
 import utam.core.framework.base.PageObject;
 import utam.core.framework.base.RootPageObject;
 
@@ -72,4 +73,12 @@ public interface UtamLoader {
    * @return new instance every time method is called
    */
   Document getDocument();
+
+  /**
+   * get cache of found elements to read hits and misses or to invalidate it when page changed
+   * without navigation through the Document, cache is used only if enabled in config
+   *
+   * @return cache of the current factory
+   */
+  ElementCache getElementCache();
 }
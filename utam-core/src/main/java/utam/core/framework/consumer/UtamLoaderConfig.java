@@ -9,7 +9,9 @@ package utam.core.framework.consumer;
 
 import java.time.Duration;
 import utam.core.driver.DriverContext;
+import utam.core.driver.PollingPolicy;
 import utam.core.framework.context.Profile;
+import utam.core.framework.metrics.DriverMetrics;
 
 /**
  * configuration of the UTAM integration by consumer, configuration should be created every time
@@ -73,10 +75,66 @@ public interface UtamLoaderConfig {
    */
   void setPollingInterval(Duration pollingInterval);
 
+  /**
+   * set policy for intervals between checks of a wait, by default polling interval is fixed <br>
+   * with exponential policy checks start frequently and back off up to the polling interval
+   *
+   * @param pollingPolicy polling policy
+   */
+  void setPollingPolicy(PollingPolicy pollingPolicy);
+
   /**
    * used for mobile integration: set bridge app title
    *
    * @param title title of the bridge app
    */
   void setBridgeAppTitle(String title);
+
+  /**
+   * resolve chains of CSS locators with one JavaScript call instead of a command per locator,
+   * chains with mobile locators are always resolved one by one
+   *
+   * @param isEnabled true to enable
+   */
+  void setScriptTraversal(boolean isEnabled);
+
+  /**
+   * reuse found elements until page changes instead of finding them every time
+   *
+   * @param isEnabled true to enable
+   */
+  void setElementCache(boolean isEnabled);
+
+  /**
+   * wait for element visibility, invisibility or absence with one asynchronous script that
+   * observes DOM changes, polling is used if driver can't run asynchronous scripts
+   *
+   * @param isEnabled true to enable
+   */
+  void setObserverWaits(boolean isEnabled);
+
+  /**
+   * evaluate simple filters of elements lists, like "getText contains", with one script for all
+   * found elements instead of applying filter predicate to each element, values are read with
+   * browser properties and can differ from values returned by element methods, see
+   * DriverContext.Options.setScriptFilters
+   *
+   * @param isEnabled true to enable
+   */
+  void setScriptFilters(boolean isEnabled);
+
+  /**
+   * record latency of driver commands, polls of waits and page object methods issuing commands,
+   * same metrics instance can be queried during the run and exported at the end
+   *
+   * @param metrics metrics to record to, null to stop recording
+   */
+  void setDriverMetrics(DriverMetrics metrics);
+
+  /**
+   * get metrics that driver commands are recorded to
+   *
+   * @return metrics instance or null if recording is not enabled
+   */
+  DriverMetrics getDriverMetrics();
 }
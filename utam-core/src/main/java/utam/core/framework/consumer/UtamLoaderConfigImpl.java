@@ -8,7 +8,6 @@
 package utam.core.framework.consumer;
 
 import static utam.core.framework.consumer.JsonLoaderConfig.loadConfig;
-import static utam.core.framework.consumer.PageObjectContextImpl.getClassFromName;
 
 import java.io.File;
 import java.time.Duration;
@@ -16,15 +15,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import utam.core.driver.DriverContext;
 import utam.core.driver.DriverTimeouts;
+import utam.core.driver.PollingPolicy;
 import utam.core.framework.UtamCoreError;
-import utam.core.framework.base.PageObject;
 import utam.core.framework.consumer.JsonLoaderConfig.Module;
 import utam.core.framework.context.DefaultProfileContext;
 import utam.core.framework.context.Profile;
 import utam.core.framework.context.ProfileContext;
+import utam.core.framework.metrics.DriverMetrics;
 
 /**
  * Loader config is used to set
@@ -40,12 +39,19 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
   // profiles that were set as active
   private final List<String> activeProfiles = new ArrayList<>();
   private final List<String> pageObjectModules = new ArrayList<>();
+  // built on first request, reset when profiles configuration changes
+  private PageObjectContext pageContext;
   // driver
   private DriverTimeouts timeouts;
   private String bridgeAppTitle;
+  private final DriverContext.Options driverOptions = new DriverContext.Options();
+  private DriverMetrics driverMetrics;
 
   public UtamLoaderConfigImpl(DriverTimeouts timeouts, JsonLoaderConfig config) {
     this.timeouts = timeouts;
+    if (config.getPollingPolicy() != null) {
+      setPollingPolicy(PollingPolicy.getPolicy(config.getPollingPolicy()));
+    }
     for (Module module : config.getModules()) {
       String moduleName = module.getName();
       pageObjectModules.add(moduleName);
@@ -71,17 +77,6 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
     this(DriverTimeouts.DEFAULT);
   }
 
-  private static Map<Class<? extends PageObject>, Class<? extends PageObject>> getConfiguredBeans(
-      ProfileContext profileContext) {
-    return profileContext
-        .getConfiguredBeans()
-        .stream()
-        .collect(Collectors.toMap(bean -> bean, bean -> {
-          String name = profileContext.getBeanName(bean);
-          return getClassFromName(name);
-        }));
-  }
-
   @Override
   public void setConfiguredProfile(String module, Profile profile) {
     String key = profile.getConfigName(module);
@@ -89,6 +84,7 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
       throw new UtamCoreError(String.format(ERR_DUPLICATE_PROFILE, profile.getName(), profile.getValue()));
     }
     configuredProfilesContext.put(key, new DefaultProfileContext(module, profile));
+    pageContext = null;
   }
 
   @Override
@@ -103,16 +99,24 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
       }
       activeProfiles.add(key);
     }
+    pageContext = null;
   }
 
   @Override
   public PageObjectContext getPageContext() {
-    Map<Class<? extends PageObject>, Class> beans = new HashMap<>();
+    if (pageContext == null) {
+      pageContext = new PageObjectContextImpl(getBeanRegistry());
+    }
+    return pageContext;
+  }
+
+  private BeanRegistry getBeanRegistry() {
+    Map<String, String> beans = new HashMap<>();
     // first load beans for inactive profiles
     configuredProfilesContext.keySet().forEach(key -> {
       if (!activeProfiles.contains(key)) { //active profiles are loaded last
         ProfileContext profileContext = configuredProfilesContext.get(key);
-        beans.putAll(getConfiguredBeans(profileContext));
+        beans.putAll(profileContext.getConfiguredBeanNames());
       }
     });
     // then load beans for active profiles to override
@@ -120,9 +124,9 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
         .forEach(
             profileKey -> {
               ProfileContext profileContext = configuredProfilesContext.get(profileKey);
-              beans.putAll(getConfiguredBeans(profileContext));
+              beans.putAll(profileContext.getConfiguredBeanNames());
             });
-    return new PageObjectContextImpl(beans);
+    return new BeanRegistry(beans);
   }
 
   @Override
@@ -132,25 +136,61 @@ public class UtamLoaderConfigImpl implements UtamLoaderConfig {
 
   @Override
   public DriverContext getDriverContext() {
-    return new DriverContext(timeouts, bridgeAppTitle);
+    return new DriverContext(timeouts, bridgeAppTitle, driverOptions);
+  }
+
+  @Override
+  public void setScriptTraversal(boolean isEnabled) {
+    driverOptions.setScriptTraversal(isEnabled);
+  }
+
+  @Override
+  public void setElementCache(boolean isEnabled) {
+    driverOptions.setElementCache(isEnabled);
+  }
+
+  @Override
+  public void setObserverWaits(boolean isEnabled) {
+    driverOptions.setObserverWaits(isEnabled);
+  }
+
+  @Override
+  public void setScriptFilters(boolean isEnabled) {
+    driverOptions.setScriptFilters(isEnabled);
+  }
+
+  @Override
+  public void setDriverMetrics(DriverMetrics metrics) {
+    this.driverMetrics = metrics;
+  }
+
+  @Override
+  public DriverMetrics getDriverMetrics() {
+    return driverMetrics;
   }
 
   @Override
   public void setFindTimeout(Duration findTimeout) {
     timeouts = new DriverTimeouts(findTimeout, timeouts.getWaitForTimeout(),
-        timeouts.getPollingInterval());
+        timeouts.getPollingInterval(), timeouts.getPollingPolicy());
   }
 
   @Override
   public void setWaitForTimeout(Duration waitForTimeout) {
     timeouts = new DriverTimeouts(timeouts.getFindTimeout(), waitForTimeout,
-        timeouts.getPollingInterval());
+        timeouts.getPollingInterval(), timeouts.getPollingPolicy());
   }
 
   @Override
   public void setPollingInterval(Duration pollingInterval) {
     timeouts = new DriverTimeouts(timeouts.getFindTimeout(), timeouts.getWaitForTimeout(),
-        pollingInterval);
+        pollingInterval, timeouts.getPollingPolicy());
+  }
+
+  @Override
+  public void setPollingPolicy(PollingPolicy pollingPolicy) {
+    timeouts = new DriverTimeouts(timeouts.getFindTimeout(), timeouts.getWaitForTimeout(),
+        timeouts.getPollingInterval(), pollingPolicy);
   }
 
   // used in tests
@@ -18,6 +18,7 @@ import utam.core.driver.DriverTimeouts;
 import utam.core.element.Element;
 import utam.core.element.ElementLocation;
 import utam.core.element.Locator;
+import utam.core.framework.base.ElementCache;
 import utam.core.framework.base.PageObject;
 import utam.core.framework.base.PageObjectsFactory;
 import utam.core.framework.base.PageObjectsFactoryImpl;
@@ -37,12 +38,14 @@ public class UtamLoaderImpl implements UtamLoader {
 
   private final Driver driver;
   private final UtamLoaderConfig loaderConfig;
+  // same cache for all factories of the loader to keep DOM generation and statistics
+  private final ElementCache elementCache = new ElementCache();
   private PageObjectsFactory factory;
 
   public UtamLoaderImpl(UtamLoaderConfig loaderConfig, Driver driver) {
     this.loaderConfig = loaderConfig;
     this.driver = driver;
-    this.factory = new PageObjectsFactoryImpl(loaderConfig, driver);
+    this.factory = new PageObjectsFactoryImpl(loaderConfig, driver, elementCache);
   }
 
   /**
@@ -67,7 +70,8 @@ public class UtamLoaderImpl implements UtamLoader {
   @Override
   public final void resetContext() {
     // new factory instance resets page context
-    this.factory = new PageObjectsFactoryImpl(loaderConfig, driver);
+    elementCache.invalidate();
+    this.factory = new PageObjectsFactoryImpl(loaderConfig, driver, elementCache);
   }
 
   @Override
@@ -108,4 +112,9 @@ public class UtamLoaderImpl implements UtamLoader {
   public Document getDocument() {
     return new DocumentObject(factory);
   }
+
+  @Override
+  public ElementCache getElementCache() {
+    return elementCache;
+  }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import utam.core.framework.UtamCoreError;
+import utam.core.framework.UtamLogger;
+
+/**
+ * binary index of page objects implementations for all profiles of a module, written by compiler
+ * next to profiles properties files <br> layout: magic, version, string table (count, offsets,
+ * UTF-8 data), profiles table (config name index, entries count, pairs of interface and
+ * implementation indexes) <br> index is read with one buffer read, strings are decoded and profile
+ * mappings are built only when requested
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class BeanIndex {
+
+  static final String ERR_INDEX_FORMAT = "can't read beans index '%s': %s";
+  private static final int MAGIC = 0x5554414D;
+  private static final byte VERSION = 1;
+
+  private final ByteBuffer buffer;
+  private final int[] stringOffsets;
+  private final int stringsStart;
+  private final String[] strings;
+  // config name to position of the profile entries in the buffer
+  private final Map<String, Integer> profiles = new HashMap<>();
+
+  BeanIndex(ByteBuffer buffer) {
+    this.buffer = buffer;
+    if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+      throw new IllegalArgumentException("unknown format");
+    }
+    int stringsCount = buffer.getInt();
+    stringOffsets = new int[stringsCount + 1];
+    for (int i = 0; i <= stringsCount; i++) {
+      stringOffsets[i] = buffer.getInt();
+    }
+    stringsStart = buffer.position();
+    strings = new String[stringsCount];
+    buffer.position(stringsStart + stringOffsets[stringsCount]);
+    int profilesCount = buffer.getInt();
+    for (int i = 0; i < profilesCount; i++) {
+      String configName = getString(buffer.getInt());
+      int entriesCount = buffer.getInt();
+      profiles.put(configName, buffer.position());
+      buffer.position(buffer.position() + entriesCount * 2 * Integer.BYTES);
+    }
+  }
+
+  /**
+   * name of the index resource for a module
+   *
+   * @param moduleName name of the module, can be null
+   * @return name of the resource
+   */
+  public static String getIndexName(String moduleName) {
+    return moduleName == null || moduleName.isEmpty() ? "utam_beans.idx"
+        : String.format("%s_beans.idx", moduleName);
+  }
+
+  /**
+   * read index of the module from classpath, profiles with config in several jars are removed from
+   * index because their properties have to be merged, so classpath is checked once when index is
+   * loaded and not every time a profile is read
+   *
+   * @param classLoader class loader to find resource
+   * @param moduleName  name of the module, can be null
+   * @return index or null if module does not have single index resource
+   */
+  static BeanIndex load(ClassLoader classLoader, String moduleName) {
+    String indexName = getIndexName(moduleName);
+    try {
+      List<URL> resources = Collections.list(classLoader.getResources(indexName));
+      // same module in several jars has to be merged from properties files
+      if (resources.size() != 1) {
+        return null;
+      }
+      BeanIndex index;
+      try (InputStream in = resources.get(0).openStream()) {
+        index = new BeanIndex(ByteBuffer.wrap(in.readAllBytes()));
+      }
+      for (String configName : new ArrayList<>(index.profiles.keySet())) {
+        if (Collections.list(classLoader.getResources(configName + ".properties")).size() > 1) {
+          index.profiles.remove(configName);
+        }
+      }
+      return index;
+    } catch (IOException | IllegalArgumentException | BufferUnderflowException
+        | IndexOutOfBoundsException e) {
+      UtamLogger.warning(String.format(ERR_INDEX_FORMAT, indexName, e.getMessage()));
+      return null;
+    }
+  }
+
+  /**
+   * write index with mappings for all profiles of a module
+   *
+   * @param profiles map of profile config name to mapping of interface to implementation
+   * @param out      stream to write to
+   */
+  public static void write(Map<String, Map<String, String>> profiles, OutputStream out) {
+    Map<String, Integer> indexes = new LinkedHashMap<>();
+    // sorted to produce same output for same mappings
+    Map<String, Map<String, String>> sorted = new TreeMap<>();
+    profiles.forEach((name, mapping) -> sorted.put(name, new TreeMap<>(mapping)));
+    sorted.forEach((name, mapping) -> {
+      indexes.putIfAbsent(name, indexes.size());
+      mapping.forEach((type, impl) -> {
+        indexes.putIfAbsent(type, indexes.size());
+        indexes.putIfAbsent(impl, indexes.size());
+      });
+    });
+    try {
+      ByteArrayOutputStream data = new ByteArrayOutputStream();
+      List<Integer> offsets = new ArrayList<>();
+      for (String string : indexes.keySet()) {
+        offsets.add(data.size());
+        data.write(string.getBytes(StandardCharsets.UTF_8));
+      }
+      offsets.add(data.size());
+      DataOutputStream stream = new DataOutputStream(out);
+      stream.writeInt(MAGIC);
+      stream.writeByte(VERSION);
+      stream.writeInt(indexes.size());
+      for (int offset : offsets) {
+        stream.writeInt(offset);
+      }
+      data.writeTo(stream);
+      stream.writeInt(sorted.size());
+      for (Map.Entry<String, Map<String, String>> profile : sorted.entrySet()) {
+        stream.writeInt(indexes.get(profile.getKey()));
+        stream.writeInt(profile.getValue().size());
+        for (Map.Entry<String, String> entry : profile.getValue().entrySet()) {
+          stream.writeInt(indexes.get(entry.getKey()));
+          stream.writeInt(indexes.get(entry.getValue()));
+        }
+      }
+      stream.flush();
+    } catch (IOException e) {
+      throw new UtamCoreError("error while writing beans index", e);
+    }
+  }
+
+  private String getString(int index) {
+    if (strings[index] == null) {
+      int start = stringsStart + stringOffsets[index];
+      byte[] bytes = new byte[stringOffsets[index + 1] - stringOffsets[index]];
+      buffer.duplicate().position(start).get(bytes);
+      strings[index] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return strings[index];
+  }
+
+  /**
+   * check if index has mapping for the profile
+   *
+   * @param configName profile config name
+   * @return true if profile is in the index
+   */
+  boolean hasProfile(String configName) {
+    return profiles.containsKey(configName);
+  }
+
+  /**
+   * get mapping for a profile, interfaces without implementation are skipped
+   *
+   * @param configName profile config name
+   * @return map of interface name to implementation name, empty if profile is not in the index
+   */
+  synchronized Map<String, String> getBeans(String configName) {
+    Integer position = profiles.get(configName);
+    if (position == null) {
+      return Collections.emptyMap();
+    }
+    ByteBuffer entries = buffer.duplicate();
+    entries.position(position - Integer.BYTES);
+    int entriesCount = entries.getInt();
+    Map<String, String> beans = new HashMap<>();
+    for (int i = 0; i < entriesCount; i++) {
+      String type = getString(entries.getInt());
+      String impl = getString(entries.getInt());
+      // default config can have interfaces without implementation
+      if (!impl.isEmpty()) {
+        beans.put(type, impl);
+      }
+    }
+    return beans;
+  }
+}
@@ -8,16 +8,21 @@
 package utam.core.framework.context;
 
 import static utam.core.framework.consumer.PageObjectContextImpl.getClassFromName;
+import static utam.core.framework.context.BeanIndex.getIndexName;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import utam.core.framework.UtamLogger;
 import utam.core.framework.base.PageObject;
 
@@ -30,15 +35,50 @@ import utam.core.framework.base.PageObject;
 public final class DefaultProfileContext implements ProfileContext {
 
   private static final String ERR_PROFILE_FILE = "can't read profile config from file '%s'";
+  // index is read once per module of a class loader and shared by all its profiles
+  private static final Map<ClassLoader, Map<String, Optional<BeanIndex>>> MODULE_INDEXES =
+      Collections.synchronizedMap(new WeakHashMap<>());
 
   // map with configured beans
   final Map<Class<? extends PageObject>, String> beans = new HashMap<>();
+  // beans read from module index, keyed by interface name to not load classes before needed
+  private final Map<String, String> indexedBeans = new HashMap<>();
   private final Profile profile;
   private final String moduleName;
+  private final ClassLoader classLoader;
 
   public DefaultProfileContext(String moduleName, Profile profile) {
+    this(moduleName, profile, DefaultProfileContext.class.getClassLoader());
+  }
+
+  // used in tests
+  DefaultProfileContext(String moduleName, Profile profile, ClassLoader classLoader) {
     this.profile = profile;
     this.moduleName = moduleName;
+    this.classLoader = classLoader;
+    BeanIndex index = getModuleIndex();
+    String configName = profile.getConfigName(moduleName);
+    // index does not have profiles with config in several jars, they are merged from properties
+    if (index != null && index.hasProfile(configName)) {
+      indexedBeans.putAll(index.getBeans(configName));
+    } else {
+      setBeansFromResource();
+    }
+  }
+
+  private BeanIndex getModuleIndex() {
+    return MODULE_INDEXES
+        .computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>())
+        .computeIfAbsent(getIndexName(moduleName),
+            key -> Optional.ofNullable(BeanIndex.load(classLoader, moduleName)))
+        .orElse(null);
+  }
+
+  private String getConfigResourceName() {
+    return profile.getConfigName(moduleName) + ".properties";
+  }
+
+  private void setBeansFromResource() {
     Properties properties = getBeansFromResource();
     properties.stringPropertyNames().forEach(type -> {
       String implClassName = properties.getProperty(type);
@@ -50,8 +90,7 @@ public final class DefaultProfileContext implements ProfileContext {
   }
 
   private Properties getBeansFromResource() {
-    ClassLoader classLoader = getClass().getClassLoader();
-    String configName = profile.getConfigName(moduleName) + ".properties";
+    String configName = getConfigResourceName();
     Properties properties = new Properties();
     try {
       List<URL> configs = Collections.list(classLoader.getResources(configName));
@@ -79,11 +118,32 @@ public final class DefaultProfileContext implements ProfileContext {
 
   @Override
   public Collection<Class<? extends PageObject>> getConfiguredBeans() {
-    return beans.keySet();
+    if (indexedBeans.isEmpty()) {
+      return beans.keySet();
+    }
+    List<Class<? extends PageObject>> types = new ArrayList<>(beans.keySet());
+    indexedBeans.keySet().forEach(type -> {
+      Class<? extends PageObject> typeClass = getClassFromName(type);
+      if (!beans.containsKey(typeClass)) {
+        types.add(typeClass);
+      }
+    });
+    return types;
+  }
+
+  @Override
+  public Map<String, String> getConfiguredBeanNames() {
+    Map<String, String> names = new HashMap<>(indexedBeans);
+    beans.forEach((type, implName) -> names.put(type.getName(), implName));
+    return names;
   }
 
   @Override
   public <T extends PageObject> String getBeanName(Class<T> key) {
-    return beans.get(key);
+    String implName = beans.get(key);
+    if (implName == null && key != null) {
+      return indexedBeans.get(key.getName());
+    }
+    return implName;
   }
 }
@@ -10,6 +10,8 @@ package utam.core.framework.context;
 import utam.core.framework.base.PageObject;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Profile Context is used to configure dependency injection for a certain profile <br>
@@ -47,4 +49,16 @@ public interface ProfileContext {
    * @return all beans types in random order
    */
   Collection<Class<? extends PageObject>> getConfiguredBeans();
+
+  /**
+   * Get names of all configured types with names of their implementations, unlike
+   * getConfiguredBeans does not require classes to be loaded
+   *
+   * @return map of type name to implementing class name
+   */
+  default Map<String, String> getConfiguredBeanNames() {
+    Map<String, String> names = new HashMap<>();
+    getConfiguredBeans().forEach(type -> names.put(type.getName(), getBeanName(type)));
+    return names;
+  }
 }
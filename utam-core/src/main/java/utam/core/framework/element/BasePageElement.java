@@ -7,7 +7,10 @@
  */
 package utam.core.framework.element;
 
+import java.util.function.Supplier;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.StaleElementReferenceException;
+import utam.core.driver.Driver;
 import utam.core.driver.Expectations;
 import utam.core.element.Element;
 import utam.core.element.RootElement;
@@ -27,6 +30,8 @@ public class BasePageElement extends UtamBaseImpl implements RootElement {
 
   private Element element;
   private PageObjectsFactory factory;
+  // finds element again if it became stale, null if element can't be recovered
+  private Supplier<Element> refind;
 
   public BasePageElement() {}
 
@@ -48,13 +53,26 @@ public class BasePageElement extends UtamBaseImpl implements RootElement {
   private <T> T apply(Expectations<T> expectations) {
     log(expectations.getLogMessage());
     return getDriver()
-        .waitFor(getDriverTimeouts().getFluentWaitTimeout(), getDriverTimeouts().getPollingInterval(), expectations,
-            getElement());
+        .waitFor(getDriverTimeouts().getFluentWaitTimeout(),
+            getDriverTimeouts().getPollingInterval(), getDriverTimeouts().getPollingPolicy(),
+            new StaleElementRecovery<>(expectations), getElement());
   }
 
   public void initialize(PageObjectsFactory factory, Element element) {
+    initialize(factory, element, null);
+  }
+
+  /**
+   * initialize element with a way to find it again when it becomes stale
+   *
+   * @param factory instance of the factory
+   * @param element found element
+   * @param refind  finds element again after it became stale, can be null
+   */
+  public void initialize(PageObjectsFactory factory, Element element, Supplier<Element> refind) {
     this.factory = factory;
     this.element = element;
+    this.refind = refind;
   }
 
   @Override
@@ -179,4 +197,50 @@ public class BasePageElement extends UtamBaseImpl implements RootElement {
   public boolean flickItems(GestureDirection direction) {
     return getElement().flickItems(direction);
   }
+
+  // if element became stale, finds it again and retries action once with the new element
+  private final class StaleElementRecovery<T> implements Expectations<T> {
+
+    private final Expectations<T> expectations;
+    private boolean isRecovered;
+
+    StaleElementRecovery(Expectations<T> expectations) {
+      this.expectations = expectations;
+    }
+
+    @Override
+    public String getLogMessage() {
+      return expectations.getLogMessage();
+    }
+
+    @Override
+    public T apply(Driver driver, Element found) {
+      if (isRecovered) {
+        return expectations.apply(driver, element);
+      }
+      try {
+        return expectations.apply(driver, found);
+      } catch (StaleElementReferenceException e) {
+        if (refind == null) {
+          // cached elements are not valid anymore
+          getFactory().getElementCache().invalidate();
+          throw e;
+        }
+        Element recovered;
+        try {
+          recovered = refind.get();
+        } catch (RuntimeException refindError) {
+          // next attempt of the wait tries to recover again
+          e.addSuppressed(refindError);
+          throw e;
+        }
+        if (recovered == null || recovered.isNull()) {
+          throw e;
+        }
+        element = recovered;
+        isRecovered = true;
+        return expectations.apply(driver, element);
+      }
+    }
+  }
 }
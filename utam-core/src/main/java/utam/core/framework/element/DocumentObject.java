@@ -13,6 +13,7 @@ import java.time.Duration;
 import utam.core.driver.Document;
 import utam.core.driver.Driver;
 import utam.core.driver.Expectations;
+import utam.core.driver.PollingPolicy;
 import utam.core.element.ElementLocation;
 import utam.core.element.Locator;
 import utam.core.framework.base.PageObjectsFactory;
@@ -35,23 +36,29 @@ public class DocumentObject implements Document {
   private final Driver driver;
   private final Duration timeout;
   private final Duration interval;
+  private final PollingPolicy pollingPolicy;
   private final PageObjectsFactory factory;
 
   public DocumentObject(PageObjectsFactory factory) {
     this.driver = factory.getDriver();
     this.timeout = factory.getDriverContext().getTimeouts().getWaitForTimeout();
     this.interval = factory.getDriverContext().getTimeouts().getPollingInterval();
+    this.pollingPolicy = factory.getDriverContext().getTimeouts().getPollingPolicy();
     this.factory = factory;
   }
 
   @Override
   public String getUrl() {
-    return driver.getUrl();
+    String url = driver.getUrl();
+    factory.getElementCache().setDocumentUrl(url);
+    return url;
   }
 
   @Override
   public void waitForDocumentReady() {
-    driver.waitFor(timeout, interval, isDOMReady);
+    // document is reloaded, elements found before navigation can't be reused
+    factory.getElementCache().invalidate();
+    driver.waitFor(timeout, interval, pollingPolicy, isDOMReady, null);
   }
 
   @Override
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.element;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openqa.selenium.WebDriverException;
+import utam.core.driver.Driver;
+import utam.core.element.BasicElement;
+import utam.core.element.Element;
+
+/**
+ * reads same property of every element in a list with a single script instead of one driver
+ * command per element, used by generated compose methods that apply getter to a list of basic
+ * elements <br> if script can't be used (native driver, element was not found by the framework or
+ * became stale) every element is read with its own getter
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class ElementListProperties {
+
+  static final String PROPERTIES_JAVASCRIPT =
+      "var elements = arguments[0], property = arguments[1], name = arguments[2];"
+          + "function isVisible(e) {"
+          + "var style = window.getComputedStyle(e);"
+          + "return style.visibility !== 'hidden' && style.display !== 'none'"
+          + " && (e.offsetWidth > 0 || e.offsetHeight > 0 || e.getClientRects().length > 0);"
+          + "}"
+          + "var values = [];"
+          + "for (var i = 0; i < elements.length; i++) {"
+          + "var e = elements[i];"
+          + "if (property === 'text') { values.push((e.innerText || '').trim()); }"
+          + "else if (property === 'visible') { values.push(isVisible(e)); }"
+          + "else if (property === 'enabled') { values.push(!e.disabled); }"
+          + "else if (name === 'value' && e.value !== undefined) { values.push(String(e.value)); }"
+          + "else { values.push(e.getAttribute(name)); }"
+          + "}"
+          + "return values;";
+
+  private ElementListProperties() {
+  }
+
+  // script can only be used if all elements were found by the framework and driver runs in browser
+  private static List<Element> getElements(List<? extends BasicElement> elements) {
+    List<Element> found = new ArrayList<>();
+    for (BasicElement element : elements) {
+      if (!(element instanceof BasePageElement)) {
+        return null;
+      }
+      Element wrapped = ((BasePageElement) element).getElement();
+      if (wrapped == null || wrapped.isNull()) {
+        return null;
+      }
+      found.add(wrapped);
+    }
+    return found;
+  }
+
+  private static <T> List<T> read(List<? extends BasicElement> elements, String property,
+      String attribute, Function<BasicElement, T> getter, Function<Object, T> converter) {
+    if (elements == null) {
+      return null;
+    }
+    List<Element> found = elements.isEmpty() ? null : getElements(elements);
+    if (found != null) {
+      Driver driver = ((BasePageElement) elements.get(0)).getFactory().getDriver();
+      if (!driver.isNative()) {
+        try {
+          Object result = driver.executeScript(PROPERTIES_JAVASCRIPT, found, property, attribute);
+          if (result instanceof Collection && ((Collection<?>) result).size() == elements.size()) {
+            return ((Collection<?>) result).stream().map(converter).collect(Collectors.toList());
+          }
+        } catch (WebDriverException e) {
+          // stale or detached element, getter of each element knows how to recover
+        }
+      }
+    }
+    return elements.stream().map(getter).collect(Collectors.toList());
+  }
+
+  private static String toStringValue(Object value) {
+    return value == null ? null : value.toString();
+  }
+
+  private static Boolean toBooleanValue(Object value) {
+    return Boolean.TRUE.equals(value);
+  }
+
+  /**
+   * get text of every element
+   *
+   * @param elements list of elements
+   * @return list of texts in the order of elements, null if list is null
+   */
+  public static List<String> getText(List<? extends BasicElement> elements) {
+    return read(elements, "text", null, BasicElement::getText,
+        ElementListProperties::toStringValue);
+  }
+
+  /**
+   * get attribute value of every element
+   *
+   * @param elements  list of elements
+   * @param attribute name of the attribute
+   * @return list of attribute values in the order of elements, null if list is null
+   */
+  public static List<String> getAttribute(List<? extends BasicElement> elements,
+      String attribute) {
+    return read(elements, "attribute", attribute, element -> element.getAttribute(attribute),
+        ElementListProperties::toStringValue);
+  }
+
+  /**
+   * get class attribute of every element
+   *
+   * @param elements list of elements
+   * @return list of class attribute values in the order of elements, null if list is null
+   */
+  public static List<String> getClassAttribute(List<? extends BasicElement> elements) {
+    return getAttribute(elements, "class");
+  }
+
+  /**
+   * get title attribute of every element
+   *
+   * @param elements list of elements
+   * @return list of titles in the order of elements, null if list is null
+   */
+  public static List<String> getTitle(List<? extends BasicElement> elements) {
+    return getAttribute(elements, "title");
+  }
+
+  /**
+   * get value of every element
+   *
+   * @param elements list of elements
+   * @return list of values in the order of elements, null if list is null
+   */
+  public static List<String> getValue(List<? extends BasicElement> elements) {
+    return getAttribute(elements, "value");
+  }
+
+  /**
+   * check if every element is displayed
+   *
+   * @param elements list of elements
+   * @return list of visibility flags in the order of elements, null if list is null
+   */
+  public static List<Boolean> isVisible(List<? extends BasicElement> elements) {
+    return read(elements, "visible", null, BasicElement::isVisible,
+        ElementListProperties::toBooleanValue);
+  }
+
+  /**
+   * check if every element is enabled
+   *
+   * @param elements list of elements
+   * @return list of enabled flags in the order of elements, null if list is null
+   */
+  public static List<Boolean> isEnabled(List<? extends BasicElement> elements) {
+    return read(elements, "enabled", null, BasicElement::isEnabled,
+        ElementListProperties::toBooleanValue);
+  }
+}
@@ -10,45 +10,80 @@ package utam.core.framework.element;
 import static utam.core.selenium.element.ElementAdapter.NULL_ELEMENT;
 
 import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.stream.Stream;
 import utam.core.driver.Driver;
 import utam.core.element.Element;
 import utam.core.element.ElementLocation;
 import utam.core.element.FindContext;
 import utam.core.element.Locator;
+import utam.core.selenium.element.ScriptTraversal;
 
 /**
- * chain of locators for a page element
+ * chain of locators for a page element <br> every location keeps only its last link and points to
+ * the parent location, so scoped location shares immutable links with its parent and scoping or
+ * setting parameters does not copy whole chain
  *
  * @author elizaveta.ivanova
  * @since 234
  */
 public final class ElementLocationChain implements ElementLocation {
 
-  private final Selector[] chain;
+  private final ElementLocationChain parent;
+  private final Selector link;
+  private final int length;
   private final boolean isNullable;
+  // links from driver to this location, built on first search
+  private Selector[] chain;
   private String chainString;
 
-  private ElementLocationChain(Selector[] chain, boolean isNullable) {
-    this.chain = chain;
+  private ElementLocationChain(ElementLocationChain parent, Selector link, boolean isNullable) {
+    this.parent = parent;
+    this.link = link;
+    this.length = parent == null ? 1 : parent.length + 1;
     this.isNullable = isNullable;
   }
 
   public ElementLocationChain(Locator locator, FindContext finderContext) {
-    this(new Selector[]{new Selector(locator, finderContext)}, finderContext.isNullable());
+    this(null, new Selector(locator, finderContext), finderContext.isNullable());
   }
 
   public ElementLocationChain(Element found) {
-    this(new Selector[]{new Instance(found)}, found.isNull());
+    this(null, new Instance(found), found.isNull());
+  }
+
+  private Selector[] getChain() {
+    if (chain == null) {
+      Selector[] links = new Selector[length];
+      ElementLocationChain location = this;
+      for (int i = length - 1; i >= 0; i--) {
+        links[i] = location.link;
+        location = location.parent;
+      }
+      chain = links;
+    }
+    return chain;
+  }
+
+  // location that ends with the link at index, shares all links before it
+  private ElementLocationChain getLocation(int index) {
+    ElementLocationChain location = this;
+    for (int i = length - 1; i > index; i--) {
+      location = location.parent;
+    }
+    return location;
+  }
+
+  // used in tests
+  boolean isSharedWith(ElementLocation location, int index) {
+    return location instanceof ElementLocationChain
+        && ((ElementLocationChain) location).getLocation(index) == getLocation(index);
   }
 
   @Override
   public List<Element> findElements(Driver driver) {
+    Selector[] chain = getChain();
     if (chain.length == 1) {
       return chain[0].findElementsInsideDriver(driver);
     }
@@ -61,9 +96,27 @@ public final class ElementLocationChain implements ElementLocation {
 
   @Override
   public Element findElement(Driver driver) {
-    Element current = chain[0].findElementInsideDriver(driver);
-    for (int i = 1; i < chain.length; i++) {
+    return findElement(driver, null);
+  }
+
+  @Override
+  public Element findElement(Driver driver, List<Element> path) {
+    Element current = getChain()[0].findElementInsideDriver(driver);
+    if (path != null) {
+      path.clear();
+      path.add(current);
+    }
+    return findElementFrom(current, 1, path);
+  }
+
+  // find links starting from index, every link is searched inside previous one
+  private Element findElementFrom(Element current, int start, List<Element> path) {
+    Selector[] chain = getChain();
+    for (int i = start; i < chain.length; i++) {
       current = chain[i].findElementInsideElement(current);
+      if (path != null) {
+        path.add(current);
+      }
       if(current.isNull()) {
         // if intermittent element was not found, no point to continue search
         return NULL_ELEMENT;
@@ -72,25 +125,72 @@ public final class ElementLocationChain implements ElementLocation {
     return current;
   }
 
+  @Override
+  public Element refindElement(Driver driver, List<Element> path) {
+    if (path == null || path.size() != length || length == 1) {
+      return findElement(driver, path);
+    }
+    // look for the deepest parent that is still attached, only links after it are searched again
+    int attached = length - 2;
+    while (attached >= 0 && !path.get(attached).isExisting()) {
+      attached--;
+    }
+    if (attached < 0) {
+      return findElement(driver, path);
+    }
+    path.subList(attached + 1, length).clear();
+    return findElementFrom(path.get(attached), attached + 1, path);
+  }
+
+  @Override
+  public Element findElementWithScript(Driver driver) {
+    ScriptTraversal traversal = getScriptTraversal();
+    return traversal == null ? findElement(driver) : traversal.findElement(driver);
+  }
+
+  @Override
+  public List<Element> findElementsWithScript(Driver driver) {
+    ScriptTraversal traversal = getScriptTraversal();
+    return traversal == null ? findElements(driver) : traversal.findElements(driver);
+  }
+
+  // null if chain has non CSS locators and should be resolved link by link
+  ScriptTraversal getScriptTraversal() {
+    Selector[] chain = getChain();
+    int start = 0;
+    Element scope = null;
+    if (chain[0] instanceof Instance) {
+      List<Element> found = ((Instance) chain[0]).elements;
+      if (found.isEmpty() || chain.length == 1) {
+        return null;
+      }
+      scope = found.get(0);
+      start = 1;
+    }
+    ScriptTraversal traversal = new ScriptTraversal(scope);
+    for (int i = start; i < chain.length; i++) {
+      if (!ScriptTraversal.isSupported(chain[i].locator)) {
+        return null;
+      }
+      traversal.add(chain[i].locator, chain[i].findContext);
+    }
+    return traversal;
+  }
+
   @Override
   public String getLocatorChainString() {
-    if (chainString != null) {
-      return chainString;
+    if (chainString == null) {
+      String prefix = parent == null ? "driver" : parent.getLocatorChainString();
+      chainString = prefix + link.getString();
     }
-    List<String> str = new ArrayList<>();
-    str.add("driver");
-    Stream.of(chain).forEach(link -> str.add(link.getString()));
-    chainString = String.join("", str);
     return chainString;
   }
 
   @Override
   public ElementLocation scope(Locator locator, FindContext finderContext) {
-    Selector[] links = Stream.of(chain).map(Selector::copy)
-        .toArray(Selector[]::new);
-    Selector[] copy = Arrays.copyOf(links, chain.length + 1);
-    copy[chain.length] = new Selector(locator, finderContext);
-    return new ElementLocationChain(copy, finderContext.isNullable());
+    // locators are immutable, parent links are shared
+    return new ElementLocationChain(this, new Selector(locator, finderContext),
+        finderContext.isNullable());
   }
 
   @Override
@@ -98,14 +198,34 @@ public final class ElementLocationChain implements ElementLocation {
     if (parameters == null || parameters.length == 0) {
       return this;
     }
+    Selector[] chain = getChain();
     int index = 0;
-    Selector[] withParameters = new Selector[chain.length];
+    ElementLocationChain location = null;
     for (int i = 0; i < chain.length; i++) {
       Entry<Integer, Selector> updated = chain[i].setParameters(index, parameters);
-      index += updated.getKey();
-      withParameters[i] = updated.getValue();
+      index = updated.getKey();
+      if (location != null) {
+        location = new ElementLocationChain(location, updated.getValue(), getLocation(i).isNullable);
+      } else if (updated.getValue() != chain[i]) {
+        // links before first link with parameters are shared
+        ElementLocationChain prefix = i == 0 ? null : getLocation(i - 1);
+        location = new ElementLocationChain(prefix, updated.getValue(), getLocation(i).isNullable);
+      }
+    }
+    return location == null ? this : location;
+  }
+
+  @Override
+  public boolean isCacheable() {
+    if (getChain()[0] instanceof Instance) {
+      return false;
     }
-    return new ElementLocationChain(withParameters, isNullable);
+    for (ElementLocationChain location = this; location != null; location = location.parent) {
+      if (location.isNullable) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -132,6 +252,9 @@ public final class ElementLocationChain implements ElementLocation {
         return new SimpleEntry<>(index, this);
       }
       Entry<Integer, Locator> withParameters = this.locator.setParameters(index, values);
+      if (withParameters.getValue() == locator) {
+        return new SimpleEntry<>(withParameters.getKey(), this);
+      }
       return new SimpleEntry<>(withParameters.getKey(),
           new Selector(withParameters.getValue(), findContext));
     }
@@ -151,10 +274,6 @@ public final class ElementLocationChain implements ElementLocation {
     List<Element> findElementsInsideElement(Element element) {
       return element.findElements(locator, findContext);
     }
-
-    Selector copy() {
-      return new Selector(locator.getCopy(), findContext);
-    }
   }
 
   static class Instance extends Selector {
@@ -203,10 +322,5 @@ public final class ElementLocationChain implements ElementLocation {
     List<Element> findElementsInsideElement(Element element) {
       return elements;
     }
-
-    @Override
-    Instance copy() {
-      return this;
-    }
   }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.element;
+
+import java.time.Duration;
+import org.openqa.selenium.WebDriverException;
+import utam.core.driver.Driver;
+import utam.core.driver.Expectations;
+import utam.core.element.Element;
+
+/**
+ * expectations that wait for element condition inside the browser: asynchronous script checks
+ * condition on every DOM mutation and animation frame and returns once it holds or timeout
+ * expires <br> if script can't be executed or condition did not hold, remaining checks are done by
+ * polling expectations
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ObserverExpectations implements Expectations<Boolean> {
+
+  static final String OBSERVER_JAVASCRIPT =
+      "var element = arguments[0], condition = arguments[1], timeout = arguments[2];"
+          + "var done = arguments[arguments.length - 1];"
+          + "function isVisible() {"
+          + "if (!element.isConnected) { return false; }"
+          + "var style = window.getComputedStyle(element);"
+          + "return style.visibility !== 'hidden' && style.display !== 'none'"
+          + " && (element.offsetWidth > 0 || element.offsetHeight > 0"
+          + " || element.getClientRects().length > 0);"
+          + "}"
+          + "function check() {"
+          + "if (condition === 'absence') { return !element.isConnected; }"
+          + "return condition === 'visibility' ? isVisible() : !isVisible();"
+          + "}"
+          + "if (check()) { done(true); return; }"
+          + "var finished = false, frame = null, timer = null;"
+          + "var observer = new MutationObserver(function() { if (check()) { finish(true); } });"
+          + "function finish(result) {"
+          + "if (finished) { return; }"
+          + "finished = true;"
+          + "observer.disconnect();"
+          + "clearTimeout(timer);"
+          + "if (frame !== null) { cancelAnimationFrame(frame); }"
+          + "done(result);"
+          + "}"
+          + "function onFrame() {"
+          + "frame = null;"
+          + "if (check()) { finish(true); } else if (!finished) { frame = requestAnimationFrame(onFrame); }"
+          + "}"
+          + "observer.observe(document, "
+          + "{ attributes: true, childList: true, subtree: true, characterData: true });"
+          + "frame = requestAnimationFrame(onFrame);"
+          + "timer = setTimeout(function() { finish(false); }, timeout);";
+
+  private final String condition;
+  private final Duration timeout;
+  private final Expectations<Boolean> polling;
+  // set when script failed or timed out, then only polling is used
+  private boolean isPolling;
+
+  private ObserverExpectations(String condition, Duration timeout,
+      Expectations<Boolean> polling) {
+    this.condition = condition;
+    this.timeout = timeout;
+    this.polling = polling;
+  }
+
+  /**
+   * wait for element to be removed from DOM
+   *
+   * @param timeout wait timeout
+   * @return expectations instance
+   */
+  public static Expectations<Boolean> absence(Duration timeout) {
+    return new ObserverExpectations("absence", timeout, ElementExpectations.absence());
+  }
+
+  /**
+   * wait for element to become visible or invisible
+   *
+   * @param isVisible true to wait for visibility
+   * @param timeout   wait timeout
+   * @return expectations instance
+   */
+  public static Expectations<Boolean> visibility(boolean isVisible, Duration timeout) {
+    return new ObserverExpectations(isVisible ? "visibility" : "invisibility", timeout,
+        ElementExpectations.visibility(isVisible));
+  }
+
+  @Override
+  public String getLogMessage() {
+    return polling.getLogMessage();
+  }
+
+  @Override
+  public Boolean apply(Driver driver, Element element) {
+    if (!isPolling && element != null && !element.isNull() && !driver.isNative()) {
+      isPolling = true;
+      try {
+        Object result = driver
+            .executeAsyncScript(OBSERVER_JAVASCRIPT, element, condition, timeout.toMillis());
+        if (Boolean.TRUE.equals(result)) {
+          return true;
+        }
+      } catch (WebDriverException | UnsupportedOperationException e) {
+        // async scripts are not supported, element is stale or script timeout is too short
+      }
+    }
+    return polling.apply(driver, element);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import utam.core.framework.UtamCoreError;
+
+/**
+ * metrics of driver commands collected during a run: latency of every command type, number of
+ * polls of every wait and time spent in commands issued by each page object method <br> one
+ * instance can be shared by several loaders and queried at any time, for example from a test
+ * listener after each test
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class DriverMetrics {
+
+  static final String ERR_WRITE_METRICS = "error while writing driver metrics";
+  private static final double[] PERCENTILES = {50, 90, 99};
+
+  private final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> polls = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> callers = new ConcurrentHashMap<>();
+
+  /**
+   * record finished driver command
+   *
+   * @param command name of the command
+   * @param nanos   time spent in the command
+   * @param caller  page object method that issued the command, null if command should not be
+   *                attributed to a caller, ex. wait that already includes its commands
+   */
+  public void recordCommand(String command, long nanos, String caller) {
+    commands.computeIfAbsent(command, key -> new LatencyHistogram()).record(nanos);
+    if (caller != null) {
+      callers.computeIfAbsent(caller, key -> new LatencyHistogram()).record(nanos);
+    }
+  }
+
+  /**
+   * record number of polls done by a wait
+   *
+   * @param logMessage log message of the expectations
+   * @param count      number of polls
+   */
+  public void recordPolls(String logMessage, int count) {
+    polls.computeIfAbsent(logMessage, key -> new LongAdder()).add(count);
+  }
+
+  /**
+   * latencies of driver commands, key is command name like "findElement" or "waitFor"
+   *
+   * @return unmodifiable view of histograms
+   */
+  public Map<String, LatencyHistogram> getCommands() {
+    return Collections.unmodifiableMap(commands);
+  }
+
+  /**
+   * latencies of commands issued by page object methods, key is class name and method name
+   * separated with "#"
+   *
+   * @return unmodifiable view of histograms
+   */
+  public Map<String, LatencyHistogram> getCallers() {
+    return Collections.unmodifiableMap(callers);
+  }
+
+  /**
+   * get number of polls done by waits with given expectations
+   *
+   * @param logMessage log message of the expectations
+   * @return number of polls, 0 if there were no such waits
+   */
+  public long getPolls(String logMessage) {
+    LongAdder adder = polls.get(logMessage);
+    return adder == null ? 0 : adder.sum();
+  }
+
+  /**
+   * drop everything recorded so far, for example before next test
+   */
+  public void reset() {
+    commands.clear();
+    polls.clear();
+    callers.clear();
+  }
+
+  private static Map<String, Object> toMap(LatencyHistogram histogram) {
+    Map<String, Object> res = new LinkedHashMap<>();
+    res.put("count", histogram.getCount());
+    res.put("totalNanos", histogram.getTotalNanos());
+    res.put("maxNanos", histogram.getMaxNanos());
+    for (double percentile : PERCENTILES) {
+      res.put(String.format("p%dNanos", (int) percentile),
+          histogram.getValueAtPercentile(percentile));
+    }
+    return res;
+  }
+
+  private static Map<String, Object> toMap(Map<String, LatencyHistogram> histograms) {
+    Map<String, Object> res = new TreeMap<>();
+    histograms.forEach((key, histogram) -> res.put(key, toMap(histogram)));
+    return res;
+  }
+
+  private Map<String, Object> toMap() {
+    Map<String, Object> res = new LinkedHashMap<>();
+    res.put("commands", toMap(commands));
+    Map<String, Long> pollsCount = new TreeMap<>();
+    polls.forEach((key, adder) -> pollsCount.put(key, adder.sum()));
+    res.put("polls", pollsCount);
+    res.put("callers", toMap(callers));
+    return res;
+  }
+
+  /**
+   * get recorded metrics as JSON
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    try {
+      return new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+          .writeValueAsString(toMap());
+    } catch (JsonProcessingException e) {
+      throw new UtamCoreError(ERR_WRITE_METRICS, e);
+    }
+  }
+
+  /**
+   * write recorded metrics as JSON, usually at the end of the run
+   *
+   * @param file target file
+   */
+  public void writeJson(File file) {
+    try {
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, toMap());
+    } catch (IOException e) {
+      throw new UtamCoreError(ERR_WRITE_METRICS, e);
+    }
+  }
+}
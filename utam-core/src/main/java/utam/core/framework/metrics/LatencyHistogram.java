@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * histogram of latencies in nanoseconds with fixed log-linear buckets: every power of two range is
+ * split into 16 linear buckets, so recorded value is known with about 6% precision <br> recording
+ * does not allocate and is safe to do from several threads
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  // highest power of two of positive long is 62
+  static final int BUCKETS = (62 - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  static int getBucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) Math.max(value, 0);
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  // highest value that falls into the bucket
+  static long getBucketLimit(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * record latency
+   *
+   * @param nanos latency in nanoseconds
+   */
+  public void record(long nanos) {
+    counts.incrementAndGet(getBucket(nanos));
+    count.incrementAndGet();
+    total.addAndGet(nanos);
+    max.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * @return number of recorded values
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * @return sum of recorded values in nanoseconds
+   */
+  public long getTotalNanos() {
+    return total.get();
+  }
+
+  /**
+   * @return highest recorded value in nanoseconds
+   */
+  public long getMaxNanos() {
+    return max.get();
+  }
+
+  /**
+   * get value below which given percent of recorded values falls
+   *
+   * @param percentile percentile from 0 to 100
+   * @return value in nanoseconds, 0 if nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long recorded = count.get();
+    if (recorded == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(recorded * Math.min(percentile, 100) / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= target) {
+        return Math.min(getBucketLimit(i), getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+}
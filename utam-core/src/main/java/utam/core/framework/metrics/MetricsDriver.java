@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.metrics;
+
+import java.lang.StackWalker.Option;
+import java.lang.StackWalker.StackFrame;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import utam.core.driver.Driver;
+import utam.core.driver.Expectations;
+import utam.core.driver.PollingPolicy;
+import utam.core.driver.WaitStatistics;
+import utam.core.element.Element;
+import utam.core.element.FindContext;
+import utam.core.element.Locator;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.base.PageObject;
+
+/**
+ * driver decorator that records latency of every find, script and wait command, number of polls of
+ * waits and page object method that issued the command <br> only commands sent to the browser are
+ * attributed to page object methods, time of a wait already includes its commands <br> wraps web
+ * and mobile driver adapters, code that needs underlying adapter should use {@link #unwrap(Driver)}
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class MetricsDriver implements Driver {
+
+  private static final StackWalker STACK_WALKER =
+      StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+
+  private final Driver driver;
+  private final DriverMetrics metrics;
+  // caller of the wait in progress on this thread, stack is walked once per wait
+  private final ThreadLocal<Optional<String>> waitCaller = new ThreadLocal<>();
+
+  public MetricsDriver(Driver driver, DriverMetrics metrics) {
+    this.driver = driver;
+    this.metrics = metrics;
+  }
+
+  /**
+   * get driver adapter wrapped with metrics decorator
+   *
+   * @param driver driver instance, possibly decorated
+   * @return driver adapter
+   */
+  public static Driver unwrap(Driver driver) {
+    return driver instanceof MetricsDriver ? ((MetricsDriver) driver).driver : driver;
+  }
+
+  private static boolean isPageObjectFrame(StackFrame frame) {
+    Class<?> type = frame.getDeclaringClass();
+    // base page objects of the framework are in the same package
+    return PageObject.class.isAssignableFrom(type)
+        && type.getPackage() != BasePageObject.class.getPackage();
+  }
+
+  // first page object method on the stack, framework classes are skipped
+  static String getCaller() {
+    Optional<StackFrame> frame = STACK_WALKER
+        .walk(frames -> frames.filter(MetricsDriver::isPageObjectFrame).findFirst());
+    return frame
+        .map(f -> f.getDeclaringClass().getName() + "#" + f.getMethodName())
+        .orElse(null);
+  }
+
+  private <T> T record(String command, Supplier<T> action) {
+    Optional<String> inWait = waitCaller.get();
+    String caller = inWait != null ? inWait.orElse(null) : getCaller();
+    long start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      metrics.recordCommand(command, System.nanoTime() - start, caller);
+    }
+  }
+
+  // counts polls and makes finders inside expectations use this decorator
+  private <T> Expectations<T> getCounting(Expectations<T> expectations, int[] polls) {
+    return new Expectations<T>() {
+      @Override
+      public String getLogMessage() {
+        return expectations.getLogMessage();
+      }
+
+      @Override
+      public T apply(Driver driver, Element element) {
+        polls[0]++;
+        return expectations.apply(driver == MetricsDriver.this.driver ? MetricsDriver.this : driver,
+            element);
+      }
+    };
+  }
+
+  private <T> T recordWait(Expectations<T> expectations,
+      Function<Expectations<T>, T> wait) {
+    boolean isOuterWait = waitCaller.get() == null;
+    if (isOuterWait) {
+      waitCaller.set(Optional.ofNullable(getCaller()));
+    }
+    int[] polls = new int[1];
+    long start = System.nanoTime();
+    try {
+      return wait.apply(getCounting(expectations, polls));
+    } finally {
+      metrics.recordCommand("waitFor", System.nanoTime() - start, null);
+      metrics.recordPolls(expectations.getLogMessage(), polls[0]);
+      if (isOuterWait) {
+        waitCaller.remove();
+      }
+    }
+  }
+
+  @Override
+  public Object executeScript(String script, Object... parameters) {
+    return record("executeScript", () -> driver.executeScript(script, parameters));
+  }
+
+  @Override
+  public Object executeAsyncScript(String script, Object... parameters) {
+    return record("executeAsyncScript", () -> driver.executeAsyncScript(script, parameters));
+  }
+
+  @Override
+  public Element findElement(Locator by, FindContext finderContext) {
+    return record("findElement", () -> driver.findElement(by, finderContext));
+  }
+
+  @Override
+  public List<Element> findElements(Locator by, FindContext finderContext) {
+    return record("findElements", () -> driver.findElements(by, finderContext));
+  }
+
+  @Override
+  public <T> T waitFor(Duration timeout, Duration pollingInterval, Expectations<T> expectations,
+      Element element) {
+    return recordWait(expectations,
+        counting -> driver.waitFor(timeout, pollingInterval, counting, element));
+  }
+
+  @Override
+  public <T> T waitFor(Duration timeout, Duration pollingInterval, Expectations<T> expectations) {
+    return recordWait(expectations,
+        counting -> driver.waitFor(timeout, pollingInterval, counting));
+  }
+
+  @Override
+  public <T> T waitFor(Duration timeout, Duration pollingInterval, PollingPolicy pollingPolicy,
+      Expectations<T> expectations, Element element) {
+    return recordWait(expectations,
+        counting -> driver.waitFor(timeout, pollingInterval, pollingPolicy, counting, element));
+  }
+
+  @Override
+  public WaitStatistics getWaitStatistics() {
+    return driver.getWaitStatistics();
+  }
+
+  @Override
+  public void setPageContextToNative() {
+    driver.setPageContextToNative();
+  }
+
+  @Override
+  public void setPageContextToWebView(String title, Duration timeout, Duration pollingInterval) {
+    driver.setPageContextToWebView(title, timeout, pollingInterval);
+  }
+
+  @Override
+  public boolean isNative() {
+    return driver.isNative();
+  }
+
+  @Override
+  public boolean isMobile() {
+    return driver.isMobile();
+  }
+
+  @Override
+  public String getUrl() {
+    return driver.getUrl();
+  }
+
+  @Override
+  public String getContext() {
+    return driver.getContext();
+  }
+}
@@ -17,6 +17,7 @@ import utam.core.driver.Expectations;
 import utam.core.framework.consumer.UtamError;
 import utam.core.framework.context.MobilePlatformType;
 import utam.core.framework.element.ExpectationsImpl;
+import utam.core.framework.metrics.MetricsDriver;
 import utam.core.selenium.element.DriverAdapter;
 
 /**
@@ -48,7 +49,7 @@ public class MobileDriverAdapter extends DriverAdapter implements Driver {
   }
 
   static AppiumDriver getAppiumDriver(Driver driver) {
-    return ((MobileDriverAdapter) driver).getAppiumDriver();
+    return ((MobileDriverAdapter) MetricsDriver.unwrap(driver)).getAppiumDriver();
   }
 
   final boolean isIOSPlatform() {
@@ -15,6 +15,7 @@ import java.time.Duration;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.WebElement;
 import utam.core.driver.Driver;
+import utam.core.framework.metrics.MetricsDriver;
 import utam.core.selenium.element.ElementAdapter;
 
 /**
@@ -39,7 +40,7 @@ public class MobileElementAdapter extends ElementAdapter {
         getWebElement().getSize().getHeight() / 2
     );
     Point nativeEndPoint = nativeStartPoint.moveBy(xOffset, yOffset);
-    Point[] movement = MobileDriverUtils.getFlickCoordinates((MobileDriverAdapter) driver, nativeStartPoint, nativeEndPoint);
+    Point[] movement = MobileDriverUtils.getFlickCoordinates((MobileDriverAdapter) MetricsDriver.unwrap(driver), nativeStartPoint, nativeEndPoint);
     driver.setPageContextToNative();
     Point start = movement[0];
     Point end = movement[1];
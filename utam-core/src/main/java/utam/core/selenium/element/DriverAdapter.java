@@ -11,6 +11,7 @@ import static utam.core.framework.UtamLogger.error;
 import static utam.core.selenium.element.ElementAdapter.EMPTY_LIST;
 import static utam.core.selenium.element.ElementAdapter.NULL_ELEMENT;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
@@ -25,8 +26,11 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 import utam.core.driver.Driver;
 import utam.core.driver.Expectations;
+import utam.core.driver.PollingPolicy;
+import utam.core.driver.WaitStatistics;
 import utam.core.element.Element;
 import utam.core.element.FindContext;
 import utam.core.element.Locator;
@@ -52,13 +56,15 @@ public class DriverAdapter implements Driver {
           .collect(Collectors.toList());
   // not final because can be reset
   private WebDriver driver;
+  private final WaitStatistics waitStatistics = new WaitStatistics();
 
   public DriverAdapter(WebDriver driver) {
     this.driver = driver;
   }
 
   /**
-   * if parameter is a WebElement, we need to unwrap it before passing to JS executor
+   * if parameter is a WebElement or list of elements, we need to unwrap it before passing to JS
+   * executor
    *
    * @param parameters parameters for JS query
    * @return array of parameters
@@ -67,9 +73,19 @@ public class DriverAdapter implements Driver {
     if (parameters == null || parameters.length == 0) {
       return new Object[0];
     }
-    return Stream.of(parameters).map(p ->
-        p instanceof ElementAdapter ? ((ElementAdapter) p).getWebElement() : p
-    ).toArray(Object[]::new);
+    return Stream.of(parameters).map(DriverAdapter::unwrapParameter).toArray(Object[]::new);
+  }
+
+  private static Object unwrapParameter(Object parameter) {
+    if (parameter instanceof ElementAdapter) {
+      return ((ElementAdapter) parameter).getWebElement();
+    }
+    if (parameter instanceof List) {
+      return ((List<?>) parameter).stream()
+          .map(DriverAdapter::unwrapParameter)
+          .collect(Collectors.toList());
+    }
+    return parameter;
   }
 
   static WebElement find(SearchContext searchContext, LocatorBy by, FindContext finderContext) {
@@ -133,6 +149,11 @@ public class DriverAdapter implements Driver {
     return ((JavascriptExecutor) driver).executeScript(script, unwrapParameters(parameters));
   }
 
+  @Override
+  public Object executeAsyncScript(String script, Object... parameters) {
+    return ((JavascriptExecutor) driver).executeAsyncScript(script, unwrapParameters(parameters));
+  }
+
   @Override
   public Element findElement(Locator by, FindContext finderContext) {
     WebElement element = find(getSeleniumDriver(), (LocatorBy) by, finderContext);
@@ -149,10 +170,17 @@ public class DriverAdapter implements Driver {
   @Override
   public <T> T waitFor(Duration timeout, Duration pollingInterval, Expectations<T> expectations,
       Element element) {
+    return waitFor(timeout, pollingInterval, PollingPolicy.FIXED, expectations, element);
+  }
+
+  @Override
+  public <T> T waitFor(Duration timeout, Duration pollingInterval, PollingPolicy pollingPolicy,
+      Expectations<T> expectations, Element element) {
     if (timeout == null || timeout.isZero()) {
       return expectations.apply(this, element);
     }
-    return new DriverWait(this, timeout, pollingInterval, expectations.getLogMessage())
+    return new DriverWait(this, timeout, new PollingSleeper(pollingPolicy, pollingInterval),
+        expectations.getLogMessage())
         .until(driver -> expectations.apply(driver, element));
   }
 
@@ -161,6 +189,11 @@ public class DriverAdapter implements Driver {
     return waitFor(timeout, pollingInterval, expectations, null);
   }
 
+  @Override
+  public WaitStatistics getWaitStatistics() {
+    return waitStatistics;
+  }
+
   public WebDriver getSeleniumDriver() {
     return this.driver;
   }
@@ -182,14 +215,34 @@ public class DriverAdapter implements Driver {
 
   static class DriverWait extends FluentWait<Driver> {
 
-    DriverWait(Driver input, Duration timeout, Duration pollingInterval, String message) {
-      super(input);
+    private final Driver driver;
+    private final PollingSleeper sleeper;
+
+    DriverWait(Driver input, Duration timeout, PollingSleeper sleeper, String message) {
+      super(input, Clock.systemDefaultZone(), sleeper);
+      this.driver = input;
+      this.sleeper = sleeper;
       withTimeout(timeout);
-      pollingEvery(pollingInterval);
+      // sleeper chooses actual interval, configured one is still reported in timeout message
+      pollingEvery(sleeper.pollingInterval);
       ignoreAll(IGNORE_EXCEPTIONS);
       withMessage("waiting for " + message);
     }
 
+    @Override
+    public <V> V until(Function<? super Driver, V> isTrue) {
+      long start = System.nanoTime();
+      boolean isSuccess = false;
+      try {
+        V result = super.until(isTrue);
+        isSuccess = true;
+        return result;
+      } finally {
+        driver.getWaitStatistics()
+            .record(sleeper.getPolls(), Duration.ofNanos(System.nanoTime() - start), isSuccess);
+      }
+    }
+
     @Override
     protected RuntimeException timeoutException(String message, Throwable lastException) {
       if (lastException instanceof RuntimeException) {
@@ -199,4 +252,28 @@ public class DriverAdapter implements Driver {
       return super.timeoutException(message, lastException);
     }
   }
+
+  // sleeps between checks with intervals defined by polling policy
+  static class PollingSleeper implements Sleeper {
+
+    private final PollingPolicy pollingPolicy;
+    private final Duration pollingInterval;
+    private int polls = 1;
+
+    PollingSleeper(PollingPolicy pollingPolicy, Duration pollingInterval) {
+      this.pollingPolicy = pollingPolicy;
+      this.pollingInterval = pollingInterval;
+    }
+
+    @Override
+    public void sleep(Duration ignored) throws InterruptedException {
+      Duration interval = pollingPolicy.getInterval(polls++, pollingInterval);
+      Thread.sleep(interval.toMillis());
+    }
+
+    // number of condition checks done so far
+    int getPolls() {
+      return polls;
+    }
+  }
 }
@@ -26,6 +26,7 @@ import utam.core.driver.Driver;
 import utam.core.element.Element;
 import utam.core.element.FindContext;
 import utam.core.element.Locator;
+import utam.core.framework.metrics.MetricsDriver;
 import utam.core.selenium.appium.MobileElementAdapter;
 
 /**
@@ -219,13 +220,13 @@ public class ElementAdapter implements Element {
 
   @Override
   public void moveTo(Driver driver) {
-    Actions actions = new Actions(((DriverAdapter) driver).getSeleniumDriver());
+    Actions actions = new Actions(((DriverAdapter) MetricsDriver.unwrap(driver)).getSeleniumDriver());
     actions.moveToElement(getWebElement()).perform();
   }
 
   @Override
   public boolean hasFocus(Driver driver) {
-    return ((DriverAdapter) driver).getSeleniumDriver().switchTo().activeElement()
+    return ((DriverAdapter) MetricsDriver.unwrap(driver)).getSeleniumDriver().switchTo().activeElement()
         .equals(getWebElement());
   }
 
@@ -10,7 +10,6 @@ package utam.core.selenium.element;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.regex.Pattern;
 import org.openqa.selenium.By;
 import utam.core.element.Locator;
 import utam.core.selenium.appium.LocatorAccessibilityId;
@@ -26,11 +25,11 @@ import utam.core.selenium.appium.LocatorUIAutomator;
 public abstract class LocatorBy implements Locator<By> {
 
   protected final String stringValue;
-  private final int parametersCount;
+  private final LocatorTemplate template;
 
   protected LocatorBy(String stringValue) {
     this.stringValue = stringValue;
-    this.parametersCount = getParametersCount(stringValue);
+    this.template = LocatorTemplate.of(stringValue);
   }
 
   public static LocatorBy byCss(String value) {
@@ -50,17 +49,12 @@ public abstract class LocatorBy implements Locator<By> {
   }
 
   static int getParametersCount(String string) {
-    if (string.equals(SELECTOR_STRING_PARAMETER)) {
-      return 1;
-    }
-    return string.split(Pattern.quote(SELECTOR_STRING_PARAMETER)).length
-        - 1
-        + string.split(Pattern.quote(SELECTOR_INTEGER_PARAMETER)).length
-        - 1;
+    return LocatorTemplate.of(string).getParametersCount();
   }
 
   @Override
   public Entry<Integer, Locator<By>> setParameters(int currentIndex, Object... parameters) {
+    int parametersCount = template.getParametersCount();
     if (parametersCount <= 0 || parameters == null || parameters.length == 0) {
       return new SimpleEntry<>(currentIndex, this);
     }
@@ -74,8 +68,7 @@ public abstract class LocatorBy implements Locator<By> {
                 parameters.length));
       }
     }
-    String mutableValue = String.format(stringValue, values);
-    return new SimpleEntry<>(currentIndex + parametersCount, getCopy(mutableValue));
+    return new SimpleEntry<>(currentIndex + parametersCount, template.materialize(this, values));
   }
 
   // public because used in tests from other package
@@ -92,10 +85,11 @@ public abstract class LocatorBy implements Locator<By> {
 
   @Override
   public boolean equals(Object obj) {
-    if (!(obj instanceof LocatorBy)) {
+    // same type and string create same By, no need to create it
+    if (obj == null || obj.getClass() != getClass()) {
       return false;
     }
-    return ((LocatorBy) obj).getValue().equals(getValue());
+    return ((LocatorBy) obj).stringValue.equals(stringValue);
   }
 
   @Override
@@ -17,13 +17,19 @@ import org.openqa.selenium.By;
  */
 class LocatorByCss extends LocatorBy {
 
+  // By is immutable, created on first use and reused by finders and script traversal
+  private By by;
+
   LocatorByCss(String stringValue) {
     super(stringValue);
   }
 
   @Override
   public By getValue() {
-    return By.cssSelector(stringValue);
+    if (by == null) {
+      by = By.cssSelector(stringValue);
+    }
+    return by;
   }
 
   @Override
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.selenium.element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * selector string split once into literal parts and "%s" or "%d" placeholders, so that setting
+ * parameters only appends values instead of parsing format string <br> templates are shared by
+ * all locators with same selector string and keep bounded number of locators already created
+ * with parameters, so repeated values reuse same locator instance
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+final class LocatorTemplate {
+
+  static final int MAX_TEMPLATES = 1024;
+  static final int MAX_MATERIALIZED = 64;
+  // selector without placeholders is never formatted
+  private static final LocatorTemplate NO_PARAMETERS = new LocatorTemplate("", new String[]{""},
+      new char[0], false);
+  private static final Map<String, LocatorTemplate> TEMPLATES = getBoundedCache(MAX_TEMPLATES);
+
+  private final String source;
+  private final String[] literals;
+  private final char[] conversions;
+  // selector has format specifiers other than placeholders, only String.format can apply them
+  private final boolean isFormatOnly;
+  private final Map<String, LocatorBy> materialized;
+
+  private LocatorTemplate(String source, String[] literals, char[] conversions,
+      boolean isFormatOnly) {
+    this.source = source;
+    this.literals = literals;
+    this.conversions = conversions;
+    this.isFormatOnly = isFormatOnly;
+    this.materialized = conversions.length == 0 ? null : getBoundedCache(MAX_MATERIALIZED);
+  }
+
+  private static <T> Map<String, T> getBoundedCache(int maxSize) {
+    return Collections.synchronizedMap(new LinkedHashMap<String, T>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+        return size() > maxSize;
+      }
+    });
+  }
+
+  /**
+   * get shared template for selector string
+   *
+   * @param selector selector string
+   * @return template
+   */
+  static LocatorTemplate of(String selector) {
+    if (selector.indexOf('%') < 0) {
+      return NO_PARAMETERS;
+    }
+    return TEMPLATES.computeIfAbsent(selector, LocatorTemplate::parse);
+  }
+
+  private static LocatorTemplate parse(String selector) {
+    List<String> literals = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    StringBuilder conversions = new StringBuilder();
+    boolean isFormatOnly = false;
+    for (int i = 0; i < selector.length(); i++) {
+      char c = selector.charAt(i);
+      char next = i + 1 < selector.length() ? selector.charAt(i + 1) : 0;
+      if (c != '%') {
+        literal.append(c);
+      } else if (next == 's' || next == 'd') {
+        literals.add(literal.toString());
+        literal.setLength(0);
+        conversions.append(next);
+        i++;
+      } else if (next == '%') {
+        literal.append('%');
+        i++;
+      } else {
+        literal.append(c);
+        isFormatOnly = true;
+      }
+    }
+    literals.add(literal.toString());
+    return new LocatorTemplate(selector, literals.toArray(new String[0]),
+        conversions.toString().toCharArray(), isFormatOnly);
+  }
+
+  int getParametersCount() {
+    return conversions.length;
+  }
+
+  private static void appendInteger(StringBuilder builder, Object value) {
+    if (value instanceof Integer || value instanceof Long || value instanceof Short
+        || value instanceof Byte) {
+      builder.append(((Number) value).longValue());
+    } else {
+      // null, big integer or wrong type: same output or error as before
+      builder.append(String.format("%d", value));
+    }
+  }
+
+  /**
+   * substitute placeholders with values
+   *
+   * @param values values, number is same as number of placeholders
+   * @return selector string with values
+   */
+  String apply(Object[] values) {
+    if (isFormatOnly) {
+      return String.format(source, values);
+    }
+    StringBuilder builder = new StringBuilder(source.length() + 16 * conversions.length);
+    builder.append(literals[0]);
+    for (int i = 0; i < conversions.length; i++) {
+      if (conversions[i] == 'd') {
+        appendInteger(builder, values[i]);
+      } else {
+        builder.append(values[i]);
+      }
+      builder.append(literals[i + 1]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * get locator with values set, already created locator is reused for same values
+   *
+   * @param locator locator with this template
+   * @param values  values for placeholders
+   * @return locator with values
+   */
+  LocatorBy materialize(LocatorBy locator, Object[] values) {
+    String value = apply(values);
+    LocatorBy cached = materialized.get(value);
+    // same selector string can be used by locators of different types
+    if (cached == null || cached.getClass() != locator.getClass()) {
+      cached = locator.getCopy(value);
+      materialized.put(value, cached);
+    }
+    return cached;
+  }
+
+  // used in tests
+  static boolean isCached(String selector) {
+    return TEMPLATES.containsKey(selector);
+  }
+}
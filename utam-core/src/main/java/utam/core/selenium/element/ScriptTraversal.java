@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.selenium.element;
+
+import static utam.core.selenium.element.DriverAdapter.getNotFoundErr;
+import static utam.core.selenium.element.ElementAdapter.EMPTY_LIST;
+import static utam.core.selenium.element.ElementAdapter.NULL_ELEMENT;
+import static utam.core.selenium.element.ShadowRootWebElement.getElementsWithFirefoxWorkaround;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import utam.core.driver.Driver;
+import utam.core.element.Element;
+import utam.core.element.FindContext;
+import utam.core.element.Locator;
+import utam.core.selenium.appium.MobileElementAdapter;
+
+/**
+ * resolves chain of CSS locators with a single JavaScript call instead of one driver command per
+ * link, script returns found element(s) or index of the first link that was not found
+ *
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public final class ScriptTraversal {
+
+  static final String TRAVERSAL_JAVASCRIPT =
+      "var scope = arguments[0] || document;"
+          + "var selectors = arguments[1], expand = arguments[2], isList = arguments[3];"
+          + "for (var i = 0; i < selectors.length; i++) {"
+          + "if (expand[i] && scope !== document) {"
+          + "scope = scope.shadowRoot;"
+          + "if (!scope) { return i; }"
+          + "}"
+          + "if (isList && i === selectors.length - 1) {"
+          + "var all = scope.querySelectorAll(selectors[i]);"
+          + "return all.length === 0 ? i : Array.prototype.slice.call(all);"
+          + "}"
+          + "scope = scope.querySelector(selectors[i]);"
+          + "if (!scope) { return i; }"
+          + "}"
+          + "return scope;";
+
+  private final Element scope;
+  private final List<Locator> locators = new ArrayList<>();
+  private final List<FindContext> contexts = new ArrayList<>();
+  private final List<String> selectors = new ArrayList<>();
+  private final List<Boolean> expand = new ArrayList<>();
+
+  /**
+   * @param scope already found element to start traversal from, null to start from document
+   */
+  public ScriptTraversal(Element scope) {
+    this.scope = scope;
+  }
+
+  /**
+   * only CSS selectors can be resolved by the script
+   *
+   * @param locator locator to check
+   * @return true if locator can be added to traversal
+   */
+  public static boolean isSupported(Locator locator) {
+    return locator instanceof LocatorByCss;
+  }
+
+  /**
+   * add next link of the chain
+   *
+   * @param locator     CSS locator
+   * @param findContext how to search inside previous link
+   * @return same instance
+   */
+  public ScriptTraversal add(Locator locator, FindContext findContext) {
+    locators.add(locator);
+    contexts.add(findContext);
+    selectors.add(locator.getStringValue());
+    expand.add(findContext.isExpandScopeShadowRoot());
+    return this;
+  }
+
+  private Object execute(Driver driver, boolean isList) {
+    return driver.executeScript(TRAVERSAL_JAVASCRIPT, scope, selectors, expand, isList);
+  }
+
+  // result is a number when one of the links was not found, null is treated as last link not found
+  private boolean isFound(Object result) {
+    if (result != null && !(result instanceof Number)) {
+      return true;
+    }
+    int index = result == null ? locators.size() - 1 : ((Number) result).intValue();
+    if (contexts.get(index).isNullable()) {
+      return false;
+    }
+    throw new NoSuchElementException(getNotFoundErr(locators.get(index)));
+  }
+
+  private Element wrap(Driver driver, WebElement element) {
+    return driver.isMobile() ? new MobileElementAdapter(element) : new ElementAdapter(element);
+  }
+
+  /**
+   * find element with all links in one script call
+   *
+   * @param driver driver instance
+   * @return found element or null element if nullable link was not found
+   */
+  public Element findElement(Driver driver) {
+    Object result = execute(driver, false);
+    if (!isFound(result)) {
+      return NULL_ELEMENT;
+    }
+    return wrap(driver, (WebElement) result);
+  }
+
+  /**
+   * find elements with all links in one script call
+   *
+   * @param driver driver instance
+   * @return found elements or empty list if nullable link was not found
+   */
+  public List<Element> findElements(Driver driver) {
+    Object result = execute(driver, true);
+    if (!isFound(result)) {
+      return EMPTY_LIST;
+    }
+    return getElementsWithFirefoxWorkaround(result)
+        .stream()
+        .map(element -> wrap(driver, element))
+        .collect(Collectors.toList());
+  }
+}
@@ -16,9 +16,13 @@ package utam.core.selenium.element;
 
 import org.openqa.selenium.*;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * COPY FROM SETI <br>
@@ -41,11 +45,32 @@ public class ShadowRootWebElement implements WebElement, WrapsElement, WrapsDriv
   public static final String GET_SHADOW_ROOT_QUERY_SELECTOR_ALL = "return arguments[0].shadowRoot.querySelectorAll('%s')";
   public static final String GET_SHADOW_ROOT_QUERY_SELECTOR = "return arguments[0].shadowRoot.querySelector('%s')";
   public static final String SHADOW_ROOT_DETECTION_SCRIPT_FRAGMENT = "arguments[0].shadowRoot;";
+  // W3C "Get Element Shadow Root" command, exposed by WebElement of newer Selenium versions
+  static final String NATIVE_SHADOW_ROOT_METHOD = "getShadowRoot";
+
+  // method is looked up once per element implementation, null if not available
+  private static final ClassValue<Method> NATIVE_SHADOW_ROOT = new ClassValue<Method>() {
+    @Override
+    protected Method computeValue(Class<?> type) {
+      try {
+        Method method = type.getMethod(NATIVE_SHADOW_ROOT_METHOD);
+        return SearchContext.class.isAssignableFrom(method.getReturnType()) ? method : null;
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+  };
+
+  // support of the native command by browser driver is detected once per session
+  private static final Map<WebDriver, Boolean> NATIVE_SHADOW_ROOT_SESSIONS =
+      Collections.synchronizedMap(new WeakHashMap<>());
 
 
   // The host element of the shadowRoot. Needed to execute queries off of.
   private final WebElement rootElement;
   private final JavascriptExecutor executor;
+  // shadow root returned by native command, host element always has same shadow root
+  private SearchContext nativeShadowRoot;
 
   public ShadowRootWebElement(WebElement we) {
     this.rootElement = we;
@@ -60,6 +85,44 @@ public class ShadowRootWebElement implements WebElement, WrapsElement, WrapsDriv
     return executor;
   }
 
+  /**
+   * get shadow root with the native driver command, script is used if command is not supported;
+   * shadow root is resolved once per host element
+   *
+   * @return shadow root search context or null if native command is not supported
+   */
+  SearchContext getNativeShadowRoot() {
+    if (nativeShadowRoot != null) {
+      return nativeShadowRoot;
+    }
+    Method method = NATIVE_SHADOW_ROOT.get(rootElement.getClass());
+    if (method == null) {
+      return null;
+    }
+    WebDriver driver = getWrappedDriver();
+    if (Boolean.FALSE.equals(NATIVE_SHADOW_ROOT_SESSIONS.get(driver))) {
+      return null;
+    }
+    try {
+      nativeShadowRoot = (SearchContext) method.invoke(rootElement);
+      NATIVE_SHADOW_ROOT_SESSIONS.put(driver, true);
+      return nativeShadowRoot;
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      // only command that is not known to browser driver means that session does not support it
+      if (cause instanceof UnsupportedCommandException || cause instanceof NoSuchMethodError) {
+        NATIVE_SHADOW_ROOT_SESSIONS.put(driver, false);
+        return null;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw (RuntimeException) cause;
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
   @Override
   public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
     throw new UnsupportedCommandException(
@@ -159,13 +222,18 @@ public class ShadowRootWebElement implements WebElement, WrapsElement, WrapsDriv
   }
 
   /**
-   * When querying the shadowRoot property, this *must* be called with By.cssSelector. This is
-   * because we translate the By.cssSelector parameter to a string to pass along to a client-side
-   * element.querySelectorAll() call.
+   * When querying the shadowRoot property with script, this *must* be called with
+   * By.cssSelector. This is because we translate the By.cssSelector parameter to a string to pass
+   * along to a client-side element.querySelectorAll() call. If driver supports native shadow root
+   * command, search is done inside returned shadow root instead.
    */
   @SuppressWarnings("unchecked")
   @Override
   public List<WebElement> findElements(By by) {
+    SearchContext shadowRoot = getNativeShadowRoot();
+    if (shadowRoot != null) {
+      return shadowRoot.findElements(by);
+    }
     String selector = getSelectorString(by);
     String fullQuery = String.format(GET_SHADOW_ROOT_QUERY_SELECTOR_ALL, selector);
     Object elements = executor.executeScript(fullQuery, rootElement);
@@ -201,12 +269,17 @@ public class ShadowRootWebElement implements WebElement, WrapsElement, WrapsDriv
   }
 
   /**
-   * When querying the shadowRoot property, this *must* be called with By.cssSelector. This is
-   * because we translate the By.cssSelector parameter to a string to pass along to a client-side
-   * element.querySelector() call.
+   * When querying the shadowRoot property with script, this *must* be called with
+   * By.cssSelector. This is because we translate the By.cssSelector parameter to a string to pass
+   * along to a client-side element.querySelector() call. If driver supports native shadow root
+   * command, search is done inside returned shadow root instead.
    */
   @Override
   public WebElement findElement(By by) {
+    SearchContext shadowRoot = getNativeShadowRoot();
+    if (shadowRoot != null) {
+      return shadowRoot.findElement(by);
+    }
     String selector = getSelectorString(by);
     Object obj = executor.executeScript(
         String.format(GET_SHADOW_ROOT_QUERY_SELECTOR, selector), rootElement);
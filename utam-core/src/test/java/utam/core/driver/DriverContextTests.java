@@ -42,4 +42,20 @@ public class DriverContextTests {
     assertThat(myContext.getTimeouts(), is(equalTo(myTimeouts)));
     assertThat(myContext.getBridgeAppTitle(), is(equalTo("testAppTitle")));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testOptions() {
+    assertThat(TEST.isScriptTraversal() || TEST.isElementCache() || TEST.isObserverWaits()
+        || TEST.isScriptFilters(), is(false));
+    DriverContext.Options options = new DriverContext.Options()
+        .setScriptTraversal(true)
+        .setObserverWaits(true);
+    DriverContext context = new DriverContext(DriverTimeouts.TEST, "", options);
+    // options are copied by context
+    options.setElementCache(true);
+    assertThat(context.isScriptTraversal(), is(true));
+    assertThat(context.isObserverWaits(), is(true));
+    assertThat(context.isElementCache(), is(false));
+    assertThat(context.isScriptFilters(), is(false));
+  }
+}
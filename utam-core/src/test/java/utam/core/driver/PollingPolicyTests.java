@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.driver;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.testng.Assert.expectThrows;
+import static utam.core.driver.PollingPolicy.ERR_UNKNOWN_POLLING_POLICY;
+
+import java.time.Duration;
+import org.testng.annotations.Test;
+import utam.core.framework.UtamCoreError;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class PollingPolicyTests {
+
+  private static final Duration INTERVAL = Duration.ofMillis(500);
+
+  @Test
+  public void testFixed() {
+    assertThat(PollingPolicy.FIXED.getInterval(1, INTERVAL), is(equalTo(INTERVAL)));
+    assertThat(PollingPolicy.FIXED.getInterval(10, INTERVAL), is(equalTo(INTERVAL)));
+  }
+
+  @Test
+  public void testExponentialIsCapped() {
+    PollingPolicy policy = PollingPolicy.EXPONENTIAL;
+    assertThat(policy.getInterval(1, INTERVAL), is(equalTo(Duration.ofMillis(10))));
+    assertThat(policy.getInterval(2, INTERVAL), is(equalTo(Duration.ofMillis(20))));
+    assertThat(policy.getInterval(3, INTERVAL), is(equalTo(Duration.ofMillis(40))));
+    assertThat(policy.getInterval(7, INTERVAL), is(equalTo(INTERVAL)));
+    assertThat(policy.getInterval(100, INTERVAL), is(equalTo(INTERVAL)));
+  }
+
+  @Test
+  public void testJitterStaysWithinInterval() {
+    for (int poll = 1; poll < 20; poll++) {
+      Duration base = PollingPolicy.EXPONENTIAL.getInterval(poll, INTERVAL);
+      Duration interval = PollingPolicy.JITTER.getInterval(poll, INTERVAL);
+      assertThat(interval, is(lessThanOrEqualTo(base)));
+      assertThat(interval, is(greaterThanOrEqualTo(base.dividedBy(2))));
+    }
+  }
+
+  @Test
+  public void testGetPolicyByName() {
+    assertThat(PollingPolicy.getPolicy("fixed"), is(equalTo(PollingPolicy.FIXED)));
+    assertThat(PollingPolicy.getPolicy("exponential"), is(equalTo(PollingPolicy.EXPONENTIAL)));
+    assertThat(PollingPolicy.getPolicy("jitter"), is(equalTo(PollingPolicy.JITTER)));
+    UtamCoreError e = expectThrows(UtamCoreError.class, () -> PollingPolicy.getPolicy("random"));
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_UNKNOWN_POLLING_POLICY, "random"))));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.base;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testng.Assert.expectThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import org.testng.annotations.Test;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ConstructorCacheTests {
+
+  @Test
+  public void testNewInstanceEveryTime() throws ReflectiveOperationException {
+    PublicConstructor first = ConstructorCache.newInstance(PublicConstructor.class);
+    PublicConstructor second = ConstructorCache.newInstance(PublicConstructor.class);
+    assertThat(first, is(instanceOf(PublicConstructor.class)));
+    assertThat(second, is(not(sameInstance(first))));
+  }
+
+  @Test
+  public void testNoDefaultConstructorThrows() {
+    expectThrows(NoSuchMethodException.class,
+        () -> ConstructorCache.newInstance(WithArgumentConstructor.class));
+    // failed lookup is cached as well
+    expectThrows(NoSuchMethodException.class,
+        () -> ConstructorCache.newInstance(WithArgumentConstructor.class));
+  }
+
+  @Test
+  public void testPrivateConstructorThrows() {
+    expectThrows(NoSuchMethodException.class,
+        () -> ConstructorCache.newInstance(PrivateConstructor.class));
+  }
+
+  @Test
+  public void testDeclaredPrivateConstructor() throws ReflectiveOperationException {
+    assertThat(ConstructorCache.newDeclaredInstance(PrivateConstructor.class),
+        is(instanceOf(PrivateConstructor.class)));
+  }
+
+  @Test
+  public void testConstructorErrorIsWrapped() {
+    InvocationTargetException e = expectThrows(InvocationTargetException.class,
+        () -> ConstructorCache.newInstance(ThrowingConstructor.class));
+    assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+  }
+
+  static class PublicConstructor {
+
+    public PublicConstructor() {
+    }
+  }
+
+  static class PrivateConstructor {
+
+    private PrivateConstructor() {
+    }
+  }
+
+  static class WithArgumentConstructor {
+
+    public WithArgumentConstructor(String arg) {
+    }
+  }
+
+  static class ThrowingConstructor {
+
+    public ThrowingConstructor() {
+      throw new IllegalStateException("error");
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static utam.core.element.FindContext.Type.EXISTING;
+import static utam.core.element.FindContext.Type.NULLABLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+import utam.core.driver.DriverContext;
+import utam.core.driver.DriverTimeouts;
+import utam.core.element.Element;
+import utam.core.element.ElementLocation;
+import utam.core.framework.consumer.PageObjectContextImpl;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ElementCacheTests {
+
+  private static PageObjectsFactory getFactory(MockUtilities mock, boolean isCacheEnabled) {
+    DriverContext driverContext = new DriverContext(DriverTimeouts.TEST, "",
+        new DriverContext.Options().setElementCache(isCacheEnabled));
+    return new PageObjectsFactoryImpl(new PageObjectContextImpl(Collections.emptyMap()),
+        driverContext, mock.getDriverAdapter());
+  }
+
+  @Test
+  public void testCachedElementIsFoundOnce() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebDriverMock().findElement(By.cssSelector("css")))
+        .thenReturn(mock(WebElement.class));
+    PageObjectsFactory factory = getFactory(mock, true);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css"), EXISTING);
+    Element first = factory.findElement(location);
+    Element second = factory.findElement(location);
+    assertThat(second, is(equalTo(first)));
+    verify(mock.getWebDriverMock(), times(1)).findElement(By.cssSelector("css"));
+    ElementCache cache = factory.getElementCache();
+    assertThat(cache.getMisses(), is(equalTo(1L)));
+    assertThat(cache.getHits(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testInvalidateStartsNewGeneration() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebDriverMock().findElement(By.cssSelector("css")))
+        .thenReturn(mock(WebElement.class));
+    PageObjectsFactory factory = getFactory(mock, true);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css"), EXISTING);
+    factory.findElement(location);
+    factory.getElementCache().invalidate();
+    assertThat(factory.getElementCache().getGeneration(), is(equalTo(1L)));
+    factory.findElement(location);
+    verify(mock.getWebDriverMock(), times(2)).findElement(By.cssSelector("css"));
+  }
+
+  @Test
+  public void testCacheDisabledByDefault() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebDriverMock().findElement(By.cssSelector("css")))
+        .thenReturn(mock(WebElement.class));
+    PageObjectsFactory factory = getFactory(mock, false);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css"), EXISTING);
+    factory.findElement(location);
+    factory.findElement(location);
+    verify(mock.getWebDriverMock(), times(2)).findElement(By.cssSelector("css"));
+    assertThat(factory.getElementCache().getMisses(), is(equalTo(0L)));
+  }
+
+  @Test
+  public void testLocationFromFoundElementIsNotCached() {
+    MockUtilities mock = new MockUtilities();
+    ElementLocation location = new ElementLocationChain(mock.getElementAdapter());
+    assertThat(location.isCacheable(), is(false));
+    getFactory(mock, true).findElement(location);
+  }
+
+  @Test
+  public void testListIsNotCached() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebDriverMock().findElements(By.cssSelector("css")))
+        .thenReturn(Collections.singletonList(mock(WebElement.class)))
+        .thenReturn(Arrays.asList(mock(WebElement.class), mock(WebElement.class)));
+    PageObjectsFactory factory = getFactory(mock, true);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css"), EXISTING);
+    assertThat(factory.findElements(location), hasSize(1));
+    // list grew, new size is returned
+    assertThat(factory.findElements(location), hasSize(2));
+    verify(mock.getWebDriverMock(), times(2)).findElements(By.cssSelector("css"));
+  }
+
+  @Test
+  public void testLocationWithNullableLinkIsNotCached() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebDriverMock().findElement(By.cssSelector("css")))
+        .thenReturn(mock(WebElement.class))
+        .thenThrow(new NoSuchElementException("removed"));
+    PageObjectsFactory factory = getFactory(mock, true);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css"), NULLABLE);
+    assertThat(location.isCacheable(), is(false));
+    assertThat(location.scope(LocatorBy.byCss("child"), EXISTING).isCacheable(), is(false));
+    assertThat(factory.findElement(location).isNull(), is(false));
+    // element was removed, absence is returned instead of element found before
+    assertThat(factory.findElement(location).isNull(), is(true));
+    assertThat(factory.getElementCache().getMisses(), is(equalTo(0L)));
+  }
+
+  @Test
+  public void testDocumentUrlChangeInvalidates() {
+    ElementCache cache = new ElementCache();
+    cache.setDocumentUrl("first");
+    cache.setDocumentUrl(null);
+    cache.setDocumentUrl("first");
+    assertThat(cache.getGeneration(), is(equalTo(0L)));
+    cache.setDocumentUrl("second");
+    assertThat(cache.getGeneration(), is(equalTo(1L)));
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.base;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static utam.core.framework.base.ElementFilter.FILTER_JAVASCRIPT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+import utam.core.driver.Driver;
+import utam.core.driver.DriverContext;
+import utam.core.driver.DriverTimeouts;
+import utam.core.element.BasicElement;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.consumer.PageObjectContextImpl;
+import utam.core.framework.element.BasePageElement;
+import utam.core.framework.element.ElementLocationChain;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ElementFilterTests {
+
+  private static PageObjectsFactory getFactory(MockUtilities mock, boolean isScriptFilters) {
+    DriverContext driverContext = new DriverContext(DriverTimeouts.TEST, "",
+        new DriverContext.Options().setScriptFilters(isScriptFilters));
+    return new PageObjectsFactoryImpl(new PageObjectContextImpl(Collections.emptyMap()),
+        driverContext, mock.getDriverAdapter());
+  }
+
+  private static BasicElementBuilder getBuilder(MockUtilities mock, boolean isScriptFilters) {
+    when(mock.getWebDriverMock().findElements(By.cssSelector("css")))
+        .thenReturn(Arrays.asList(mock(WebElement.class), mock(WebElement.class)));
+    return new BasicElementBuilder(getFactory(mock, isScriptFilters),
+        new ElementLocationChain(LocatorBy.byCss("css"), Type.EXISTING));
+  }
+
+  @Test
+  public void testApplyReturnsMatchedIndexes() {
+    Driver driver = mock(Driver.class);
+    ElementFilter filter = new ElementFilter("getTitle", "stringEquals", "title");
+    when(driver.executeScript(eq(FILTER_JAVASCRIPT), any(), eq("getAttribute"), eq("title"),
+        eq("stringEquals"), eq("title"))).thenReturn(Arrays.asList(0L, 2L));
+    assertThat(filter.apply(driver, Collections.emptyList()), contains(0, 2));
+  }
+
+  @Test
+  public void testUnknownMatcherIsNotEvaluatedWithScript() {
+    MockUtilities mock = new MockUtilities();
+    PageObjectsFactory factory = getFactory(mock, true);
+    assertThat(new ElementFilter("getText", "stringContains", "text")
+        .isEvaluatedWithScript(factory), is(true));
+    assertThat(new ElementFilter("getText", "unknown", "text")
+        .isEvaluatedWithScript(factory), is(false));
+    assertThat(new ElementFilter("getText", "stringContains", "text")
+        .isEvaluatedWithScript(getFactory(mock, false)), is(false));
+  }
+
+  @Test
+  public void testBuildListWithScriptFilter() {
+    MockUtilities mock = new MockUtilities();
+    BasicElementBuilder builder = getBuilder(mock, true);
+    when(((JavascriptExecutor) mock.getWebDriverMock()).executeScript(eq(FILTER_JAVASCRIPT), any(), any(), any(), any(),
+        any())).thenReturn(Collections.singletonList(1L));
+    List<BasicElement> found = builder.buildList(BasicElement.class, BasePageElement.class,
+        element -> {
+          throw new AssertionError("predicate should not be applied");
+        }, new ElementFilter("isVisible", "isTrue"));
+    assertThat(found, hasSize(1));
+  }
+
+  @Test
+  public void testBuildWithScriptFilterDisabledUsesPredicate() {
+    MockUtilities mock = new MockUtilities();
+    BasicElementBuilder builder = getBuilder(mock, false);
+    BasicElement found = builder.build(BasicElement.class, BasePageElement.class,
+        element -> true, new ElementFilter("isVisible", "isTrue"));
+    assertThat(found, is(notNullValue()));
+    verify((JavascriptExecutor) mock.getWebDriverMock(), never()).executeScript(eq(FILTER_JAVASCRIPT), any(), any(),
+        any(), any(), any());
+  }
+}
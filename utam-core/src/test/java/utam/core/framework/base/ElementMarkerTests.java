@@ -8,20 +8,27 @@
 package utam.core.framework.base;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.expectThrows;
 import static utam.core.framework.base.ElementMarker.getLocator;
 import static utam.core.selenium.appium.LocatorUIAutomator.UI_AUTOMATOR_SELECTOR_PREFIX;
 
 import java.lang.reflect.Field;
 import org.openqa.selenium.By;
 import org.testng.annotations.Test;
+import utam.core.MockUtilities;
 import utam.core.element.ElementLocation;
 import utam.core.element.FindContext.Type;
 import utam.core.framework.base.PageObjectsFactoryImpl.FieldsBuilder;
+import utam.core.framework.consumer.UtamError;
+import utam.core.framework.element.ElementLocationChain;
 import utam.core.selenium.element.LocatorBy;
 
 /**
@@ -73,6 +80,96 @@ public class ElementMarkerTests {
     builder.getLocator(field);
   }
 
+  @Test
+  public void testBootstrapPlanIsBuiltOncePerClass() {
+    ScopedPageObject first = new ScopedPageObject();
+    ScopedPageObject second = new ScopedPageObject();
+    assertThat(new FieldsBuilder(first).plan, is(sameInstance(new FieldsBuilder(second).plan)));
+    ElementLocation root = new ElementLocationChain(LocatorBy.byCss("root"), Type.EXISTING);
+    first.setBootstrap(root, mock(PageObjectsFactory.class));
+    new FieldsBuilder(first).bootstrapElements();
+    assertThat(first.child.getLocatorChainString(), containsString("scope"));
+    assertThat(first.child.getLocatorChainString(), containsString("child"));
+    assertThat(first.scope.getLocatorChainString(), containsString("root"));
+  }
+
+  @Test
+  public void testBootstrapWithMissingScopeThrows() {
+    MockPageObject pageObject = new MockPageObject();
+    pageObject.setBootstrap(mock(ElementLocation.class), mock(PageObjectsFactory.class));
+    UtamError e = expectThrows(UtamError.class,
+        () -> new FieldsBuilder(pageObject).bootstrapElements());
+    assertThat(e.getMessage(), containsString("non-existing field 'fakeScope'"));
+  }
+
+  @Test
+  public void testGeneratedBootstrapReplacesAnnotationsScanning() {
+    GeneratedPageObject pageObject = new GeneratedPageObject();
+    ElementLocation root = new ElementLocationChain(LocatorBy.byCss("root"), Type.EXISTING);
+    new MockUtilities().getFactory().bootstrap(pageObject, root);
+    assertThat(pageObject.element.getLocatorChainString(), containsString("generated"));
+    assertThat(pageObject.element.getLocatorChainString(), not(containsString("annotated")));
+  }
+
+  @Test
+  public void testHandWrittenPageObjectIsBootstrappedFromAnnotations() {
+    ScopedPageObject pageObject = new ScopedPageObject();
+    ElementLocation root = new ElementLocationChain(LocatorBy.byCss("root"), Type.EXISTING);
+    new MockUtilities().getFactory().bootstrap(pageObject, root);
+    assertThat(pageObject.child.getLocatorChainString(), containsString("child"));
+  }
+
+  @Test
+  public void testFinalFieldIsBootstrapped() {
+    FinalFieldPageObject pageObject = new FinalFieldPageObject();
+    ElementLocation root = new ElementLocationChain(LocatorBy.byCss("root"), Type.EXISTING);
+    pageObject.setBootstrap(root, mock(PageObjectsFactory.class));
+    new FieldsBuilder(pageObject).bootstrapElements();
+    assertThat(pageObject.element.getLocatorChainString(), containsString("final"));
+  }
+
+  @Test
+  public void testFieldWithoutAnnotationThrows() {
+    NotAnnotatedPageObject pageObject = new NotAnnotatedPageObject();
+    pageObject.setBootstrap(mock(ElementLocation.class), mock(PageObjectsFactory.class));
+    UtamError e = expectThrows(UtamError.class,
+        () -> new FieldsBuilder(pageObject).bootstrapElements());
+    assertThat(e.getMessage(), is(equalTo(
+        "element field 'element' in class 'NotAnnotatedPageObject' does not have @ElementMarker.Find annotation")));
+  }
+
+  static class NotAnnotatedPageObject extends BasePageObject {
+
+    private ElementLocation element;
+  }
+
+  static class FinalFieldPageObject extends BasePageObject {
+
+    @ElementMarker.Find(css = "final")
+    private final ElementLocation element = null;
+  }
+
+  static class GeneratedPageObject extends BasePageObject {
+
+    @ElementMarker.Find(css = "annotated")
+    private ElementLocation element;
+
+    @Override
+    protected final boolean bootstrap(ElementLocation root) {
+      this.element = root.scope(LocatorBy.byCss("generated"), Type.EXISTING);
+      return true;
+    }
+  }
+
+  static class ScopedPageObject extends BasePageObject {
+
+    @ElementMarker.Find(css = "scope")
+    private ElementLocation scope;
+
+    @ElementMarker.Find(css = "child", scope = "scope")
+    private ElementLocation child;
+  }
+
   static class MockPageObject extends BasePageObject {
 
     @ElementMarker.Find(css = ".fakeSelector")
@@ -73,6 +73,14 @@ public class JsonLoaderConfigTests {
     assertThat(third.getModuleProfiles(config.profiles), hasItems(DEFAULT_PROFILE, sharedProfile));
 
     assertThat(config.profiles, hasSize(1));
+    assertThat(config.getPollingPolicy(), is(nullValue()));
+  }
+
+  @Test
+  public void testPollingPolicy() {
+    assertThat(fromResource("polling.loader.json").getPollingPolicy(),
+        is(equalTo("exponential")));
+    assertThat(getEmptyConfig().getPollingPolicy(), is(nullValue()));
   }
 
   @Test
@@ -9,6 +9,7 @@ package utam.core.framework.consumer;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.testng.Assert.expectThrows;
@@ -57,6 +58,30 @@ public class PageObjectContextTests {
         String.format(ERR_GET_INSTANCE_BY_NAME, PageObjectWithoutImplementation.class.getName()))));
   }
 
+  @Test
+  public void testBeanClassIsLoadedOnFirstRequest() {
+    BeanRegistry registry = new BeanRegistry(Collections
+        .singletonMap(TestLoaderConfigPageObject.class.getName(),
+            TestLoaderConfigPageObjectOverride.class.getName()));
+    assertThat(registry.isResolved(TestLoaderConfigPageObject.class), is(false));
+    PageObjectContext context = new PageObjectContextImpl(registry);
+    assertThat(context.getBean(TestLoaderConfigPageObject.class),
+        is(instanceOf(TestLoaderConfigPageObjectOverride.class)));
+    assertThat(registry.isResolved(TestLoaderConfigPageObject.class), is(true));
+    assertThat(registry.getBeanClass(TestLoaderConfigPageObject.class),
+        is(sameInstance(TestLoaderConfigPageObjectOverride.class)));
+  }
+
+  @Test
+  public void testWrongBeanNameThrowsOnlyWhenRequested() {
+    BeanRegistry registry = new BeanRegistry(Collections
+        .singletonMap(PageObjectWithoutImplementation.class.getName(), "my.WrongName"));
+    PageObjectContext context = new PageObjectContextImpl(registry);
+    UtamError e = expectThrows(UtamError.class,
+        () -> context.getBean(PageObjectWithoutImplementation.class));
+    assertThat(e.getMessage(), is(equalTo(String.format(ERR_GET_CLASS_BY_NAME, "my.WrongName"))));
+  }
+
   interface PageObjectWithoutImplementation extends PageObject {
 
   }
@@ -12,7 +12,10 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
 import static org.testng.Assert.expectThrows;
 import static utam.core.framework.consumer.UtamLoaderConfigImpl.ERR_DUPLICATE_PROFILE;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
@@ -20,10 +23,15 @@ import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 import java.io.File;
 import java.time.Duration;
 import org.testng.annotations.Test;
+import utam.core.driver.Driver;
 import utam.core.driver.DriverTimeouts;
+import utam.core.driver.PollingPolicy;
 import utam.core.framework.base.PageObject;
+import utam.core.framework.base.PageObjectsFactoryImpl;
 import utam.core.framework.context.Profile;
 import utam.core.framework.context.StringValueProfile;
+import utam.core.framework.metrics.DriverMetrics;
+import utam.core.framework.metrics.MetricsDriver;
 
 public class UtamLoaderConfigTests {
 
@@ -38,6 +46,59 @@ public class UtamLoaderConfigTests {
     assertThat(config.getDriverContext().getBridgeAppTitle(), is(equalTo("bridge")));
   }
 
+  @Test
+  public void testSetScriptTraversal() {
+    UtamLoaderConfig config = getDefaultConfig();
+    assertThat(config.getDriverContext().isScriptTraversal(), is(false));
+    config.setScriptTraversal(true);
+    assertThat(config.getDriverContext().isScriptTraversal(), is(true));
+  }
+
+  @Test
+  public void testSetObserverWaits() {
+    UtamLoaderConfig config = getDefaultConfig();
+    assertThat(config.getDriverContext().isObserverWaits(), is(false));
+    config.setObserverWaits(true);
+    assertThat(config.getDriverContext().isObserverWaits(), is(true));
+  }
+
+  @Test
+  public void testSetScriptFilters() {
+    UtamLoaderConfig config = getDefaultConfig();
+    assertThat(config.getDriverContext().isScriptFilters(), is(false));
+    config.setScriptFilters(true);
+    assertThat(config.getDriverContext().isScriptFilters(), is(true));
+  }
+
+  @Test
+  public void testSetDriverMetrics() {
+    UtamLoaderConfig config = getDefaultConfig();
+    Driver driver = mock(Driver.class);
+    assertThat(config.getDriverMetrics(), is(nullValue()));
+    assertThat(new PageObjectsFactoryImpl(config, driver).getDriver(), is(sameInstance(driver)));
+    DriverMetrics metrics = new DriverMetrics();
+    config.setDriverMetrics(metrics);
+    assertThat(config.getDriverMetrics(), is(sameInstance(metrics)));
+    Driver decorated = new PageObjectsFactoryImpl(config, driver).getDriver();
+    assertThat(decorated, is(instanceOf(MetricsDriver.class)));
+    assertThat(MetricsDriver.unwrap(decorated), is(sameInstance(driver)));
+  }
+
+  @Test
+  public void testSetPollingPolicy() {
+    UtamLoaderConfig config = getDefaultConfig();
+    assertThat(config.getDriverContext().getTimeouts().getPollingPolicy(),
+        is(equalTo(PollingPolicy.FIXED)));
+    config.setPollingPolicy(PollingPolicy.JITTER);
+    config.setFindTimeout(Duration.ofSeconds(100));
+    assertThat(config.getDriverContext().getTimeouts().getPollingPolicy(),
+        is(equalTo(PollingPolicy.JITTER)));
+    UtamLoaderConfig fromJson = new UtamLoaderConfigImpl(DriverTimeouts.TEST,
+        JsonLoaderConfig.loadConfig("polling.loader.json"));
+    assertThat(fromJson.getDriverContext().getTimeouts().getPollingPolicy(),
+        is(equalTo(PollingPolicy.EXPONENTIAL)));
+  }
+
   @Test
   public void testSetTimeout() {
     UtamLoaderConfig config = getDefaultConfig();
@@ -136,6 +197,18 @@ public class UtamLoaderConfigTests {
     assertThat(config.getModules().get(0), is(nullValue()));
   }
 
+  @Test
+  public void testPageContextIsReusedUntilProfileIsSet() {
+    UtamLoaderConfig config = new UtamLoaderConfigImpl("module.loader.json");
+    PageObjectContext context = config.getPageContext();
+    assertThat(config.getPageContext(), is(sameInstance(context)));
+    config.setProfile(new StringValueProfile("test", "profiles"));
+    PageObjectContext profileContext = config.getPageContext();
+    assertThat(profileContext, is(not(sameInstance(context))));
+    assertThat(profileContext.getBean(TestLoaderConfigPageObject.class),
+        is(instanceOf(TestLoaderConfigPageObjectProfile.class)));
+  }
+
   @Test
   public void testDefaultConfigLoadedFirst() {
     UtamLoaderConfig config = new UtamLoaderConfigImpl("module.loader.json");
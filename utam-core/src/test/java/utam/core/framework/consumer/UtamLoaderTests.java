@@ -28,6 +28,7 @@ import org.testng.annotations.Test;
 import utam.core.MockUtilities;
 import utam.core.driver.Driver;
 import utam.core.driver.DriverTimeouts;
+import utam.core.framework.base.ElementCache;
 import utam.core.framework.base.PageObjectsFactory;
 import utam.core.framework.base.RootPageObject;
 import utam.core.framework.context.StringValueProfile;
@@ -108,6 +109,17 @@ public class UtamLoaderTests {
     assertThat(loader.getFactory(), is(not(sameInstance(factory))));
   }
 
+  @Test
+  public void testResetKeepsElementCache() {
+    UtamLoaderImpl loader = getDefaultLoader();
+    ElementCache cache = loader.getElementCache();
+    loader.resetContext();
+    loader.resetContext();
+    assertThat(loader.getElementCache(), is(sameInstance(cache)));
+    assertThat(loader.getFactory().getElementCache(), is(sameInstance(cache)));
+    assertThat(cache.getGeneration(), is(equalTo(2L)));
+  }
+
   @Test
   public void testGetDocument() {
     assertThat(getDefaultLoader().getDocument(), is(notNullValue()));
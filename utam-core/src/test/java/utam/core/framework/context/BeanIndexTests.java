@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.context;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.testng.Assert.expectThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class BeanIndexTests {
+
+  private static BeanIndex getIndex(Map<String, Map<String, String>> profiles) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BeanIndex.write(profiles, out);
+    return new BeanIndex(ByteBuffer.wrap(out.toByteArray()));
+  }
+
+  @Test
+  public void testWriteAndRead() {
+    Map<String, Map<String, String>> profiles = new HashMap<>();
+    Map<String, String> defaultBeans = new HashMap<>();
+    defaultBeans.put("my.Type", "my.impl.TypeImpl");
+    defaultBeans.put("my.InterfaceOnly", "");
+    profiles.put("module_default_impl_config", defaultBeans);
+    Map<String, String> profileBeans = new HashMap<>();
+    profileBeans.put("my.Type", "my.impl.TypeChrome");
+    profiles.put("module_driver_chrome_config", profileBeans);
+    BeanIndex index = getIndex(profiles);
+    assertThat(index.hasProfile("module_default_impl_config"), is(true));
+    assertThat(index.hasProfile("module_driver_firefox_config"), is(false));
+    Map<String, String> beans = index.getBeans("module_default_impl_config");
+    assertThat(beans, hasEntry("my.Type", "my.impl.TypeImpl"));
+    // interface without implementation is skipped same as in properties
+    assertThat(beans.get("my.InterfaceOnly"), is(nullValue()));
+    assertThat(index.getBeans("module_driver_chrome_config").get("my.Type"),
+        is(equalTo("my.impl.TypeChrome")));
+    assertThat(index.getBeans("module_driver_firefox_config"), is(anEmptyMap()));
+  }
+
+  @Test
+  public void testWrongFormatThrows() {
+    expectThrows(IllegalArgumentException.class,
+        () -> new BeanIndex(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})));
+  }
+
+  @Test
+  public void testIndexName() {
+    assertThat(BeanIndex.getIndexName(null), is(equalTo("utam_beans.idx")));
+    assertThat(BeanIndex.getIndexName("module"), is(equalTo("module_beans.idx")));
+  }
+
+  @Test
+  public void testIndexNotFound() {
+    assertThat(BeanIndex.load(getClass().getClassLoader(), "missing"), is(nullValue()));
+  }
+}
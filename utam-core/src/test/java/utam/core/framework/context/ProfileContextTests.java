@@ -13,9 +13,24 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.nullValue;
 import static org.testng.Assert.expectThrows;
 import static utam.core.framework.consumer.PageObjectContextImpl.ERR_GET_CLASS_BY_NAME;
+import static utam.core.framework.context.BeanIndex.getIndexName;
 import static utam.core.framework.context.StringValueProfile.DEFAULT_PROFILE;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.annotations.Test;
+import utam.core.framework.consumer.TestLoaderConfigDefault;
 import utam.core.framework.consumer.TestLoaderConfigPageObject;
 import utam.core.framework.consumer.TestLoaderConfigPageObjectOverride;
 import utam.core.framework.consumer.TestLoaderConfigPageObjectProfile;
@@ -66,6 +81,15 @@ public class ProfileContextTests {
         is(equalTo(TestLoaderConfigPageObjectProfile.class.getName())));
   }
 
+  @Test
+  public void testConfiguredBeanNames() {
+    ProfileContext profileContext =
+        new DefaultProfileContext(null, new StringValueProfile("test", "profiles"));
+    assertThat(
+        profileContext.getConfiguredBeanNames().get(TestLoaderConfigPageObject.class.getName()),
+        is(equalTo(TestLoaderConfigPageObjectOverride.class.getName())));
+  }
+
   @Test
   public void testNonExistingClassThrows() {
     // utam.test.Error=utam.test.ErrorImpl
@@ -73,4 +97,88 @@ public class ProfileContextTests {
         () -> new DefaultProfileContext(null, new StringValueProfile("test", "error")));
     assertThat(error.getMessage(), is(equalTo(String.format(ERR_GET_CLASS_BY_NAME, "utam.test.Error"))));
   }
+
+  @SafeVarargs
+  private static URLClassLoader getLoader(Map<String, String> indexedBeans,
+      Map<String, String>... configs) throws IOException {
+    String configName = new StringValueProfile("test", "profiles").getConfigName("indexed");
+    List<URL> roots = new ArrayList<>();
+    for (Map<String, String> config : configs) {
+      Path root = Files.createTempDirectory("utam-profiles");
+      root.toFile().deleteOnExit();
+      Properties properties = new Properties();
+      properties.putAll(config);
+      try (OutputStream out = Files
+          .newOutputStream(root.resolve(configName + ".properties"))) {
+        properties.store(out, null);
+      }
+      if (roots.isEmpty()) {
+        try (OutputStream out = Files.newOutputStream(root.resolve(getIndexName("indexed")))) {
+          BeanIndex.write(Collections.singletonMap(configName, indexedBeans), out);
+        }
+      }
+      roots.add(root.toUri().toURL());
+    }
+    return new URLClassLoader(roots.toArray(new URL[0]), ProfileContextTests.class.getClassLoader());
+  }
+
+  @Test
+  public void testModuleIndexIsReadPerClassLoader() throws IOException {
+    Map<String, String> override = Collections.singletonMap(
+        TestLoaderConfigPageObject.class.getName(), TestLoaderConfigPageObjectOverride.class.getName());
+    Map<String, String> profile = Collections.singletonMap(
+        TestLoaderConfigPageObject.class.getName(), TestLoaderConfigPageObjectProfile.class.getName());
+    try (URLClassLoader first = getLoader(override, override);
+        URLClassLoader second = getLoader(profile, profile)) {
+      StringValueProfile testProfile = new StringValueProfile("test", "profiles");
+      assertThat(new DefaultProfileContext("indexed", testProfile, first)
+              .getBeanName(TestLoaderConfigPageObject.class),
+          is(equalTo(TestLoaderConfigPageObjectOverride.class.getName())));
+      assertThat(new DefaultProfileContext("indexed", testProfile, second)
+              .getBeanName(TestLoaderConfigPageObject.class),
+          is(equalTo(TestLoaderConfigPageObjectProfile.class.getName())));
+    }
+  }
+
+  @Test
+  public void testConfigsAreCheckedOncePerModule() throws IOException {
+    Map<String, String> indexed = Collections.singletonMap(
+        TestLoaderConfigPageObject.class.getName(), TestLoaderConfigPageObjectOverride.class.getName());
+    AtomicInteger configLookups = new AtomicInteger();
+    try (URLClassLoader roots = getLoader(indexed, indexed);
+        URLClassLoader loader = new URLClassLoader(roots.getURLs(),
+            ProfileContextTests.class.getClassLoader()) {
+          @Override
+          public Enumeration<URL> getResources(String name) throws IOException {
+            if (name.endsWith(".properties")) {
+              configLookups.incrementAndGet();
+            }
+            return super.getResources(name);
+          }
+        }) {
+      StringValueProfile testProfile = new StringValueProfile("test", "profiles");
+      for (int i = 0; i < 3; i++) {
+        assertThat(new DefaultProfileContext("indexed", testProfile, loader)
+                .getBeanName(TestLoaderConfigPageObject.class),
+            is(equalTo(TestLoaderConfigPageObjectOverride.class.getName())));
+      }
+      assertThat(configLookups.get(), is(equalTo(1)));
+    }
+  }
+
+  @Test
+  public void testSeveralConfigsAreMergedInsteadOfIndex() throws IOException {
+    Map<String, String> indexed = Collections.singletonMap(
+        TestLoaderConfigPageObject.class.getName(), TestLoaderConfigPageObjectOverride.class.getName());
+    Map<String, String> other = Collections.singletonMap(
+        TestLoaderConfigDefault.class.getName(), TestLoaderConfigPageObjectProfile.class.getName());
+    try (URLClassLoader loader = getLoader(indexed, indexed, other)) {
+      ProfileContext profileContext = new DefaultProfileContext("indexed",
+          new StringValueProfile("test", "profiles"), loader);
+      assertThat(profileContext.getBeanName(TestLoaderConfigPageObject.class),
+          is(equalTo(TestLoaderConfigPageObjectOverride.class.getName())));
+      assertThat(profileContext.getBeanName(TestLoaderConfigDefault.class),
+          is(equalTo(TestLoaderConfigPageObjectProfile.class.getName())));
+    }
+  }
 }
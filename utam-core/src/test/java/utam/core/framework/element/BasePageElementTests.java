@@ -8,29 +8,36 @@
 package utam.core.framework.element;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.expectThrows;
 import static utam.core.element.FindContext.Type.NULLABLE;
 import static utam.core.element.FindContext.Type.NULLABLE_IN_SHADOW;
 
 import io.appium.java_client.AppiumDriver;
+import java.util.Arrays;
 import java.util.Collections;
 import org.openqa.selenium.ElementNotVisibleException;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
 import utam.core.MockUtilities;
 import utam.core.element.Element;
 import utam.core.element.Element.GestureDirection;
 import utam.core.element.Locator;
+import utam.core.selenium.element.ElementAdapter;
 import utam.core.selenium.element.LocatorBy;
 
 /**
@@ -106,6 +113,43 @@ public class BasePageElementTests {
     verify(mock.getWebElementMock(), times(1)).getText();
   }
 
+  @Test
+  public void testStaleElementIsFoundAgain() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebElementMock().getText()).thenThrow(StaleElementReferenceException.class);
+    WebElement recovered = mock(WebElement.class);
+    when(recovered.getText()).thenReturn("text");
+    BasePageElement element = new BasePageElement();
+    element.initialize(mock.getFactory(), mock.getElementAdapter(),
+        () -> new ElementAdapter(recovered));
+    assertThat(element.getText(), is(equalTo("text")));
+    assertThat(element.getText(), is(equalTo("text")));
+    verify(mock.getWebElementMock(), times(1)).getText();
+  }
+
+  @Test
+  public void testStaleElementNotFoundAgainThrowsOriginalError() {
+    MockUtilities mock = new MockUtilities();
+    StaleElementReferenceException stale = new StaleElementReferenceException("stale");
+    when(mock.getWebElementMock().getText()).thenThrow(stale);
+    NoSuchElementException notFound = new NoSuchElementException("not found");
+    BasePageElement element = new BasePageElement();
+    element.initialize(mock.getFactory(), mock.getElementAdapter(), () -> {
+      throw notFound;
+    });
+    StaleElementReferenceException e = expectThrows(StaleElementReferenceException.class,
+        element::getText);
+    assertThat(e, is(sameInstance(stale)));
+    assertThat(Arrays.asList(e.getSuppressed()), hasItem(notFound));
+  }
+
+  @Test
+  public void testStaleElementWithoutRecoveryThrows() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getWebElementMock().getText()).thenThrow(StaleElementReferenceException.class);
+    assertThrows(StaleElementReferenceException.class, () -> mock.getUtamElement().getText());
+  }
+
   @Test
   public void testSetText() {
     MockUtilities mock = new MockUtilities();
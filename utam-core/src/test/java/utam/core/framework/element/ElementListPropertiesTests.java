@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.element;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static utam.core.framework.element.ElementListProperties.PROPERTIES_JAVASCRIPT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ElementListPropertiesTests {
+
+  private static List<BasePageElement> getList(MockUtilities mock) {
+    return Arrays.asList(mock.getUtamElement(), mock.getUtamElement());
+  }
+
+  @Test
+  public void testTextIsReadWithOneScript() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getExecutorMock().executeScript(eq(PROPERTIES_JAVASCRIPT), any(), eq("text"), any()))
+        .thenReturn(Arrays.asList("first", "second"));
+    assertThat(ElementListProperties.getText(getList(mock)), contains("first", "second"));
+    verify(mock.getWebElementMock(), never()).getText();
+  }
+
+  @Test
+  public void testAttributeShortcuts() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getExecutorMock().executeScript(eq(PROPERTIES_JAVASCRIPT), any(), eq("attribute"),
+        eq("title"))).thenReturn(Arrays.asList("title", null));
+    assertThat(ElementListProperties.getTitle(getList(mock)), contains("title", null));
+  }
+
+  @Test
+  public void testFlagsAreConverted() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getExecutorMock().executeScript(eq(PROPERTIES_JAVASCRIPT), any(), eq("visible"),
+        any())).thenReturn(Arrays.asList(true, false));
+    assertThat(ElementListProperties.isVisible(getList(mock)), contains(true, false));
+  }
+
+  @Test
+  public void testStaleElementFallsBackToGetters() {
+    MockUtilities mock = new MockUtilities();
+    when(mock.getExecutorMock().executeScript(anyString(), any(), any(), any()))
+        .thenThrow(new StaleElementReferenceException("stale"));
+    when(mock.getWebElementMock().isEnabled()).thenReturn(true);
+    assertThat(ElementListProperties.isEnabled(getList(mock)), contains(true, true));
+  }
+
+  @Test
+  public void testEmptyOrNullList() {
+    assertThat(ElementListProperties.getText(null), is(nullValue()));
+    assertThat(ElementListProperties.getText(Collections.emptyList()), is(empty()));
+  }
+}
@@ -9,11 +9,22 @@ package utam.core.framework.element;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.annotations.Test;
+import utam.core.driver.Driver;
 import utam.core.element.Element;
+import utam.core.element.ElementLocation;
 import utam.core.element.FindContext.Type;
 import utam.core.selenium.element.LocatorBy;
 
@@ -34,8 +45,104 @@ public class ElementLocationChainTests {
         is(equalTo("driver > By.cssSelector: css1 >> By.cssSelector: css2")));
   }
 
+  @Test
+  public void testScriptTraversal() {
+    ElementLocationChain css = (ElementLocationChain) new ElementLocationChain(LocatorBy.byCss("css1"),
+        Type.EXISTING).scope(LocatorBy.byCss("css2"), Type.NULLABLE_IN_SHADOW);
+    assertThat(css.getScriptTraversal(), is(notNullValue()));
+    ElementLocationChain mobile = (ElementLocationChain) css
+        .scope(LocatorBy.byAccessibilityId("id"), Type.EXISTING);
+    assertThat(mobile.getScriptTraversal(), is(nullValue()));
+    assertThat(new ElementLocationChain(mock(Element.class)).getScriptTraversal(),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testRefindOnlyStaleLinks() {
+    Driver driver = mock(Driver.class);
+    Element parent = mock(Element.class);
+    Element child = mock(Element.class);
+    Element recovered = mock(Element.class);
+    when(driver.findElement(LocatorBy.byCss("css1"), Type.EXISTING)).thenReturn(parent);
+    when(parent.findElement(LocatorBy.byCss("css2"), Type.EXISTING)).thenReturn(child)
+        .thenReturn(recovered);
+    when(parent.isExisting()).thenReturn(true);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css1"), Type.EXISTING)
+        .scope(LocatorBy.byCss("css2"), Type.EXISTING);
+    List<Element> path = new ArrayList<>();
+    assertThat(location.findElement(driver, path), is(equalTo(child)));
+    assertThat(path, contains(parent, child));
+    assertThat(location.refindElement(driver, path), is(equalTo(recovered)));
+    assertThat(path, contains(parent, recovered));
+    verify(driver, times(1)).findElement(LocatorBy.byCss("css1"), Type.EXISTING);
+  }
+
+  @Test
+  public void testRefindWhenAllLinksStale() {
+    Driver driver = mock(Driver.class);
+    Element parent = mock(Element.class);
+    Element child = mock(Element.class);
+    when(driver.findElement(LocatorBy.byCss("css1"), Type.EXISTING)).thenReturn(parent);
+    when(parent.findElement(LocatorBy.byCss("css2"), Type.EXISTING)).thenReturn(child);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css1"), Type.EXISTING)
+        .scope(LocatorBy.byCss("css2"), Type.EXISTING);
+    List<Element> path = new ArrayList<>();
+    assertThat(location.refindElement(driver, path), is(equalTo(child)));
+    location.refindElement(driver, path);
+    verify(driver, times(2)).findElement(LocatorBy.byCss("css1"), Type.EXISTING);
+  }
+
+  @Test
+  public void testFoundPathIsNotSharedByLocation() {
+    Driver driver = mock(Driver.class);
+    Element parent = mock(Element.class);
+    Element first = mock(Element.class);
+    Element second = mock(Element.class);
+    Element recovered = mock(Element.class);
+    when(driver.findElement(LocatorBy.byCss("css1"), Type.EXISTING)).thenReturn(parent);
+    when(parent.findElement(LocatorBy.byCss("css2"), Type.EXISTING)).thenReturn(first)
+        .thenReturn(second).thenReturn(recovered);
+    when(parent.isExisting()).thenReturn(true);
+    ElementLocation location = new ElementLocationChain(LocatorBy.byCss("css1"), Type.EXISTING)
+        .scope(LocatorBy.byCss("css2"), Type.EXISTING);
+    List<Element> firstPath = new ArrayList<>();
+    List<Element> secondPath = new ArrayList<>();
+    location.findElement(driver, firstPath);
+    location.findElement(driver, secondPath);
+    location.refindElement(driver, firstPath);
+    assertThat(firstPath, contains(parent, recovered));
+    assertThat(secondPath, contains(parent, second));
+  }
+
   @Test
   public void testSetParameters() {
+    ElementLocationChain location = (ElementLocationChain) new ElementLocationChain(
+        LocatorBy.byCss("root"), Type.EXISTING)
+        .scope(LocatorBy.byCss("panel[title='%s']"), Type.EXISTING)
+        .scope(LocatorBy.byCss("save"), Type.EXISTING)
+        .scope(LocatorBy.byCss("span:nth-of-type(%d)"), Type.NULLABLE);
+    ElementLocation withParameters = location.setParameters("title", 2);
+    assertThat(withParameters.getLocatorChainString(), is(equalTo(
+        "driver > By.cssSelector: root > By.cssSelector: panel[title='title'] > By.cssSelector: save > By.cssSelector: span:nth-of-type(2)")));
+    assertThat(withParameters.isNullable(), is(true));
+    // links before first link with parameters are not copied
+    assertThat(location.isSharedWith(withParameters, 0), is(true));
+    assertThat(location.isSharedWith(withParameters, 1), is(false));
+    ElementLocation withoutParameters = new ElementLocationChain(LocatorBy.byCss("root"),
+        Type.EXISTING).scope(LocatorBy.byCss("child"), Type.EXISTING);
+    assertThat(withoutParameters.setParameters("unused"), is(sameInstance(withoutParameters)));
+  }
+
+  @Test
+  public void testScopeSharesParentLinks() {
+    ElementLocationChain parent = (ElementLocationChain) new ElementLocationChain(
+        LocatorBy.byCss("root"), Type.EXISTING).scope(LocatorBy.byCss("parent"), Type.EXISTING);
+    ElementLocation first = parent.scope(LocatorBy.byCss("first"), Type.EXISTING);
+    ElementLocation second = parent.scope(LocatorBy.byCss("second"), Type.EXISTING);
+    assertThat(parent.isSharedWith(first, 1), is(true));
+    assertThat(parent.isSharedWith(second, 1), is(true));
+    assertThat(first.getLocatorChainString(),
+        is(equalTo("driver > By.cssSelector: root > By.cssSelector: parent > By.cssSelector: first")));
   }
 
   @Test
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.element;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static utam.core.framework.element.ObserverExpectations.OBSERVER_JAVASCRIPT;
+
+import java.time.Duration;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+import utam.core.driver.Driver;
+import utam.core.driver.Expectations;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ObserverExpectationsTests {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+  private static JavascriptExecutor getExecutor(MockUtilities mock) {
+    return (JavascriptExecutor) mock.getWebDriverMock();
+  }
+
+  @Test
+  public void testConditionMetInBrowser() {
+    MockUtilities mock = new MockUtilities();
+    when(getExecutor(mock).executeAsyncScript(eq(OBSERVER_JAVASCRIPT), any(), eq("visibility"),
+        eq(TIMEOUT.toMillis()))).thenReturn(true);
+    Expectations<Boolean> expectations = ObserverExpectations.visibility(true, TIMEOUT);
+    assertThat(expectations.apply(mock.getDriverAdapter(), mock.getElementAdapter()), is(true));
+    verify(mock.getWebElementMock(), never()).isDisplayed();
+  }
+
+  @Test
+  public void testFallbackToPollingWhenScriptNotSupported() {
+    MockUtilities mock = new MockUtilities();
+    when(getExecutor(mock).executeAsyncScript(anyString(), any(), any(), any()))
+        .thenThrow(new UnsupportedCommandException("async"));
+    when(mock.getWebElementMock().isDisplayed()).thenReturn(true);
+    Expectations<Boolean> expectations = ObserverExpectations.visibility(false, TIMEOUT);
+    assertThat(expectations.apply(mock.getDriverAdapter(), mock.getElementAdapter()), is(false));
+    assertThat(expectations.apply(mock.getDriverAdapter(), mock.getElementAdapter()), is(false));
+    // script is called only once, next checks are polling
+    verify(getExecutor(mock), times(1)).executeAsyncScript(anyString(), any(), any(), any());
+    verify(mock.getWebElementMock(), times(2)).isDisplayed();
+  }
+
+  @Test
+  public void testFallbackToPollingWhenDriverHasNoAsyncScript() {
+    MockUtilities mock = new MockUtilities();
+    Driver driver = mock(Driver.class);
+    // same as default method of the driver interface
+    when(driver.executeAsyncScript(anyString(), any(), any(), any()))
+        .thenThrow(new UnsupportedOperationException("async"));
+    when(mock.getWebElementMock().isDisplayed()).thenReturn(true);
+    Expectations<Boolean> expectations = ObserverExpectations.visibility(true, TIMEOUT);
+    assertThat(expectations.apply(driver, mock.getElementAdapter()), is(true));
+    verify(mock.getWebElementMock(), times(1)).isDisplayed();
+  }
+
+  @Test
+  public void testConditionNotMetInBrowserIsCheckedByPolling() {
+    MockUtilities mock = new MockUtilities();
+    when(getExecutor(mock).executeAsyncScript(eq(OBSERVER_JAVASCRIPT), any(), eq("absence"),
+        any())).thenReturn(false);
+    when(mock.getWebElementMock().isDisplayed()).thenReturn(true);
+    Expectations<Boolean> expectations = ObserverExpectations.absence(TIMEOUT);
+    assertThat(expectations.apply(mock.getDriverAdapter(), mock.getElementAdapter()), is(false));
+  }
+
+  @Test
+  public void testNativeContextUsesPolling() {
+    MockUtilities mock = new MockUtilities();
+    Driver driver = mock(Driver.class);
+    when(driver.isNative()).thenReturn(true);
+    when(mock.getWebElementMock().isDisplayed()).thenReturn(true);
+    Expectations<Boolean> expectations = ObserverExpectations.visibility(true, TIMEOUT);
+    assertThat(expectations.apply(driver, mock.getElementAdapter()), is(true));
+    verify(driver, never()).executeAsyncScript(anyString(), any());
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static utam.core.framework.metrics.LatencyHistogram.BUCKETS;
+import static utam.core.framework.metrics.LatencyHistogram.getBucket;
+import static utam.core.framework.metrics.LatencyHistogram.getBucketLimit;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class LatencyHistogramTests {
+
+  @Test
+  public void testBuckets() {
+    assertThat(getBucket(0), is(equalTo(0)));
+    assertThat(getBucket(15), is(equalTo(15)));
+    assertThat(getBucket(16), is(equalTo(16)));
+    assertThat(getBucket(Long.MAX_VALUE), is(equalTo(BUCKETS - 1)));
+    for (long value : new long[]{17, 100, 1_000_000, 123_456_789_000L}) {
+      int bucket = getBucket(value);
+      assertThat(getBucketLimit(bucket), is(greaterThanOrEqualTo(value)));
+      assertThat(getBucketLimit(bucket - 1), is(lessThan(value)));
+      // precision is about 6 percent of the value
+      assertThat((double) (getBucketLimit(bucket) - value) / value, is(lessThan(0.0625)));
+    }
+  }
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.getValueAtPercentile(50), is(equalTo(0L)));
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 1000L);
+    }
+    assertThat(histogram.getCount(), is(equalTo(100L)));
+    assertThat(histogram.getTotalNanos(), is(equalTo(5_050_000L)));
+    assertThat(histogram.getMaxNanos(), is(equalTo(100_000L)));
+    assertThat(histogram.getValueAtPercentile(100), is(equalTo(100_000L)));
+    long median = histogram.getValueAtPercentile(50);
+    assertThat(median, is(greaterThanOrEqualTo(50_000L)));
+    assertThat(median, is(lessThan(50_000L + 50_000L / 16)));
+  }
+}
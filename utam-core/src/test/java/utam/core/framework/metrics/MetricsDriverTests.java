@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.framework.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import org.testng.annotations.Test;
+import utam.core.MockUtilities;
+import utam.core.driver.Driver;
+import utam.core.element.FindContext.Type;
+import utam.core.framework.base.BasePageObject;
+import utam.core.framework.element.ExpectationsImpl;
+import utam.core.selenium.element.LocatorBy;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class MetricsDriverTests {
+
+  @Test
+  public void testCommandsAreRecorded() {
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MetricsDriver(mock(Driver.class), metrics);
+    driver.findElement(LocatorBy.byCss("css"), Type.NULLABLE);
+    driver.findElements(LocatorBy.byCss("css"), Type.NULLABLE);
+    driver.executeScript("script");
+    assertThat(metrics.getCommands().get("findElement").getCount(), is(equalTo(1L)));
+    assertThat(metrics.getCommands().get("findElements").getCount(), is(equalTo(1L)));
+    assertThat(metrics.getCommands().get("executeScript").getCount(), is(equalTo(1L)));
+    // not called from page object
+    assertThat(metrics.getCallers(), is(anEmptyMap()));
+    metrics.reset();
+    assertThat(metrics.getCommands(), is(anEmptyMap()));
+  }
+
+  @Test
+  public void testPageObjectAttribution() {
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MetricsDriver(mock(Driver.class), metrics);
+    new TestPageObject().findButton(driver);
+    assertThat(metrics.getCallers(),
+        hasKey(TestPageObject.class.getName() + "#findButton"));
+  }
+
+  @Test
+  public void testWaitPollsAreCounted() {
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MetricsDriver(new MockUtilities().getDriverAdapter(), metrics);
+    int[] calls = new int[1];
+    Driver[] received = new Driver[1];
+    Boolean res = driver.waitFor(Duration.ofSeconds(1), Duration.ofMillis(1),
+        new ExpectationsImpl<>("wait twice", d -> {
+          received[0] = d;
+          return ++calls[0] > 1 ? true : null;
+        }));
+    assertThat(res, is(true));
+    assertThat(metrics.getPolls("wait twice"), is(equalTo(2L)));
+    assertThat(metrics.getPolls("other"), is(equalTo(0L)));
+    assertThat(metrics.getCommands().get("waitFor").getCount(), is(equalTo(1L)));
+    // commands inside wait are recorded as well
+    assertThat(received[0], is(sameInstance(driver)));
+  }
+
+  @Test
+  public void testWaitIsNotAttributedToCaller() {
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MetricsDriver(new MockUtilities().getDriverAdapter(), metrics);
+    new TestPageObject().waitForButton(driver);
+    assertThat(metrics.getCommands().get("waitFor").getCount(), is(equalTo(1L)));
+    assertThat(metrics.getCommands().get("findElement").getCount(), is(equalTo(1L)));
+    // only find inside the wait is attributed to page object method
+    assertThat(metrics.getCallers().get(TestPageObject.class.getName() + "#waitForButton")
+        .getCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testUnwrap() {
+    Driver adapter = mock(Driver.class);
+    assertThat(MetricsDriver.unwrap(adapter), is(sameInstance(adapter)));
+    assertThat(MetricsDriver.unwrap(new MetricsDriver(adapter, new DriverMetrics())),
+        is(sameInstance(adapter)));
+  }
+
+  @Test
+  public void testJsonExport() throws IOException {
+    DriverMetrics metrics = new DriverMetrics();
+    Driver driver = new MetricsDriver(mock(Driver.class), metrics);
+    new TestPageObject().findButton(driver);
+    String json = metrics.toJson();
+    assertThat(json, containsString("\"findElement\""));
+    assertThat(json, containsString("\"p99Nanos\""));
+    assertThat(json, containsString("#findButton"));
+    File file = File.createTempFile("metrics", ".json");
+    file.deleteOnExit();
+    metrics.writeJson(file);
+    assertThat(new String(Files.readAllBytes(file.toPath())), is(equalTo(json)));
+  }
+
+  static class TestPageObject extends BasePageObject {
+
+    void findButton(Driver driver) {
+      driver.findElement(LocatorBy.byCss("button"), Type.EXISTING);
+    }
+
+    void waitForButton(Driver driver) {
+      driver.waitFor(Duration.ofSeconds(1), Duration.ofMillis(1),
+          new ExpectationsImpl<>("find button", d -> {
+            d.findElement(LocatorBy.byCss("button"), Type.NULLABLE);
+            return true;
+          }));
+    }
+  }
+}
@@ -9,9 +9,11 @@ package utam.core.selenium.element;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.Mockito.any;
@@ -19,17 +21,22 @@ import static org.mockito.Mockito.contains;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.expectThrows;
 import static utam.core.driver.DriverTimeouts.TEST;
 
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
 import utam.core.MockUtilities;
 import utam.core.driver.Driver;
 import utam.core.driver.Expectations;
+import utam.core.driver.PollingPolicy;
+import utam.core.driver.WaitStatistics;
 import utam.core.element.FindContext.Type;
 import utam.core.framework.element.ExpectationsImpl;
 
@@ -118,6 +125,37 @@ public class DriverAdapterTests {
         .waitFor(TEST.getWaitForTimeout(), TEST.getPollingInterval(), falseExpectations, null));
   }
 
+  @Test
+  public void testWaitStatistics() {
+    Driver driver = new MockUtilities().getDriverAdapter();
+    AtomicInteger checks = new AtomicInteger();
+    Expectations<Boolean> expectations = new ExpectationsImpl<>("test",
+        object -> checks.incrementAndGet() > 2);
+    driver.waitFor(TEST.getWaitForTimeout(), TEST.getPollingInterval(), PollingPolicy.EXPONENTIAL,
+        expectations, null);
+    WaitStatistics statistics = driver.getWaitStatistics();
+    assertThat(statistics.getWaits(), is(equalTo(1L)));
+    assertThat(statistics.getLastPolls(), is(equalTo(3)));
+    assertThat(statistics.getFailures(), is(equalTo(0L)));
+    // first check is immediate, then 10ms and 20ms intervals instead of fixed 200ms
+    assertThat(statistics.getLastDuration(), is(lessThan(TEST.getPollingInterval())));
+    Expectations<Boolean> falseExpectations = new ExpectationsImpl<>("test", object -> false);
+    assertThrows(() -> driver
+        .waitFor(TEST.getWaitForTimeout(), TEST.getPollingInterval(), falseExpectations));
+    assertThat(statistics.getWaits(), is(equalTo(2L)));
+    assertThat(statistics.getFailures(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testTimeoutMessageHasConfiguredInterval() {
+    Driver driver = new MockUtilities().getDriverAdapter();
+    Expectations<Object> falseExpectations = new ExpectationsImpl<>("test", object -> false);
+    TimeoutException e = expectThrows(TimeoutException.class, () -> driver
+        .waitFor(TEST.getWaitForTimeout(), TEST.getPollingInterval(), falseExpectations, null));
+    assertThat(e.getMessage(), containsString(
+        String.format("with %d milliseconds interval", TEST.getPollingInterval().toMillis())));
+  }
+
   @Test
   public void testGetUrl() {
     String url = "url";
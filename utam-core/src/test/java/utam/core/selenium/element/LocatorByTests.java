@@ -11,10 +11,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.testng.Assert.assertThrows;
 import static utam.core.selenium.element.LocatorBy.getParametersCount;
 
+import java.util.IllegalFormatConversionException;
 import org.openqa.selenium.By;
 import org.testng.annotations.Test;
+import utam.core.element.Locator;
 
 /**
  * @author elizaveta.ivanova
@@ -30,6 +34,35 @@ public class LocatorByTests {
     assertThat(getParametersCount("%s"), is(equalTo(1)));
     assertThat(getParametersCount("testString[%d]"), is(equalTo(1)));
     assertThat(getParametersCount("testString[%f]"), is(equalTo(0)));
+    assertThat(getParametersCount("testString %s"), is(equalTo(1)));
+    assertThat(getParametersCount("%s %d"), is(equalTo(2)));
+    assertThat(getParametersCount("100%% %s"), is(equalTo(1)));
+  }
+
+  @Test
+  public void testSetParametersWithoutFormat() {
+    LocatorBy locator = LocatorBy.byCss("a[title='%s'] b:nth-of-type(%d) c[w='100%%']");
+    Locator<By> withValues = locator.setParameters(0, "title", 2).getValue();
+    assertThat(withValues.getStringValue(),
+        is(equalTo("a[title='title'] b:nth-of-type(2) c[w='100%']")));
+    assertThat(locator.setParameters(1, "ignored", null, 3).getValue().getStringValue(),
+        is(equalTo("a[title='null'] b:nth-of-type(3) c[w='100%']")));
+    assertThrows(IllegalFormatConversionException.class,
+        () -> locator.setParameters(0, "title", "notNumber"));
+  }
+
+  @Test
+  public void testSetParametersReusesLocator() {
+    LocatorBy locator = LocatorBy.byCss("testReused[%s]");
+    assertThat(LocatorTemplate.isCached("testReused[%s]"), is(true));
+    Locator<By> first = locator.setParameters(0, "value").getValue();
+    Locator<By> second = LocatorBy.byCss("testReused[%s]").setParameters(0, "value").getValue();
+    assertThat(second, is(sameInstance(first)));
+    assertThat(second.getValue(), is(sameInstance(first.getValue())));
+    Locator<By> other = LocatorBy.byAccessibilityId("testReused[%s]").setParameters(0, "value")
+        .getValue();
+    assertThat(other, is(not(equalTo(first))));
+    assertThat(LocatorTemplate.isCached("testReused[value]"), is(false));
   }
 
   /**
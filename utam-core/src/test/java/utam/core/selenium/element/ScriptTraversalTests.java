@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: MIT
+ * For full license text, see the LICENSE file in the repo root
+ * or https://opensource.org/licenses/MIT
+ */
+package utam.core.selenium.element;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.expectThrows;
+import static utam.core.selenium.element.ElementAdapter.NULL_ELEMENT;
+import static utam.core.selenium.element.ScriptTraversal.TRAVERSAL_JAVASCRIPT;
+
+import java.util.Arrays;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+import utam.core.driver.Driver;
+import utam.core.element.Element;
+import utam.core.element.FindContext.Type;
+
+/**
+ * @author elizaveta.ivanova
+ * @since 236
+ */
+public class ScriptTraversalTests {
+
+  private static ScriptTraversal getTraversal() {
+    return new ScriptTraversal(null)
+        .add(LocatorBy.byCss("parent"), Type.EXISTING)
+        .add(LocatorBy.byCss("child"), Type.NULLABLE_IN_SHADOW);
+  }
+
+  private static void mockScript(Driver driver, boolean isList, Object result) {
+    when(driver.executeScript(eq(TRAVERSAL_JAVASCRIPT), any(), any(), any(), eq(isList)))
+        .thenReturn(result);
+  }
+
+  @Test
+  public void testIsSupported() {
+    assertThat(ScriptTraversal.isSupported(LocatorBy.byCss("css")), is(true));
+    assertThat(ScriptTraversal.isSupported(LocatorBy.byAccessibilityId("id")), is(false));
+    assertThat(ScriptTraversal.isSupported(LocatorBy.byClassChain("chain")), is(false));
+    assertThat(ScriptTraversal.isSupported(LocatorBy.byUiAutomator("enabled(true)")), is(false));
+  }
+
+  @Test
+  public void testFindElement() {
+    Driver driver = mock(Driver.class);
+    WebElement found = mock(WebElement.class);
+    mockScript(driver, false, found);
+    Element element = getTraversal().findElement(driver);
+    assertThat(((ElementAdapter) element).getWebElement(), is(equalTo(found)));
+  }
+
+  @Test
+  public void testFindElements() {
+    Driver driver = mock(Driver.class);
+    mockScript(driver, true, Arrays.asList(mock(WebElement.class), mock(WebElement.class)));
+    assertThat(getTraversal().findElements(driver), hasSize(2));
+  }
+
+  @Test
+  public void testNullableLinkNotFound() {
+    Driver driver = mock(Driver.class);
+    mockScript(driver, false, 1L);
+    mockScript(driver, true, 1L);
+    assertThat(getTraversal().findElement(driver), is(equalTo(NULL_ELEMENT)));
+    assertThat(getTraversal().findElements(driver), hasSize(0));
+  }
+
+  @Test
+  public void testExistingLinkNotFoundThrows() {
+    Driver driver = mock(Driver.class);
+    mockScript(driver, false, 0L);
+    NoSuchElementException e = expectThrows(NoSuchElementException.class,
+        () -> getTraversal().findElement(driver));
+    assertThat(e.getMessage(),
+        containsString("can't find element with locator 'By.cssSelector: parent'"));
+  }
+}
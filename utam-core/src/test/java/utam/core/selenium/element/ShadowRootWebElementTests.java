@@ -251,6 +251,69 @@ public class ShadowRootWebElementTests {
     assertThat(shadowRootWebElement.findElements(mockByWithCss).contains(mockWebElement), is(true));
   }
 
+  /**
+   * If element supports native shadow root command, search is done inside returned shadow root
+   * without script.
+   */
+  @Test
+  public void testFindElementWithNativeShadowRoot() {
+    WebElement host = mock(WebElement.class,
+        withSettings().extraInterfaces(WrapsDriver.class, NativeShadowHost.class));
+    SearchContext shadowRoot = mock(SearchContext.class);
+    when(((WrapsDriver) host).getWrappedDriver()).thenReturn(mockDriver);
+    when(((NativeShadowHost) host).getShadowRoot()).thenReturn(shadowRoot);
+    when(shadowRoot.findElement(mockByWithCss)).thenReturn(mockWebElement);
+    when(shadowRoot.findElements(mockByWithCss))
+        .thenReturn(Collections.singletonList(mockWebElement));
+    ShadowRootWebElement shadowRootWebElement = new ShadowRootWebElement(host);
+    assertThat(shadowRootWebElement.findElement(mockByWithCss), is(mockWebElement));
+    assertThat(shadowRootWebElement.findElements(mockByWithCss), hasSize(1));
+    verify((JavascriptExecutor) mockDriver, never()).executeScript(anyString(), any());
+    // shadow root is resolved once for the host element
+    verify((NativeShadowHost) host, times(1)).getShadowRoot();
+  }
+
+  /**
+   * Error of native shadow root command other than unsupported command is thrown and does not
+   * switch session to script.
+   */
+  @Test
+  public void testNativeShadowRootErrorDoesNotMarkSession() {
+    WebElement host = mock(WebElement.class,
+        withSettings().extraInterfaces(WrapsDriver.class, NativeShadowHost.class));
+    SearchContext shadowRoot = mock(SearchContext.class);
+    when(((WrapsDriver) host).getWrappedDriver()).thenReturn(mockDriver);
+    when(((NativeShadowHost) host).getShadowRoot())
+        .thenThrow(new StaleElementReferenceException("stale"))
+        .thenReturn(shadowRoot);
+    when(shadowRoot.findElement(mockByWithCss)).thenReturn(mockWebElement);
+    ShadowRootWebElement shadowRootWebElement = new ShadowRootWebElement(host);
+    expectThrows(StaleElementReferenceException.class,
+        () -> shadowRootWebElement.findElement(mockByWithCss));
+    assertThat(shadowRootWebElement.findElement(mockByWithCss), is(mockWebElement));
+    verify((JavascriptExecutor) mockDriver, never()).executeScript(anyString(), any());
+  }
+
+  /**
+   * If browser driver does not support native shadow root command, script is used for this
+   * session without trying native command again.
+   */
+  @Test
+  public void testNativeShadowRootNotSupportedBySession() {
+    WebElement host = mock(WebElement.class,
+        withSettings().extraInterfaces(WrapsDriver.class, NativeShadowHost.class));
+    when(((WrapsDriver) host).getWrappedDriver()).thenReturn(mockDriver);
+    when(((NativeShadowHost) host).getShadowRoot())
+        .thenThrow(new UnsupportedCommandException("shadow"));
+    ShadowRootWebElement shadowRootWebElement = new ShadowRootWebElement(host);
+    when(shadowRootWebElement.getExecutor().executeScript(
+        String.format(GET_SHADOW_ROOT_QUERY_SELECTOR, GOOD_CSS_SELECTOR), host))
+        .thenReturn(mockWebElement);
+    assertThat(shadowRootWebElement.findElement(mockByWithCss), is(mockWebElement));
+    assertThat(shadowRootWebElement.findElement(mockByWithCss), is(mockWebElement));
+    verify((NativeShadowHost) host, times(1)).getShadowRoot();
+  }
+
   /**
    * The findElement(By by) method should return a {@link WebElement} if element is found on the
    * page.
@@ -312,4 +375,10 @@ public class ShadowRootWebElementTests {
         ShadowRootWebElement.getElementsWithFirefoxWorkaround(map),
         is(equalTo(Collections.singletonList(shadowRootWebElement))));
   }
+
+  // same method as exposed by WebElement in newer Selenium versions
+  public interface NativeShadowHost {
+
+    SearchContext getShadowRoot();
+  }
 }